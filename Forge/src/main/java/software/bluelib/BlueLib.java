@@ -2,7 +2,12 @@
 
 package software.bluelib;
 
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStartingEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.DistExecutor;
@@ -49,6 +54,14 @@ public class BlueLib {
     public BlueLib() {
         IEventBus modEventBus = FMLJavaModLoadingContext.get().getModEventBus();
         modEventBus.register(this);
+        MinecraftForge.EVENT_BUS.addListener((ServerStartingEvent pEvent) -> BlueLibCommon.onServerStarting());
+        MinecraftForge.EVENT_BUS.addListener((ServerStoppedEvent pEvent) -> BlueLibCommon.onServerStopped());
+        MinecraftForge.EVENT_BUS.addListener((TagsUpdatedEvent pEvent) -> BlueLibCommon.onTagsUpdated());
+        MinecraftForge.EVENT_BUS.addListener((PlayerEvent.PlayerLoggedInEvent pEvent) -> {
+            if (pEvent.getEntity() instanceof ServerPlayer player) {
+                BlueLibCommon.onPlayerLoggedIn(player);
+            }
+        });
 
         if (BlueLibCommon.isDeveloperMode() && BlueLibCommon.PLATFORM.isModLoaded("geckolib") && BlueLibConstants.isExampleEnabled) {
             ModEntities.register(modEventBus);
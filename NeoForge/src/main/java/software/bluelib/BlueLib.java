@@ -7,10 +7,18 @@ import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.ModContainer;
 import net.neoforged.fml.common.Mod;
 import net.neoforged.fml.event.lifecycle.FMLLoadCompleteEvent;
+import net.minecraft.server.level.ServerPlayer;
 import net.neoforged.fml.loading.FMLEnvironment;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.server.ServerStartingEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
 import org.spongepowered.asm.launch.MixinBootstrap;
 import software.bluelib.example.event.ClientEvents;
 import software.bluelib.example.init.ModEntities;
+import software.bluelib.network.VariantIdSyncPayload;
 
 /**
  * The main class of the {@code BlueLib} mod.
@@ -36,7 +44,7 @@ public class BlueLib {
     /**
      * Constructs a new {@code BlueLib} instance and registers the mod event bus.
      * <p>
-     * Registers necessary mod event listeners, and if in developer mode, additional client-side listeners for rendering and attributes.
+     * Registers necessary mod event listeners and the server lifecycle and player login listeners of {@link BlueLibCommon}, the variant ID payload, and if in developer mode, additional client-side listeners for rendering and attributes.
      * </p>
      *
      * @param pModEventBus  {@link IEventBus} - The event bus where the mod registers its handlers.
@@ -46,6 +54,16 @@ public class BlueLib {
      */
     public BlueLib(IEventBus pModEventBus, ModContainer pModContainer) {
         pModEventBus.register(this);
+        NeoForge.EVENT_BUS.addListener((ServerStartingEvent pEvent) -> BlueLibCommon.onServerStarting());
+        NeoForge.EVENT_BUS.addListener((ServerStoppedEvent pEvent) -> BlueLibCommon.onServerStopped());
+        NeoForge.EVENT_BUS.addListener((TagsUpdatedEvent pEvent) -> BlueLibCommon.onTagsUpdated());
+        NeoForge.EVENT_BUS.addListener((PlayerEvent.PlayerLoggedInEvent pEvent) -> {
+            if (pEvent.getEntity() instanceof ServerPlayer player) {
+                BlueLibCommon.onPlayerLoggedIn(player);
+            }
+        });
+        pModEventBus.addListener((RegisterPayloadHandlersEvent pEvent) -> pEvent.registrar("1")
+                .playToClient(VariantIdSyncPayload.TYPE, VariantIdSyncPayload.STREAM_CODEC, (pPayload, pContext) -> VariantIdSyncPayload.handle(pPayload)));
         MixinBootstrap.init();
         if (BlueLibCommon.isDeveloperMode() && BlueLibCommon.PLATFORM.isModLoaded("geckolib") && BlueLibConstants.isExampleEnabled) {
             ModEntities.REGISTRY.register(pModEventBus);
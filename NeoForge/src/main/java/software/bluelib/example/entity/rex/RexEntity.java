@@ -101,7 +101,7 @@ public class RexEntity extends TamableAnimal implements IVariantEntity, GeoEntit
     @Override
     public SpawnGroupData finalizeSpawn(@NotNull ServerLevelAccessor pLevel, @NotNull DifficultyInstance pDifficulty, @NotNull MobSpawnType pReason, @Nullable SpawnGroupData pSpawnData) {
         if (getVariantName() == null || getVariantName().isEmpty()) {
-            this.setVariantName(getRandomVariant(getEntityVariants(entityName), "normal"));
+            this.setVariantName(getRandomVariant(entityName, "normal", pLevel, blockPosition()));
             ParameterUtils.ParameterBuilder.forVariant(entityName, this.getVariantName())
                     .withParameter("customParameter")
                     .withParameter("int")
@@ -109,7 +109,8 @@ public class RexEntity extends TamableAnimal implements IVariantEntity, GeoEntit
                     .withParameter("array")
                     .connect();
         }
-        BaseLogger.log(BaseLogLevel.SUCCESS, "Dragon Spawned with Variant: " + getVariantName(), true);
+        String customParameter = ParameterUtils.getParameter(entityName, getVariantName(), "customParameter");
+        BaseLogger.log(BaseLogLevel.SUCCESS, () -> "Dragon Spawned with Variant: " + getVariantName() + " and customParameter: " + customParameter, true);
         return super.finalizeSpawn(pLevel, pDifficulty, pReason, pSpawnData);
     }
 
@@ -6,28 +6,24 @@ import net.minecraft.server.MinecraftServer;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.AddReloadListenerEvent;
-import net.neoforged.neoforge.event.server.ServerStartingEvent;
 import software.bluelib.BlueLibConstants;
 import software.bluelib.event.ReloadEventHandler;
+import software.bluelib.event.VariantReloadCoordinator;
 import software.bluelib.utils.logging.BaseLogLevel;
 import software.bluelib.utils.logging.BaseLogger;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 /**
- * A {@code ReloadHandler} class that handles server start and reload events related to entity variants.
+ * A {@code ReloadHandler} class that handles reload events related to entity variants.
  * <p>
- * This class extends {@link ReloadEventHandler} and implements event handling for server starting and reloading,
- * ensuring that entity variant data is properly loaded and refreshed.
+ * This class extends {@link ReloadEventHandler} and registers the {@link VariantReloadCoordinator}, which loads the
+ * entity variant data while a world loads and refreshes it on every reload.
  * </p>
  *
  * Key Methods:
  * <ul>
- *   <li>{@link #onServerStart(ServerStartingEvent)} - Handles server starting events to initialize entity variants.</li>
  *   <li>{@link #onReload(AddReloadListenerEvent)} - Handles reload events to refresh entity variants.</li>
  *   <li>{@link #LoadEntityVariants(MinecraftServer)} - Loads entity variants from JSON files into the server.</li>
  * </ul>
@@ -39,34 +35,10 @@ import java.util.concurrent.TimeUnit;
 public class ReloadHandler extends ReloadEventHandler {
 
     /**
-     * The {@link MinecraftServer} instance for the server handling the events.
+     * Handles the reload event by registering the {@link VariantReloadCoordinator} as a reload listener.
      * <p>
-     * This is initialized when the server starts and used to load entity variants.
-     * </p>
-     *
-     * @since 1.0.0
-     */
-    private static MinecraftServer server;
-
-    /**
-     * Handles the server starting event to initialize the {@link MinecraftServer} instance
-     * and load entity variants.
-     *
-     * @param pEvent {@link ServerStartingEvent} - The event triggered when the server starts.
-     * @author MeAlam
-     * @since 1.0.0
-     */
-    @SubscribeEvent
-    public static void onServerStart(ServerStartingEvent pEvent) {
-        server = pEvent.getServer();
-        ReloadHandler.LoadEntityVariants(server);
-        BaseLogger.log(BaseLogLevel.INFO, "Entity variants loaded.", true);
-    }
-
-    /**
-     * Handles the reload event by scheduling a task to reload entity variants.
-     * <p>
-     * This method schedules the {@code LoadEntityVariants} method to run after a short delay.
+     * The coordinator reloads the variants of {@link #entityNames} once the new resources are available,
+     * and coalesces overlapping reloads into a single load. It also runs while a world loads, so it covers the initial load.
      * </p>
      *
      * @param pEvent {@link AddReloadListenerEvent} - The event triggered when a reload occurs.
@@ -75,14 +47,8 @@ public class ReloadHandler extends ReloadEventHandler {
      */
     @SubscribeEvent
     public static void onReload(AddReloadListenerEvent pEvent) {
-        if (server != null) {
-            BlueLibConstants.SCHEDULER.schedule(() -> {
-                server.execute(() -> {
-                    ReloadHandler.LoadEntityVariants(server);
-                    BaseLogger.log(BaseLogLevel.INFO, "Entity variants reloaded.", true);
-                });
-            }, 1, TimeUnit.SECONDS);
-        }
+        VariantReloadCoordinator.INSTANCE.register(basePath, entityNames);
+        pEvent.addListener(VariantReloadCoordinator.INSTANCE);
     }
 
     /**
@@ -108,8 +74,8 @@ public class ReloadHandler extends ReloadEventHandler {
     /**
      * Loads entity variants from JSON files into the {@link MinecraftServer}.
      * <p>
-     * This method iterates through the list of entity names, constructs file paths, and registers
-     * entity variants using the {@link ReloadEventHandler}.
+     * This method registers the variants of every entity in {@link #entityNames} with a single resource scan
+     * using the {@link ReloadEventHandler}.
      * </p>
      *
      * @param pServer {@link MinecraftServer} - The server on which the entity variants will be loaded.
@@ -117,10 +83,7 @@ public class ReloadHandler extends ReloadEventHandler {
      * @since 1.0.0
      */
     public static void LoadEntityVariants(MinecraftServer pServer) {
-        for (String entityName : entityNames) {
-            String folderPath = basePath + entityName;
-            ReloadEventHandler.registerEntityVariants(folderPath, pServer, BlueLibConstants.MOD_ID, entityName);
-            BaseLogger.log(BaseLogLevel.INFO, "Entity variants loaded for " + entityName + ".", true);
-        }
+        ReloadEventHandler.registerAllEntityVariants(basePath, pServer, BlueLibConstants.MOD_ID, entityNames);
+        BaseLogger.log(BaseLogLevel.INFO, "Entity variants loaded for " + entityNames + ".", true);
     }
 }
@@ -0,0 +1,101 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import software.bluelib.utils.logging.BaseLogLevel;
+import software.bluelib.utils.logging.BaseLogger;
+import software.bluelib.utils.logging.LogCategory;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@code public class} that benchmarks the cost of a {@link BaseLogger} call on the server thread.
+ * <p>
+ * The disabled benchmarks measure what a silenced message costs, which should be close to nothing. The enabled benchmark
+ * measures formatting and queueing a record; {@link System#err} is replaced by a discarding stream before the logger
+ * is configured, so console I/O is not part of the measurement.
+ * </p>
+ *
+ * @author MeAlam
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BaseLoggerBenchmark {
+
+    /**
+     * A {@code public} {@link String} that holds a key used to build the messages.
+     *
+     * @since 1.0.0
+     */
+    public String key = "variantName";
+
+    /**
+     * A {@code public} {@code int} that holds a value used to build the messages.
+     *
+     * @since 1.0.0
+     */
+    public int value = 42;
+
+    /**
+     * A {@code public void} that discards console output before {@link BaseLogger} installs its handler.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        System.setErr(new PrintStream(OutputStream.nullOutputStream()));
+        BaseLogger.setBlueLibLoggingEnabled(false);
+    }
+
+    /**
+     * A {@code public void} that logs an eagerly concatenated message while {@code BlueLib} logging is disabled.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Benchmark
+    public void disabledEager() {
+        BaseLogger.log(BaseLogLevel.INFO, "Retrieved parameter for key " + key + ": " + value, true);
+    }
+
+    /**
+     * A {@code public void} that logs a lazily built message while {@code BlueLib} logging is disabled.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Benchmark
+    public void disabledSupplier() {
+        BaseLogger.log(BaseLogLevel.INFO, () -> "Retrieved parameter for key " + key + ": " + value, true);
+    }
+
+    /**
+     * A {@code public void} that guards a message with {@link LogCategory#isEnabled(java.util.logging.Level)}
+     * while {@code BlueLib} logging is disabled.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Benchmark
+    public void disabledGuard() {
+        if (LogCategory.VARIANT_PARAMETER.isEnabled(BaseLogLevel.INFO)) {
+            LogCategory.VARIANT_PARAMETER.log(BaseLogLevel.INFO, "Retrieved parameter for key " + key + ": " + value);
+        }
+    }
+
+    /**
+     * A {@code public void} that logs a warning, which is always enabled, through the asynchronous handler.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Benchmark
+    public void enabledWarning() {
+        BaseLogger.log(BaseLogLevel.WARNING, "Retrieved parameter for key " + key + ": " + value, true);
+    }
+}
@@ -0,0 +1,131 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.benchmarks;
+
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.*;
+import software.bluelib.json.JSONMergeStrategies;
+import software.bluelib.json.JSONMerger;
+import software.bluelib.utils.logging.BaseLogger;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@code public class} that benchmarks {@link JSONMerger#mergeJsonObjects(JsonObject, JsonObject)} with two packs of
+ * the same entity, as happens when a datapack adds variants on top of a mod, and the merge by {@code "variantName"} of a
+ * pack that overrides every variant of the target.
+ * <p>
+ * The target pack is copied before every invocation, outside of the measurement, because the merge modifies it. The keyed
+ * merger is created along with it, so every invocation indexes its target once, like the first pack of a merge run.
+ * </p>
+ *
+ * @author MeAlam
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JSONMergerBenchmark {
+
+    /**
+     * A {@code public} {@code int} that holds the number of variants in each pack.
+     *
+     * @since 1.0.0
+     */
+    @Param({"10", "1000", "100000"})
+    public int variantCount;
+
+    /**
+     * A {@code private final} {@link JSONMerger} under test.
+     *
+     * @since 1.0.0
+     */
+    private final JSONMerger merger = new JSONMerger();
+
+    /**
+     * A {@code private} {@link JSONMerger} under test that merges variants by name, created for every merge run.
+     *
+     * @since 1.0.0
+     */
+    private JSONMerger keyedMerger;
+
+    /**
+     * A {@code private} {@link JsonObject} that holds the original target pack.
+     *
+     * @since 1.0.0
+     */
+    private JsonObject basePack;
+
+    /**
+     * A {@code private} {@link JsonObject} that holds the pack merged into the target.
+     *
+     * @since 1.0.0
+     */
+    private JsonObject sourcePack;
+
+    /**
+     * A {@code private} {@link JsonObject} that holds a pack with the same variant names as {@link #basePack}.
+     *
+     * @since 1.0.0
+     */
+    private JsonObject overridePack;
+
+    /**
+     * A {@code private} {@link JsonObject} that holds a fresh copy of {@link #basePack} for the next invocation.
+     *
+     * @since 1.0.0
+     */
+    private JsonObject target;
+
+    /**
+     * A {@code public void} that builds both packs and disables verbose logging.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        BaseLogger.setBlueLibLoggingEnabled(false);
+        BaseLogger.setLoggingEnabled(false);
+        basePack = SyntheticVariantPack.object(variantCount, "base_");
+        sourcePack = SyntheticVariantPack.object(variantCount, "extra_");
+        overridePack = SyntheticVariantPack.object(variantCount, "base_");
+    }
+
+    /**
+     * A {@code public void} that copies the target pack and creates the keyed merger before every invocation.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Setup(Level.Invocation)
+    public void copyTarget() {
+        target = basePack.deepCopy();
+        keyedMerger = new JSONMerger(JSONMergeStrategies.mergeByKey("variantName"));
+    }
+
+    /**
+     * A {@code public} {@link JsonObject} that merges the source pack into the target pack.
+     *
+     * @return {@link JsonObject} - The merged target.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Benchmark
+    public JsonObject mergeJsonObjects() {
+        merger.mergeJsonObjects(target, sourcePack);
+        return target;
+    }
+
+    /**
+     * A {@code public} {@link JsonObject} that merges the override pack into the target pack by variant name.
+     *
+     * @return {@link JsonObject} - The merged target.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Benchmark
+    public JsonObject mergeJsonObjectsByKey() {
+        keyedMerger.mergeJsonObjects(target, overridePack);
+        return target;
+    }
+}
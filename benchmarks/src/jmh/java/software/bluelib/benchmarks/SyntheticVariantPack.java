@@ -0,0 +1,88 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * A {@code public final class} that generates synthetic variant packs for the benchmarks.
+ * <p>
+ * Every variant has the same shape as the variants shipped with the example entities: a name, a string, a number,
+ * a boolean and a small array, so the benchmarks exercise every value type.
+ * </p>
+ *
+ * @author MeAlam
+ * @since 1.0.0
+ */
+public final class SyntheticVariantPack {
+
+    /**
+     * A {@code public static final} {@link String} that holds the JSON key of the synthetic entity.
+     *
+     * @since 1.0.0
+     */
+    public static final String ENTITY_NAME = "synthetic_entity";
+
+    /**
+     * Private constructor to prevent instantiation.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private SyntheticVariantPack() {
+    }
+
+    /**
+     * A {@code public static} {@link String} that builds a variant pack document with the given number of variants.
+     *
+     * @param pVariantCount {@code int} - The number of variants in the pack.
+     * @param pNamePrefix   {@link String} - The prefix of every variant name, to build packs that do not overlap.
+     * @return {@link String} - The JSON document.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static String json(int pVariantCount, String pNamePrefix) {
+        StringBuilder builder = new StringBuilder(pVariantCount * 128 + 32);
+        builder.append("{\"").append(ENTITY_NAME).append("\":[");
+        for (int i = 0; i < pVariantCount; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"variantName\":\"").append(pNamePrefix).append(i)
+                    .append("\",\"texture\":\"textures/entity/").append(pNamePrefix).append(i).append(".png\"")
+                    .append(",\"weight\":").append(1 + i % 10)
+                    .append(",\"scale\":").append(0.5 + (i % 7) * 0.25)
+                    .append(",\"glowing\":").append(i % 2 == 0)
+                    .append(",\"biomes\":[\"minecraft:plains\",\"minecraft:forest\"]}");
+        }
+        return builder.append("]}").toString();
+    }
+
+    /**
+     * A {@code public static} {@link JsonObject} that builds a variant pack with the given number of variants.
+     *
+     * @param pVariantCount {@code int} - The number of variants in the pack.
+     * @param pNamePrefix   {@link String} - The prefix of every variant name.
+     * @return {@link JsonObject} - The variant pack.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static JsonObject object(int pVariantCount, String pNamePrefix) {
+        return JsonParser.parseString(json(pVariantCount, pNamePrefix)).getAsJsonObject();
+    }
+
+    /**
+     * A {@code public static} {@link JsonObject} that returns the first variant of a pack.
+     *
+     * @param pPack {@link JsonObject} - The variant pack.
+     * @return {@link JsonObject} - The first variant.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static JsonObject firstVariant(JsonObject pPack) {
+        JsonArray variants = pPack.getAsJsonArray(ENTITY_NAME);
+        return variants.get(0).getAsJsonObject();
+    }
+}
@@ -0,0 +1,175 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.benchmarks;
+
+import com.google.gson.JsonObject;
+import net.minecraft.util.RandomSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import software.bluelib.entity.variant.VariantIndex;
+import software.bluelib.entity.variant.VariantParameter;
+import software.bluelib.entity.variant.VariantRegistry;
+import software.bluelib.json.JSONLoader;
+import software.bluelib.utils.logging.BaseLogger;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@code public class} that benchmarks loading a variant pack, from the JSON document to a published {@link VariantRegistry}.
+ * <p>
+ * The phases are measured separately:
+ * <ul>
+ *   <li>{@link #streamPack(Blackhole)} - Streams the document and builds every {@link VariantParameter}, like {@code VariantLoader.loadResource}.</li>
+ *   <li>{@link #indexVariants()} - Indexes the parsed variants and swaps them into a registry, like {@code VariantLoader.parseVariants}.</li>
+ *   <li>{@link #constructFromObject()} - Builds a single {@link VariantParameter} from a {@link JsonObject}.</li>
+ *   <li>{@link #readParameters(Blackhole)} - Reads parameters of every variant, like a per-tick caller.</li>
+ *   <li>{@link #drawRandomVariant()} - Draws a weighted random variant, like a spawning entity.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class VariantLoadingBenchmark {
+
+    /**
+     * A {@code public} {@code int} that holds the number of variants in the synthetic pack.
+     *
+     * @since 1.0.0
+     */
+    @Param({"10", "1000", "100000"})
+    public int variantCount;
+
+    /**
+     * A {@code private final} {@link JSONLoader} used to stream the pack.
+     *
+     * @since 1.0.0
+     */
+    private final JSONLoader jsonLoader = new JSONLoader();
+
+    /**
+     * A {@code private} {@link String} that holds the synthetic pack document.
+     *
+     * @since 1.0.0
+     */
+    private String packJson;
+
+    /**
+     * A {@code private} {@link List} that holds the variants of the pack, already parsed.
+     *
+     * @since 1.0.0
+     */
+    private List<VariantParameter> parsedVariants;
+
+    /**
+     * A {@code private} {@link JsonObject} that holds a single variant.
+     *
+     * @since 1.0.0
+     */
+    private JsonObject singleVariant;
+
+    /**
+     * A {@code private} {@link VariantIndex} that holds the indexed variants of the pack.
+     *
+     * @since 1.0.0
+     */
+    private VariantIndex index;
+
+    /**
+     * A {@code private final} {@link RandomSource} used to draw random variants.
+     *
+     * @since 1.0.0
+     */
+    private final RandomSource random = RandomSource.createNewThreadLocalInstance();
+
+    /**
+     * A {@code public void} that builds the synthetic pack and disables verbose logging.
+     *
+     * @throws IOException if the pack cannot be parsed.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        BaseLogger.setBlueLibLoggingEnabled(false);
+        BaseLogger.setLoggingEnabled(false);
+        packJson = SyntheticVariantPack.json(variantCount, "variant_");
+        singleVariant = SyntheticVariantPack.firstVariant(SyntheticVariantPack.object(1, "variant_"));
+        parsedVariants = new ArrayList<>(variantCount);
+        jsonLoader.streamJson(new StringReader(packJson), (pKey, pReader) -> parsedVariants.add(new VariantParameter(pKey, pReader)));
+        index = VariantIndex.of(SyntheticVariantPack.ENTITY_NAME, parsedVariants);
+    }
+
+    /**
+     * A {@code public void} that streams the pack and builds every {@link VariantParameter}.
+     *
+     * @param pBlackhole {@link Blackhole} - Consumes the variants.
+     * @throws IOException if the pack cannot be read.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Benchmark
+    public void streamPack(Blackhole pBlackhole) throws IOException {
+        jsonLoader.streamJson(new StringReader(packJson), (pKey, pReader) -> pBlackhole.consume(new VariantParameter(pKey, pReader)));
+    }
+
+    /**
+     * A {@code public} {@link VariantRegistry} that indexes the parsed variants and publishes them in a new registry.
+     *
+     * @return {@link VariantRegistry} - The new registry.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Benchmark
+    public VariantRegistry indexVariants() {
+        VariantIndex index = VariantIndex.of(SyntheticVariantPack.ENTITY_NAME, parsedVariants);
+        return VariantRegistry.EMPTY.withEntities(Map.of(SyntheticVariantPack.ENTITY_NAME, index), Set.of(SyntheticVariantPack.ENTITY_NAME));
+    }
+
+    /**
+     * A {@code public} {@link VariantParameter} that builds a single variant from a {@link JsonObject}.
+     *
+     * @return {@link VariantParameter} - The new variant.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Benchmark
+    public VariantParameter constructFromObject() {
+        return new VariantParameter(SyntheticVariantPack.ENTITY_NAME, singleVariant);
+    }
+
+    /**
+     * A {@code public void} that reads every parameter of every parsed variant, like a per-tick caller would.
+     *
+     * @param pBlackhole {@link Blackhole} - Consumes the parameters.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Benchmark
+    public void readParameters(Blackhole pBlackhole) {
+        for (VariantParameter variant : parsedVariants) {
+            pBlackhole.consume(variant.getVariantParameter());
+            pBlackhole.consume(variant.getInt("weight", 1));
+            pBlackhole.consume(variant.getDouble("scale", 1.0));
+        }
+    }
+
+    /**
+     * A {@code public} {@link VariantParameter} that draws a random variant, weighted by its {@code weight} parameter.
+     *
+     * @return {@link VariantParameter} - The drawn variant.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Benchmark
+    public VariantParameter drawRandomVariant() {
+        return index.getRandomVariant(random);
+    }
+}
@@ -2,15 +2,19 @@
 
 package software.bluelib;
 
+import net.minecraft.server.level.ServerPlayer;
+import software.bluelib.entity.variant.VariantIdTable;
+import software.bluelib.entity.variant.VariantLoader;
+import software.bluelib.entity.variant.VariantSpawnIndex;
 import software.bluelib.interfaces.platform.IPlatformHelper;
+import software.bluelib.network.VariantIdSyncPayload;
+import software.bluelib.utils.concurrent.BlueLibExecutor;
 import software.bluelib.utils.logging.BaseLogLevel;
 import software.bluelib.utils.logging.BaseLogger;
 
 import java.util.ServiceLoader;
 import java.util.concurrent.TimeUnit;
 
-import static software.bluelib.BlueLibConstants.SCHEDULER;
-
 /**
  * A {@code public class} responsible for common initialization logic and platform detection.
  * <p>
@@ -21,6 +25,10 @@ import static software.bluelib.BlueLibConstants.SCHEDULER;
  * Key Methods:
  * <ul>
  *   <li>{@link #init()} - Initializes BlueLib and logs welcome messages if in developer mode.</li>
+ *   <li>{@link #onServerStarting()} - Starts the {@link BlueLibExecutor} when a server starts.</li>
+ *   <li>{@link #onServerStopped()} - Stops the {@link BlueLibExecutor} when a server stops.</li>
+ *   <li>{@link #onPlayerLoggedIn(ServerPlayer)} - Sends the variant IDs of the server to a player that logged in.</li>
+ *   <li>{@link #onTagsUpdated()} - Drops cached data that depends on tags when tags are updated.</li>
  *   <li>{@link #isDeveloperMode()} - Checks if the mod is running in developer mode.</li>
  * </ul>
  *
@@ -65,27 +73,95 @@ public class BlueLibCommon {
                 .orElseThrow(() -> new NullPointerException("Failed to load service for " + pClazz.getName()));
     }
 
+    /**
+     * A {@code private static volatile boolean} that is set by {@link #init()} when the thank-you message still has to be shown.
+     *
+     * @since 1.0.0
+     */
+    private static volatile boolean thankYouPending;
+
     /**
      * A {@code public static void} that initializes BlueLib and logs a thank-you message if in developer mode. <br>
-     * The message is scheduled to appear after 5 seconds and then the scheduler shuts down.
+     * The message is scheduled on the {@link BlueLibExecutor} to appear 5 seconds after the first server started.
      *
      * @author MeAlam
      * @since 1.0.0
      */
     public static void init() {
-        if (isDeveloperMode()) {
-            SCHEDULER.schedule(() -> {
+        thankYouPending = isDeveloperMode();
+    }
+
+    /**
+     * A {@code public static void} that starts the {@link BlueLibExecutor} when a server starts.
+     * <p>
+     * Called by every platform when a dedicated or integrated server is starting. This is the only place the executor is
+     * started, so the variant cache write that was deferred while it was stopped is retried here.
+     * </p>
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static void onServerStarting() {
+        BlueLibExecutor.start();
+        VariantLoader.persistCache();
+        if (thankYouPending) {
+            thankYouPending = false;
+            BlueLibExecutor.schedule(() -> {
                 BaseLogger.logBlueLib("**************************************************");
                 BaseLogger.logBlueLib("                                                  ");
                 BaseLogger.logBlueLib("     Thank you for using BlueLib!                 ");
                 BaseLogger.logBlueLib("     We appreciate your support.                  ");
                 BaseLogger.logBlueLib("                                                  ");
                 BaseLogger.logBlueLib("**************************************************");
-                SCHEDULER.shutdown();
             }, 5, TimeUnit.SECONDS);
         }
     }
 
+    /**
+     * A {@code public static void} that stops the {@link BlueLibExecutor} when a server has stopped.
+     * <p>
+     * Called by every platform when a dedicated or integrated server has stopped, so queued background work, such as
+     * writing the {@code VariantCache} file in the game directory, completes before the next world is loaded. The variant
+     * IDs of the server are dropped too, since they only hold for a single server session.
+     * </p>
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static void onServerStopped() {
+        BlueLibExecutor.stop();
+        VariantIdTable.SERVER.clear();
+    }
+
+    /**
+     * A {@code public static void} that sends the variant IDs of the server to a player that logged in.
+     * <p>
+     * Called by every platform when a player joins, before any entity is sent to the player, so the player can resolve the
+     * variant IDs in the entity data.
+     * </p>
+     *
+     * @param pPlayer {@link ServerPlayer} - The player that logged in.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static void onPlayerLoggedIn(ServerPlayer pPlayer) {
+        VariantIdSyncPayload.sendFull(pPlayer);
+    }
+
+    /**
+     * A {@code public static void} that drops cached data that depends on tags when tags are updated.
+     * <p>
+     * Called by every platform after tags are loaded or synced, so the spawn tables of every {@link VariantSpawnIndex}
+     * are rebuilt with the new biome tags.
+     * </p>
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static void onTagsUpdated() {
+        VariantSpawnIndex.invalidateAll();
+    }
+
     /**
      * A {@code public static} {@link Boolean} that checks if the mod is running in developer mode.
      * <p>
@@ -2,22 +2,23 @@
 
 package software.bluelib;
 
-import java.util.concurrent.Executors;
+import software.bluelib.utils.concurrent.BlueLibExecutor;
+
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.logging.Logger;
 
 /**
  * A {@code public class} that defines common constants used across the BlueLib mod.
  * <p>
- * This class contains constants such as the mod's {@link #MOD_ID}, {@link #MOD_NAME}, and a
- * {@link ScheduledExecutorService} for scheduling tasks.
+ * This class contains constants such as the mod's {@link #MOD_ID} and {@link #MOD_NAME}. Background tasks are
+ * scheduled on the {@link BlueLibExecutor}.
  * </p>
  * <p>
  * Key Fields:
  * <ul>
- *   <li>{@link #SCHEDULER} - Executor for scheduling delayed tasks.</li>
  *   <li>{@link #MOD_ID} - Unique identifier for the mod.</li>
  *   <li>{@link #MOD_NAME} - Display name of the mod.</li>
+ *   <li>{@link #SCHEDULER} - Deprecated view of the {@link BlueLibExecutor}.</li>
  * </ul>
  *
  * @author MeAlam
@@ -44,16 +45,6 @@ public class BlueLibConstants {
      */
     public static final Logger LOGGER = Logger.getLogger(BlueLibConstants.MOD_NAME);
 
-    /**
-     * A {@code public static final} {@link ScheduledExecutorService} used to schedule tasks, such as printing messages after a delay.
-     * <p>
-     * This executor runs tasks on a single thread to ensure delayed tasks run in a separate thread from the main thread.
-     * </p>
-     *
-     * @since 1.0.0
-     */
-    public static final ScheduledExecutorService SCHEDULER = Executors.newScheduledThreadPool(1);
-
     /**
      * A {@code public static final} {@link String} representing the Mod ID for the {@code BlueLib} mod.
      * <p>This serves as a unique identifier for the mod.</p>
@@ -69,6 +60,19 @@ public class BlueLibConstants {
      */
     public static final String MOD_NAME = "BlueLib";
 
+    /**
+     * A {@code public static final} {@link ScheduledExecutorService} used to schedule tasks, such as printing messages after a delay.
+     * <p>
+     * Tasks run on the {@link BlueLibExecutor}; shutting this service down has no effect.
+     * </p>
+     *
+     * @since 1.0.0
+     * @deprecated Use {@link BlueLibExecutor#schedule(Runnable, long, java.util.concurrent.TimeUnit)} instead; this field will be
+     * removed in the next release.
+     */
+    @Deprecated(since = "1.0.0", forRemoval = true)
+    public static final ScheduledExecutorService SCHEDULER = BlueLibExecutor.asScheduledExecutorService();
+
     /** TODO: Always have on False when pushing to production
      * A {@code public static final} {@link Boolean} indicating whether the example features should be enabled. <br>
      * Should always be false in production.
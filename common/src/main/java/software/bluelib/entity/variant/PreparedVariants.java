@@ -0,0 +1,160 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.entity.variant;
+
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * A {@code public final class} that holds the immutable result of preparing a variant reload.
+ * <p>
+ * It is created by {@link VariantLoader#prepareAllVariants(String, net.minecraft.server.packs.resources.ResourceManager, Collection)}
+ * on a worker thread, where all resources are read and parsed and the new {@link VariantRegistry} is built. <br>
+ * {@link VariantLoader#applyVariants(PreparedVariants)} then publishes it with a single reference swap, so the thread that
+ * applies it, usually the server thread, never does any I/O, parsing or indexing. If another load was published in between,
+ * the result is stale and its resources are prepared again in the background.
+ * </p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #getRebuiltCount()} - Retrieves the number of entities that were rebuilt.</li>
+ *   <li>{@link #getResourceCount()} - Retrieves the number of resources that were loaded.</li>
+ *   <li>{@link #getLabel()} - Retrieves the label that identifies this reload in the log.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see VariantLoader
+ * @since 1.0.0
+ */
+public final class PreparedVariants {
+
+    /**
+     * A {@code final} {@link VariantRegistry} that holds the snapshot this result was prepared against.
+     *
+     * @since 1.0.0
+     */
+    final VariantRegistry base;
+
+    /**
+     * A {@code final} {@link VariantRegistry} that holds the snapshot to publish if {@link #base} is still current.
+     *
+     * @since 1.0.0
+     */
+    final VariantRegistry result;
+
+    /**
+     * A {@code final} {@link Map} that holds the resources of every entity, in load order, keyed by entity name.
+     *
+     * @since 1.0.0
+     */
+    final Map<String, List<ResourceLocation>> entityResources;
+
+    /**
+     * A {@code final} {@link Map} that holds the resources that were parsed for this result, to cache once it is applied.
+     *
+     * @since 1.0.0
+     */
+    final Map<ResourceLocation, VariantLoader.CachedResource> parsedResources;
+
+    /**
+     * A {@code final} {@link Set} that holds the resources that failed to load or no longer belong to any of the prepared entities.
+     *
+     * @since 1.0.0
+     */
+    final Set<ResourceLocation> removedResources;
+
+    /**
+     * A {@code final} {@link Supplier} that prepares the same resources again.
+     * <p>
+     * Only used if another load was published after this result was prepared, so this result is stale.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    final Supplier<PreparedVariants> prepareAgain;
+
+    /**
+     * A {@code final} {@link Set} that holds the names of the entities whose variants are replaced.
+     *
+     * @since 1.0.0
+     */
+    final Set<String> changedEntities;
+
+    /**
+     * A {@code private final} {@code int} that holds the number of resources that were loaded.
+     *
+     * @since 1.0.0
+     */
+    private final int resourceCount;
+
+    /**
+     * A {@code private final} {@link String} that identifies this reload in the log.
+     *
+     * @since 1.0.0
+     */
+    private final String label;
+
+    /**
+     * A constructor that creates a new {@link PreparedVariants}.
+     *
+     * @param pBase             {@link VariantRegistry} - The snapshot this result was prepared against.
+     * @param pResult           {@link VariantRegistry} - The snapshot to publish.
+     * @param pEntityResources  {@link Map} - The resources of every entity, in load order.
+     * @param pParsedResources  {@link Map} - The resources that were parsed, to cache once this result is applied.
+     * @param pRemovedResources {@link Set} - The resources that failed to load or no longer belong to any of the prepared entities.
+     * @param pChangedEntities  {@link Set} - The names of the entities whose variants are replaced.
+     * @param pResourceCount    {@code int} - The number of resources that were loaded.
+     * @param pLabel            {@link String} - The label that identifies this reload in the log.
+     * @param pPrepareAgain     {@link Supplier} - Prepares the same resources again if this result is stale.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    PreparedVariants(VariantRegistry pBase, VariantRegistry pResult, Map<String, List<ResourceLocation>> pEntityResources,
+                     Map<ResourceLocation, VariantLoader.CachedResource> pParsedResources,
+                     Set<ResourceLocation> pRemovedResources, Set<String> pChangedEntities, int pResourceCount, String pLabel,
+                     Supplier<PreparedVariants> pPrepareAgain) {
+        this.base = pBase;
+        this.result = pResult;
+        this.entityResources = Collections.unmodifiableMap(pEntityResources);
+        this.parsedResources = Collections.unmodifiableMap(pParsedResources);
+        this.removedResources = Collections.unmodifiableSet(pRemovedResources);
+        this.changedEntities = Collections.unmodifiableSet(pChangedEntities);
+        this.resourceCount = pResourceCount;
+        this.label = pLabel;
+        this.prepareAgain = pPrepareAgain;
+    }
+
+    /**
+     * A {@code public} {@code int} that retrieves the number of entities that were rebuilt.
+     *
+     * @return {@code int} - The number of rebuilt entities, {@code 0} if nothing changed.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int getRebuiltCount() {
+        return changedEntities.size();
+    }
+
+    /**
+     * A {@code public} {@code int} that retrieves the number of resources that were loaded.
+     *
+     * @return {@code int} - The number of loaded resources.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int getResourceCount() {
+        return resourceCount;
+    }
+
+    /**
+     * A {@code public} {@link String} that retrieves the label that identifies this reload in the log.
+     *
+     * @return {@link String} - The label.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,37 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.entity.variant;
+
+import java.util.zip.CRC32C;
+
+/**
+ * A {@code public record} that identifies the content of a variant resource.
+ * <p>
+ * Two fingerprints are equal when the resource comes from the same pack and has the same size and CRC32C checksum,
+ * in which case the parsed variants of the resource can be reused instead of parsing it again.
+ * </p>
+ *
+ * @param packId {@link String} - The id of the pack that provides the resource.
+ * @param size   {@code long} - The size of the resource in bytes.
+ * @param hash   {@code int} - The CRC32C checksum of the resource content.
+ * @author MeAlam
+ * @see VariantLoader
+ * @since 1.0.0
+ */
+public record ResourceFingerprint(String packId, long size, int hash) {
+
+    /**
+     * A {@code public static} {@link ResourceFingerprint} that computes the fingerprint of a resource.
+     *
+     * @param pPackId  {@link String} - The id of the pack that provides the resource.
+     * @param pContent {@code byte[]} - The content of the resource.
+     * @return {@link ResourceFingerprint} - The fingerprint of the resource.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static ResourceFingerprint of(String pPackId, byte[] pContent) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(pContent, 0, pContent.length);
+        return new ResourceFingerprint(pPackId, pContent.length, (int) checksum.getValue());
+    }
+}
@@ -0,0 +1,240 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.entity.variant;
+
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.biome.Biome;
+import software.bluelib.utils.logging.BaseLogLevel;
+import software.bluelib.utils.logging.LogCategory;
+
+import java.util.*;
+
+/**
+ * A {@code public final class} that holds the precompiled spawn conditions of a single variant.
+ * <p>
+ * A variant can restrict where it is picked for a spawning entity with these optional parameters:
+ * <ul>
+ *   <li>{@code biomes} - Biome ids, or biome tags prefixed with {@code #}, such as {@code ["minecraft:plains", "#minecraft:is_forest"]}.</li>
+ *   <li>{@code dimensions} - Dimension ids, such as {@code ["minecraft:overworld"]}.</li>
+ *   <li>{@code minY} and {@code maxY} - The inclusive Y range of the spawn position.</li>
+ * </ul>
+ * A variant without any of them can be picked everywhere. The strings are parsed once when the variants are indexed,
+ * so matching only compares {@link ResourceLocation} and {@link TagKey} instances and never builds a string.
+ * </p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #of(VariantParameter)} - Reads the spawn conditions of a variant.</li>
+ *   <li>{@link #matches(ResourceKey, Holder)} - Checks if the variant can be picked in a dimension and biome.</li>
+ *   <li>{@link #containsY(int)} - Checks if the variant can be picked at a Y level.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see VariantSpawnIndex
+ * @since 1.0.0
+ */
+public final class SpawnCondition {
+
+    /**
+     * A {@code public static final} {@link String} that holds the JSON key of the biome condition.
+     *
+     * @since 1.0.0
+     */
+    public static final String BIOMES_KEY = "biomes";
+
+    /**
+     * A {@code public static final} {@link String} that holds the JSON key of the dimension condition.
+     *
+     * @since 1.0.0
+     */
+    public static final String DIMENSIONS_KEY = "dimensions";
+
+    /**
+     * A {@code public static final} {@link String} that holds the JSON key of the lowest Y level.
+     *
+     * @since 1.0.0
+     */
+    public static final String MIN_Y_KEY = "minY";
+
+    /**
+     * A {@code public static final} {@link String} that holds the JSON key of the highest Y level.
+     *
+     * @since 1.0.0
+     */
+    public static final String MAX_Y_KEY = "maxY";
+
+    /**
+     * A {@code public static final} {@link SpawnCondition} that matches every dimension, biome and Y level.
+     *
+     * @since 1.0.0
+     */
+    public static final SpawnCondition ALWAYS = new SpawnCondition(Set.of(), List.of(), Set.of(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+    /**
+     * A {@code private final} {@link Set} of biome ids, or an empty {@link Set} if only tags or no biomes are required.
+     *
+     * @since 1.0.0
+     */
+    private final Set<ResourceLocation> biomes;
+
+    /**
+     * A {@code private final} {@link List} of biome tags.
+     *
+     * @since 1.0.0
+     */
+    private final List<TagKey<Biome>> biomeTags;
+
+    /**
+     * A {@code private final} {@link Set} of dimension ids, or an empty {@link Set} if every dimension matches.
+     *
+     * @since 1.0.0
+     */
+    private final Set<ResourceLocation> dimensions;
+
+    /**
+     * A {@code private final} {@code int} that holds the lowest Y level, inclusive.
+     *
+     * @since 1.0.0
+     */
+    private final int minY;
+
+    /**
+     * A {@code private final} {@code int} that holds the highest Y level, inclusive.
+     *
+     * @since 1.0.0
+     */
+    private final int maxY;
+
+    /**
+     * A {@code private} constructor that creates a new {@link SpawnCondition}.
+     *
+     * @param pBiomes     {@link Set} - The biome ids.
+     * @param pBiomeTags  {@link List} - The biome tags.
+     * @param pDimensions {@link Set} - The dimension ids.
+     * @param pMinY       {@code int} - The lowest Y level, inclusive.
+     * @param pMaxY       {@code int} - The highest Y level, inclusive.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private SpawnCondition(Set<ResourceLocation> pBiomes, List<TagKey<Biome>> pBiomeTags, Set<ResourceLocation> pDimensions, int pMinY, int pMaxY) {
+        this.biomes = pBiomes;
+        this.biomeTags = pBiomeTags;
+        this.dimensions = pDimensions;
+        this.minY = pMinY;
+        this.maxY = pMaxY;
+    }
+
+    /**
+     * A {@code public static} {@link SpawnCondition} that reads the spawn conditions of a variant.
+     * <p>
+     * Entries that are not valid ids are logged and ignored.
+     * </p>
+     *
+     * @param pVariant {@link VariantParameter} - The variant to read.
+     * @return {@link SpawnCondition} - The spawn conditions, or {@link #ALWAYS} if the variant has none.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static SpawnCondition of(VariantParameter pVariant) {
+        List<String> biomeEntries = pVariant.getStringList(BIOMES_KEY);
+        List<String> dimensionEntries = pVariant.getStringList(DIMENSIONS_KEY);
+        int minY = pVariant.getInt(MIN_Y_KEY, Integer.MIN_VALUE);
+        int maxY = pVariant.getInt(MAX_Y_KEY, Integer.MAX_VALUE);
+        if (biomeEntries.isEmpty() && dimensionEntries.isEmpty() && minY == Integer.MIN_VALUE && maxY == Integer.MAX_VALUE) {
+            return ALWAYS;
+        }
+
+        Set<ResourceLocation> biomes = new HashSet<>();
+        List<TagKey<Biome>> biomeTags = new ArrayList<>();
+        for (String entry : biomeEntries) {
+            boolean isTag = entry.startsWith("#");
+            ResourceLocation location = ResourceLocation.tryParse(isTag ? entry.substring(1) : entry);
+            if (location == null) {
+                LogCategory.VARIANT.log(BaseLogLevel.WARNING, "Ignoring invalid biome: " + entry + " of variant: " + pVariant.getVariantParameter());
+            } else if (isTag) {
+                biomeTags.add(TagKey.create(Registries.BIOME, location));
+            } else {
+                biomes.add(location);
+            }
+        }
+        Set<ResourceLocation> dimensions = new HashSet<>();
+        for (String entry : dimensionEntries) {
+            ResourceLocation location = ResourceLocation.tryParse(entry);
+            if (location == null) {
+                LogCategory.VARIANT.log(BaseLogLevel.WARNING, "Ignoring invalid dimension: " + entry + " of variant: " + pVariant.getVariantParameter());
+            } else {
+                dimensions.add(location);
+            }
+        }
+        if (minY > maxY) {
+            LogCategory.VARIANT.log(BaseLogLevel.WARNING, "Variant: " + pVariant.getVariantParameter() + " has minY " + minY + " above maxY " + maxY + " and will never be picked");
+        }
+        return new SpawnCondition(Set.copyOf(biomes), List.copyOf(biomeTags), Set.copyOf(dimensions), minY, maxY);
+    }
+
+    /**
+     * A {@code public} {@code boolean} that checks if the variant can be picked in a dimension and biome.
+     *
+     * @param pDimension {@link ResourceKey} - The dimension of the spawn position.
+     * @param pBiome     {@link Holder} - The biome at the spawn position.
+     * @return {@code true} if the dimension and biome match, {@code false} otherwise.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public boolean matches(ResourceKey<Level> pDimension, Holder<Biome> pBiome) {
+        if (!dimensions.isEmpty() && !dimensions.contains(pDimension.location())) {
+            return false;
+        }
+        if (biomes.isEmpty() && biomeTags.isEmpty()) {
+            return true;
+        }
+        Optional<ResourceKey<Biome>> biomeKey = pBiome.unwrapKey();
+        if (biomeKey.isPresent() && biomes.contains(biomeKey.get().location())) {
+            return true;
+        }
+        for (TagKey<Biome> tag : biomeTags) {
+            if (pBiome.is(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A {@code public} {@code boolean} that checks if the variant can be picked at a Y level.
+     *
+     * @param pY {@code int} - The Y level of the spawn position.
+     * @return {@code true} if the Y level is within the range, {@code false} otherwise.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public boolean containsY(int pY) {
+        return pY >= minY && pY <= maxY;
+    }
+
+    /**
+     * A {@code public} {@code int} that returns the lowest Y level, inclusive.
+     *
+     * @return {@code int} - The lowest Y level, or {@link Integer#MIN_VALUE} if there is none.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int getMinY() {
+        return minY;
+    }
+
+    /**
+     * A {@code public} {@code int} that returns the highest Y level, inclusive.
+     *
+     * @return {@code int} - The highest Y level, or {@link Integer#MAX_VALUE} if there is none.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int getMaxY() {
+        return maxY;
+    }
+}
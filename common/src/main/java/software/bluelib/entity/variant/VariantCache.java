@@ -0,0 +1,351 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.entity.variant;
+
+import com.google.gson.JsonParser;
+import net.minecraft.resources.ResourceLocation;
+import software.bluelib.entity.variant.base.ParameterSchema;
+import software.bluelib.entity.variant.base.ParameterValue;
+import software.bluelib.utils.logging.BaseLogLevel;
+import software.bluelib.utils.logging.LogCategory;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * A {@code final class} that stores parsed variants in a compact binary file, so a cold start can skip parsing JSON.
+ * <p>
+ * The file is read into a heap {@link ByteBuffer} with plain {@link FileChannel#read(ByteBuffer)} calls and closed right away,
+ * so no mapping keeps it locked while it is rewritten. Its layout is, in big-endian order:
+ * <ul>
+ *   <li>A header: the magic number, the format version and the combined fingerprint of all stored resources.</li>
+ *   <li>A string table: the number of strings, then every string as a length-prefixed UTF-8 byte sequence.</li>
+ *   <li>The resources: for every resource its location, {@link ResourceFingerprint} and variants,
+ *   with every string written as an index into the string table.</li>
+ * </ul>
+ * The combined fingerprint identifies the set of input resources. It is checked when the file is read, and compared before
+ * writing so the file is only rewritten when an input pack changed. <br>
+ * The file is only used when the system property {@code bluelib.variant.cache} is set to {@code true}.
+ * </p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #read(Path)} - Reads all cached resources from a file.</li>
+ *   <li>{@link #write(Path, Map)} - Writes all cached resources to a file.</li>
+ *   <li>{@link #combinedFingerprint(Map)} - Computes the combined fingerprint of a set of resources.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see VariantLoader
+ * @since 1.0.0
+ */
+final class VariantCache {
+
+    /**
+     * A {@code private static final} {@code int} that identifies a variant cache file ("BLVC").
+     *
+     * @since 1.0.0
+     */
+    private static final int MAGIC = 0x424C5643;
+
+    /**
+     * A {@code private static final} {@code int} that holds the version of the file format.
+     *
+     * @since 1.0.0
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * A {@code private static final} array of all {@link ParameterValue.Type} constants, indexed by ordinal.
+     *
+     * @since 1.0.0
+     */
+    private static final ParameterValue.Type[] TYPES = ParameterValue.Type.values();
+
+    /**
+     * Private constructor to prevent instantiation.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private VariantCache() {
+    }
+
+    /**
+     * A {@code static} {@code long} that computes the combined fingerprint of a set of resources.
+     * <p>
+     * The result does not depend on the iteration order of {@code pResources}.
+     * </p>
+     *
+     * @param pResources {@link Map} - The cached resources, keyed by {@link ResourceLocation}.
+     * @return {@code long} - The combined fingerprint.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    static long combinedFingerprint(Map<ResourceLocation, VariantLoader.CachedResource> pResources) {
+        List<ResourceLocation> locations = new ArrayList<>(pResources.keySet());
+        locations.sort(Comparator.naturalOrder());
+        long hash = 0xcbf29ce484222325L;
+        for (ResourceLocation location : locations) {
+            ResourceFingerprint fingerprint = pResources.get(location).fingerprint();
+            hash = mix(hash, location.toString().hashCode());
+            hash = mix(hash, fingerprint.packId().hashCode());
+            hash = mix(hash, fingerprint.size());
+            hash = mix(hash, fingerprint.hash());
+        }
+        return hash;
+    }
+
+    /**
+     * A {@code private static} {@code long} that mixes a value into a running FNV-1a style hash.
+     *
+     * @param pHash  {@code long} - The running hash.
+     * @param pValue {@code long} - The value to mix in.
+     * @return {@code long} - The new hash.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private static long mix(long pHash, long pValue) {
+        return (pHash ^ pValue) * 0x100000001b3L;
+    }
+
+    /**
+     * A {@code static} {@link Map} that reads all cached resources from a file.
+     * <p>
+     * A missing, truncated or incompatible file results in an empty {@link Map}; the loader then parses the JSON as usual.
+     * </p>
+     *
+     * @param pFile {@link Path} - The cache file.
+     * @return {@link Map} - The cached resources, keyed by {@link ResourceLocation}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    static Map<ResourceLocation, VariantLoader.CachedResource> read(Path pFile) {
+        if (!Files.isRegularFile(pFile)) {
+            return Collections.emptyMap();
+        }
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(pFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                LogCategory.VARIANT.log(BaseLogLevel.WARNING, "Ignoring oversized variant cache: " + pFile);
+                return Collections.emptyMap();
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Variant cache ended early: " + pFile);
+                }
+            }
+            buffer.flip();
+        } catch (IOException pException) {
+            LogCategory.VARIANT.log(BaseLogLevel.WARNING, "Failed to read variant cache: " + pFile + ", parsing JSON instead", pException);
+            return Collections.emptyMap();
+        }
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                LogCategory.VARIANT.log(BaseLogLevel.WARNING, "Ignoring incompatible variant cache: " + pFile);
+                return Collections.emptyMap();
+            }
+            long expectedFingerprint = buffer.getLong();
+
+            String[] strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            int resourceCount = buffer.getInt();
+            Map<ResourceLocation, VariantLoader.CachedResource> resources = new HashMap<>(Math.max(16, resourceCount * 2));
+            for (int i = 0; i < resourceCount; i++) {
+                ResourceLocation location = ResourceLocation.fromNamespaceAndPath(strings[buffer.getInt()], strings[buffer.getInt()]);
+                ResourceFingerprint fingerprint = new ResourceFingerprint(strings[buffer.getInt()], buffer.getLong(), buffer.getInt());
+
+                int keyCount = buffer.getInt();
+                Map<String, List<VariantParameter>> variants = new LinkedHashMap<>();
+                Map<String, ParameterSchema> schemas = new HashMap<>();
+                for (int k = 0; k < keyCount; k++) {
+                    String jsonKey = strings[buffer.getInt()];
+                    int variantCount = buffer.getInt();
+                    List<VariantParameter> variantList = new ArrayList<>(variantCount);
+                    for (int v = 0; v < variantCount; v++) {
+                        variantList.add(readVariant(buffer, strings, schemas.computeIfAbsent(jsonKey, pKey -> new ParameterSchema()), jsonKey));
+                    }
+                    variants.put(jsonKey, variantList);
+                }
+                resources.put(location, new VariantLoader.CachedResource(fingerprint, variants));
+            }
+
+            if (combinedFingerprint(resources) != expectedFingerprint) {
+                LogCategory.VARIANT.log(BaseLogLevel.WARNING, "Ignoring corrupt variant cache: " + pFile);
+                return Collections.emptyMap();
+            }
+            return resources;
+        } catch (Exception pException) {
+            LogCategory.VARIANT.log(BaseLogLevel.WARNING, "Failed to read variant cache: " + pFile + ", parsing JSON instead", pException);
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * A {@code private static} {@link VariantParameter} that reads a single variant.
+     *
+     * @param pBuffer  {@link ByteBuffer} - The buffer, positioned at the variant.
+     * @param pStrings {@link String} array - The string table.
+     * @param pSchema  {@link ParameterSchema} - The schema of the entity.
+     * @param pJsonKey {@link String} - The key that identifies the entity.
+     * @return {@link VariantParameter} - The variant.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private static VariantParameter readVariant(ByteBuffer pBuffer, String[] pStrings, ParameterSchema pSchema, String pJsonKey) {
+        int parameterCount = pBuffer.getInt();
+        List<String> keys = new ArrayList<>(parameterCount);
+        List<ParameterValue> values = new ArrayList<>(parameterCount);
+        for (int i = 0; i < parameterCount; i++) {
+            keys.add(pStrings[pBuffer.getInt()]);
+            ParameterValue.Type type = TYPES[pBuffer.get()];
+            values.add(switch (type) {
+                case INT, LONG, DOUBLE -> ParameterValue.ofNumber(pStrings[pBuffer.getInt()]);
+                case BOOLEAN -> ParameterValue.ofBoolean(pBuffer.get() != 0);
+                case STRING -> ParameterValue.ofString(pStrings[pBuffer.getInt()]);
+                case STRING_LIST -> {
+                    String[] list = new String[pBuffer.getInt()];
+                    for (int j = 0; j < list.length; j++) {
+                        list[j] = pStrings[pBuffer.getInt()];
+                    }
+                    yield ParameterValue.ofStringList(Arrays.asList(list));
+                }
+                case OBJECT -> VariantParameter.toParameterValue(JsonParser.parseString(pStrings[pBuffer.getInt()]));
+                case NULL -> ParameterValue.NULL;
+            });
+        }
+        return new VariantParameter(pSchema, pJsonKey, keys, values);
+    }
+
+    /**
+     * A {@code static void} that writes all cached resources to a file.
+     * <p>
+     * The file is written next to its target and then moved into place, so a crash never leaves a partial cache behind.
+     * </p>
+     *
+     * @param pFile      {@link Path} - The cache file.
+     * @param pResources {@link Map} - The cached resources, keyed by {@link ResourceLocation}.
+     * @return {@code boolean} - {@code true} if the file was written and moved into place, {@code false} otherwise.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    static synchronized boolean write(Path pFile, Map<ResourceLocation, VariantLoader.CachedResource> pResources) {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(8192);
+        try {
+            DataOutputStream out = new DataOutputStream(body);
+            out.writeInt(pResources.size());
+            for (Map.Entry<ResourceLocation, VariantLoader.CachedResource> entry : pResources.entrySet()) {
+                ResourceFingerprint fingerprint = entry.getValue().fingerprint();
+                out.writeInt(intern(stringTable, entry.getKey().getNamespace()));
+                out.writeInt(intern(stringTable, entry.getKey().getPath()));
+                out.writeInt(intern(stringTable, fingerprint.packId()));
+                out.writeLong(fingerprint.size());
+                out.writeInt(fingerprint.hash());
+
+                Map<String, List<VariantParameter>> variants = entry.getValue().variants();
+                out.writeInt(variants.size());
+                for (Map.Entry<String, List<VariantParameter>> variantEntry : variants.entrySet()) {
+                    out.writeInt(intern(stringTable, variantEntry.getKey()));
+                    out.writeInt(variantEntry.getValue().size());
+                    for (VariantParameter variant : variantEntry.getValue()) {
+                        writeVariant(out, stringTable, variant);
+                    }
+                }
+            }
+            out.flush();
+
+            Files.createDirectories(pFile.getParent());
+            Path temporary = pFile.resolveSibling(pFile.getFileName() + ".tmp");
+            try (DataOutputStream file = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                file.writeInt(MAGIC);
+                file.writeInt(VERSION);
+                file.writeLong(combinedFingerprint(pResources));
+                file.writeInt(stringTable.size());
+                for (String string : stringTable.keySet()) {
+                    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                    file.writeInt(bytes.length);
+                    file.write(bytes);
+                }
+                body.writeTo(file);
+            }
+            try {
+                Files.move(temporary, pFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException pException) {
+                Files.move(temporary, pFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            LogCategory.VARIANT.log(BaseLogLevel.INFO, "Wrote variant cache with " + pResources.size() + " resource(s) to: " + pFile);
+            return true;
+        } catch (IOException pException) {
+            LogCategory.VARIANT.log(BaseLogLevel.WARNING, "Failed to write variant cache: " + pFile, pException);
+            return false;
+        }
+    }
+
+    /**
+     * A {@code private static void} that writes a single variant.
+     *
+     * @param pOut         {@link DataOutputStream} - The stream to write to.
+     * @param pStringTable {@link Map} - The string table, extended with new strings.
+     * @param pVariant     {@link VariantParameter} - The variant to write.
+     * @throws IOException if the variant cannot be written.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private static void writeVariant(DataOutputStream pOut, Map<String, Integer> pStringTable, VariantParameter pVariant) throws IOException {
+        ParameterSchema schema = pVariant.getSchema();
+        List<Integer> slots = new ArrayList<>();
+        for (int slot = 0; slot < schema.size(); slot++) {
+            if (pVariant.getParameterValue(slot) != null) {
+                slots.add(slot);
+            }
+        }
+        pOut.writeInt(slots.size());
+        for (int slot : slots) {
+            ParameterValue value = pVariant.getParameterValue(slot);
+            pOut.writeInt(intern(pStringTable, schema.getKey(slot)));
+            pOut.writeByte(value.getType().ordinal());
+            switch (value.getType()) {
+                case INT, LONG, DOUBLE, STRING, OBJECT -> pOut.writeInt(intern(pStringTable, value.getAsString()));
+                case BOOLEAN -> pOut.writeByte(value.getAsBoolean(false) ? 1 : 0);
+                case STRING_LIST -> {
+                    List<String> list = value.getAsStringList();
+                    pOut.writeInt(list.size());
+                    for (String element : list) {
+                        pOut.writeInt(intern(pStringTable, element));
+                    }
+                }
+                case NULL -> {
+                }
+            }
+        }
+    }
+
+    /**
+     * A {@code private static} {@code int} that returns the index of a string in the string table, adding it if needed.
+     *
+     * @param pStringTable {@link Map} - The string table.
+     * @param pString      {@link String} - The string.
+     * @return {@code int} - The index of the string.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private static int intern(Map<String, Integer> pStringTable, String pString) {
+        Integer index = pStringTable.get(pString);
+        if (index == null) {
+            index = pStringTable.size();
+            pStringTable.put(pString, index);
+        }
+        return index;
+    }
+}
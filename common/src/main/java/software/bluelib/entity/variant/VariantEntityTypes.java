@@ -0,0 +1,86 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.entity.variant;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import software.bluelib.interfaces.variant.IVariantEntity;
+import software.bluelib.utils.logging.BaseLogLevel;
+import software.bluelib.utils.logging.LogCategory;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A {@code public final class} that decides which entities track a variant.
+ * <p>
+ * Only variant-capable entities save their variant to NBT or accept a new variant, so other entities, such as zombies,
+ * villagers or armor stands, write nothing extra to disk and never send a variant ID. An entity is variant-capable if its
+ * class implements {@link IVariantEntity}, or if its {@link EntityType} was registered with {@link #register(EntityType)},
+ * which lets mods give variants to entities they do not own. <br>
+ * The check is an {@code instanceof} followed by a lookup in an immutable {@link Set}, so it never locks.
+ * </p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #register(EntityType)} - Registers an entity type as variant-capable.</li>
+ *   <li>{@link #isVariantCapable(Entity)} - Checks if an entity tracks a variant.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see software.bluelib.mixin.variant.LivingEntityMixin
+ * @since 1.0.0
+ */
+public final class VariantEntityTypes {
+
+    /**
+     * A {@code private static volatile} {@link Set} of the entity types that were registered as variant-capable.
+     * <p>
+     * The {@link Set} is immutable. {@link #register(EntityType)} publishes a new copy.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private static volatile Set<EntityType<?>> registered = Set.of();
+
+    /**
+     * A {@code private} constructor to prevent instantiation.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private VariantEntityTypes() {
+    }
+
+    /**
+     * A {@code public static synchronized void} that registers an entity type as variant-capable.
+     * <p>
+     * Entity types whose class implements {@link IVariantEntity} are variant-capable without registering.
+     * </p>
+     *
+     * @param pType {@link EntityType} - The entity type.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static synchronized void register(EntityType<?> pType) {
+        if (registered.contains(pType)) {
+            return;
+        }
+        Set<EntityType<?>> next = new HashSet<>(registered);
+        next.add(pType);
+        registered = Set.copyOf(next);
+        LogCategory.VARIANT.log(BaseLogLevel.INFO, "Registered variant-capable entity type: " + BuiltInRegistries.ENTITY_TYPE.getKey(pType));
+    }
+
+    /**
+     * A {@code public static} {@code boolean} that checks if an entity tracks a variant.
+     *
+     * @param pEntity {@link Entity} - The entity.
+     * @return {@code true} if the entity implements {@link IVariantEntity} or its type was registered, {@code false} otherwise.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static boolean isVariantCapable(Entity pEntity) {
+        return pEntity instanceof IVariantEntity || registered.contains(pEntity.getType());
+    }
+}
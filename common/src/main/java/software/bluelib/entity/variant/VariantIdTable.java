@@ -0,0 +1,268 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.entity.variant;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.EntityType;
+import software.bluelib.network.VariantIdSyncPayload;
+import software.bluelib.utils.logging.BaseLogLevel;
+import software.bluelib.utils.logging.LogCategory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@code public final class} that assigns every variant name a small integer ID per {@link EntityType}.
+ * <p>
+ * Entities sync the ID of their variant instead of its name, so the tracked value is a single VarInt on the wire. <br>
+ * The {@link #SERVER} table is authoritative: it assigns the next free ID the first time a name is used for an entity type
+ * and never reuses or reorders IDs while the server runs, so IDs stay stable across variant reloads. The {@link #CLIENT}
+ * table is a copy of it, sent in full at login and extended by a delta whenever the server assigns a new ID.
+ * Because the client resolves IDs only through the server's table, its own variant files do not need to match. An ID
+ * the client does not know resolves to {@code null}, and the caller falls back to its default variant.
+ * </p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #get(boolean)} - Retrieves the table of a logical side.</li>
+ *   <li>{@link #getId(EntityType, String)} - Retrieves the ID of a variant name.</li>
+ *   <li>{@link #getOrCreateId(EntityType, String)} - Retrieves the ID of a variant name, assigning one if needed.</li>
+ *   <li>{@link #getName(EntityType, int)} - Retrieves the variant name of an ID.</li>
+ *   <li>{@link #toPayload()} - Creates a payload with the full table.</li>
+ *   <li>{@link #apply(VariantIdSyncPayload)} - Applies a payload received from the server.</li>
+ *   <li>{@link #clear()} - Removes all IDs.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see software.bluelib.mixin.variant.LivingEntityMixin
+ * @since 1.0.0
+ */
+public final class VariantIdTable {
+
+    /**
+     * A {@code public static final} {@code int} that represents the absence of a variant ID.
+     *
+     * @since 1.0.0
+     */
+    public static final int NO_ID = -1;
+
+    /**
+     * A {@code public static final} {@link VariantIdTable} that holds the authoritative IDs of the logical server.
+     *
+     * @since 1.0.0
+     */
+    public static final VariantIdTable SERVER = new VariantIdTable("server");
+
+    /**
+     * A {@code public static final} {@link VariantIdTable} that holds the IDs received by the logical client.
+     *
+     * @since 1.0.0
+     */
+    public static final VariantIdTable CLIENT = new VariantIdTable("client");
+
+    /**
+     * A {@code private final} {@link String} that holds the name of the logical side, used in log messages.
+     *
+     * @since 1.0.0
+     */
+    private final String side;
+
+    /**
+     * A {@code private final} {@link Map} of the IDs of every entity type.
+     *
+     * @since 1.0.0
+     */
+    private final Map<EntityType<?>, EntityIds> ids = new ConcurrentHashMap<>();
+
+    /**
+     * A {@code private} constructor that creates a new {@link VariantIdTable}.
+     *
+     * @param pSide {@link String} - The name of the logical side.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private VariantIdTable(String pSide) {
+        this.side = pSide;
+    }
+
+    /**
+     * A {@code public static} {@link VariantIdTable} that retrieves the table of a logical side.
+     *
+     * @param pClientSide {@code boolean} - Whether the logical client is requested.
+     * @return {@link VariantIdTable} - {@link #CLIENT} or {@link #SERVER}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static VariantIdTable get(boolean pClientSide) {
+        return pClientSide ? CLIENT : SERVER;
+    }
+
+    /**
+     * A {@code public} {@code int} that retrieves the ID of a variant name.
+     *
+     * @param pType        {@link EntityType} - The entity type.
+     * @param pVariantName {@link String} - The variant name.
+     * @return {@code int} - The ID, or {@link #NO_ID} if the name has none.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int getId(EntityType<?> pType, String pVariantName) {
+        EntityIds entityIds = ids.get(pType);
+        return entityIds == null ? NO_ID : entityIds.byName.getOrDefault(pVariantName, NO_ID);
+    }
+
+    /**
+     * A {@code public} {@code int} that retrieves the ID of a variant name, assigning the next free ID if it has none.
+     * <p>
+     * Only the {@link #SERVER} table assigns IDs; the caller is responsible for sending new IDs to the clients.
+     * </p>
+     *
+     * @param pType        {@link EntityType} - The entity type.
+     * @param pVariantName {@link String} - The variant name.
+     * @return {@code int} - The ID.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int getOrCreateId(EntityType<?> pType, String pVariantName) {
+        int id = getId(pType, pVariantName);
+        return id != NO_ID ? id : ids.computeIfAbsent(pType, k -> new EntityIds()).add(pVariantName);
+    }
+
+    /**
+     * A {@code public} {@link String} that retrieves the variant name of an ID.
+     *
+     * @param pType {@link EntityType} - The entity type.
+     * @param pId   {@code int} - The ID.
+     * @return {@link String} - The variant name, or {@code null} if the ID is unknown.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public String getName(EntityType<?> pType, int pId) {
+        EntityIds entityIds = ids.get(pType);
+        if (entityIds == null || pId < 0) {
+            return null;
+        }
+        String[] names = entityIds.names;
+        return pId < names.length ? names[pId] : null;
+    }
+
+    /**
+     * A {@code public} {@link VariantIdSyncPayload} that creates a payload with the full table, to send to a client at login.
+     *
+     * @return {@link VariantIdSyncPayload} - The payload.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public VariantIdSyncPayload toPayload() {
+        List<VariantIdSyncPayload.Entry> entries = new ArrayList<>(ids.size());
+        for (Map.Entry<EntityType<?>, EntityIds> entry : ids.entrySet()) {
+            entries.add(new VariantIdSyncPayload.Entry(BuiltInRegistries.ENTITY_TYPE.getKey(entry.getKey()), 0, List.of(entry.getValue().names)));
+        }
+        return new VariantIdSyncPayload(true, entries);
+    }
+
+    /**
+     * A {@code public void} that applies a payload received from the server.
+     * <p>
+     * A full payload replaces the table. A delta appends names from its first ID on; names this table already holds are
+     * skipped, so a delta may arrive more than once. A delta that starts past the end of the table, or an entity type
+     * this side does not know, is logged and skipped, and the affected IDs resolve to {@code null}.
+     * </p>
+     *
+     * @param pPayload {@link VariantIdSyncPayload} - The payload.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public void apply(VariantIdSyncPayload pPayload) {
+        if (pPayload.full()) {
+            ids.clear();
+        }
+        for (VariantIdSyncPayload.Entry entry : pPayload.entries()) {
+            Optional<EntityType<?>> type = BuiltInRegistries.ENTITY_TYPE.getOptional(entry.entityType());
+            if (type.isEmpty()) {
+                LogCategory.VARIANT.log(BaseLogLevel.WARNING, "Ignoring variant IDs of unknown entity type: " + entry.entityType() + " on the " + side);
+                continue;
+            }
+            if (!ids.computeIfAbsent(type.get(), k -> new EntityIds()).addAll(entry.firstId(), entry.names())) {
+                LogCategory.VARIANT.log(BaseLogLevel.WARNING, "Missed variant IDs of entity type: " + entry.entityType() + " before ID " + entry.firstId() + " on the " + side + ", falling back to default variants");
+            }
+        }
+    }
+
+    /**
+     * A {@code public void} that removes all IDs, such as when the server stops.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public void clear() {
+        ids.clear();
+    }
+
+    /**
+     * A {@code private static final class} that holds the IDs of a single entity type.
+     * <p>
+     * Reads never lock. Writers append under the instance lock and publish a new {@link #names} array.
+     * </p>
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private static final class EntityIds {
+
+        /**
+         * A {@code private final} {@link Map} of the ID of every variant name.
+         *
+         * @since 1.0.0
+         */
+        private final Map<String, Integer> byName = new ConcurrentHashMap<>();
+
+        /**
+         * A {@code private volatile} {@link String} array of the variant name of every ID.
+         *
+         * @since 1.0.0
+         */
+        private volatile String[] names = new String[0];
+
+        /**
+         * A {@code private synchronized} {@code int} that assigns the next free ID to a variant name.
+         *
+         * @param pVariantName {@link String} - The variant name.
+         * @return {@code int} - The ID, which may already have been assigned by another thread.
+         * @author MeAlam
+         * @since 1.0.0
+         */
+        private synchronized int add(String pVariantName) {
+            Integer existing = byName.get(pVariantName);
+            if (existing != null) {
+                return existing;
+            }
+            String[] current = names;
+            String[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = pVariantName;
+            names = next;
+            byName.put(pVariantName, current.length);
+            return current.length;
+        }
+
+        /**
+         * A {@code private synchronized} {@code boolean} that appends the variant names of a delta.
+         *
+         * @param pFirstId {@code int} - The ID of the first name.
+         * @param pNames   {@link List} - The names, ordered by ID.
+         * @return {@code true} if the names were appended or already present, {@code false} if IDs before them are missing.
+         * @author MeAlam
+         * @since 1.0.0
+         */
+        private synchronized boolean addAll(int pFirstId, List<String> pNames) {
+            String[] current = names;
+            if (pFirstId > current.length) {
+                return false;
+            }
+            for (int i = current.length - pFirstId; i < pNames.size(); i++) {
+                add(pNames.get(i));
+            }
+            return true;
+        }
+    }
+}
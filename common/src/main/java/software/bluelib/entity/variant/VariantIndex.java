@@ -0,0 +1,376 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.entity.variant;
+
+import net.minecraft.core.Holder;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.biome.Biome;
+import software.bluelib.entity.variant.base.ParameterSchema;
+import software.bluelib.utils.logging.BaseLogLevel;
+import software.bluelib.utils.logging.LogCategory;
+
+import java.util.*;
+
+/**
+ * A {@code public final class} that holds an immutable, indexed view of all {@link VariantParameter} instances of a single entity.
+ * <p>
+ * Every variant is given a stable ordinal in the order it was loaded. Variants can be looked up by name or by ordinal
+ * in constant time. A random variant is picked by its {@code weight} parameter in constant time with a {@link VariantSampler},
+ * without building any intermediate collection. <br>
+ * The {@link SpawnCondition} of every variant is compiled into a {@link VariantSpawnIndex}, so a variant that matches the
+ * dimension, biome and Y level of a spawn position can be picked with a map lookup and a constant time draw. <br>
+ * The parameters of every variant are also copied once into an immutable parameter view, so callers such as
+ * {@link software.bluelib.utils.variant.ParameterUtils} read them without building a map per call.
+ * </p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #of(String, Collection)} - Builds a new {@link VariantIndex} from a collection of {@link VariantParameter}.</li>
+ *   <li>{@link #getVariant(String)} - Retrieves a {@link VariantParameter} by its name.</li>
+ *   <li>{@link #getVariant(int)} - Retrieves a {@link VariantParameter} by its ordinal.</li>
+ *   <li>{@link #getOrdinal(String)} - Retrieves the ordinal of a variant.</li>
+ *   <li>{@link #containsVariant(String)} - Checks if a variant exists.</li>
+ *   <li>{@link #getParameterView(String)} - Retrieves the precomputed parameters of a variant.</li>
+ *   <li>{@link #getRandomVariant(RandomSource)} - Picks a random {@link VariantParameter} by weight.</li>
+ *   <li>{@link #getRandomOrdinal(RandomSource)} - Picks the ordinal of a random variant by weight.</li>
+ *   <li>{@link #getRandomVariant(ResourceKey, Holder, int, RandomSource)} - Picks a random {@link VariantParameter} by weight that matches a spawn position.</li>
+ *   <li>{@link #getRandomOrdinal(ResourceKey, Holder, int, RandomSource)} - Picks the ordinal of a random variant by weight that matches a spawn position.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see VariantRegistry
+ * @since 1.0.0
+ */
+public final class VariantIndex {
+
+    /**
+     * A {@code private final} {@link String} that holds the name of the entity this index belongs to.
+     *
+     * @since 1.0.0
+     */
+    private final String entityName;
+
+    /**
+     * A {@code private final} array of {@link VariantParameter} ordered by ordinal.
+     *
+     * @since 1.0.0
+     */
+    private final VariantParameter[] variants;
+
+    /**
+     * A {@code private final} {@link Map} from variant name to ordinal.
+     *
+     * @since 1.0.0
+     */
+    private final Map<String, Integer> ordinals;
+
+    /**
+     * A {@code private final} immutable {@link List} view of {@link #variants}.
+     *
+     * @since 1.0.0
+     */
+    private final List<VariantParameter> variantList;
+
+    /**
+     * A {@code private final} immutable {@link List} of variant names ordered by ordinal.
+     *
+     * @since 1.0.0
+     */
+    private final List<String> variantNames;
+
+    /**
+     * A {@code private final} {@link VariantSampler} that draws weighted random ordinals.
+     *
+     * @since 1.0.0
+     */
+    private final VariantSampler sampler;
+
+    /**
+     * A {@code private final} {@link VariantSpawnIndex} that draws weighted random ordinals that match a spawn position.
+     *
+     * @since 1.0.0
+     */
+    private final VariantSpawnIndex spawnIndex;
+
+    /**
+     * A {@code private final} immutable {@link List} of the parameter view of every variant, ordered by ordinal.
+     *
+     * @since 1.0.0
+     */
+    private final List<Map<String, String>> parameterViews;
+
+    /**
+     * A {@code private} constructor that creates a new {@link VariantIndex}.
+     *
+     * @param pEntityName {@link String} - The name of the entity.
+     * @param pVariants   {@link VariantParameter} array - The variants ordered by ordinal.
+     * @param pOrdinals   {@link Map} - The ordinals of the variants, keyed by variant name.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private VariantIndex(String pEntityName, VariantParameter[] pVariants, Map<String, Integer> pOrdinals) {
+        this.entityName = pEntityName;
+        this.variants = pVariants;
+        this.ordinals = pOrdinals;
+        this.variantList = List.of(pVariants);
+        String[] names = new String[pVariants.length];
+        for (int i = 0; i < pVariants.length; i++) {
+            names[i] = pVariants[i].getVariantParameter();
+        }
+        this.variantNames = List.of(names);
+        List<Map<String, String>> views = new ArrayList<>(pVariants.length);
+        for (VariantParameter variant : pVariants) {
+            views.add(variant.toParameterView());
+        }
+        this.parameterViews = List.copyOf(views);
+        double[] weights = VariantSampler.readWeights(pVariants, pEntityName);
+        SpawnCondition[] conditions = new SpawnCondition[pVariants.length];
+        for (int i = 0; i < pVariants.length; i++) {
+            conditions[i] = SpawnCondition.of(pVariants[i]);
+        }
+        this.sampler = VariantSampler.ofWeights(weights);
+        this.spawnIndex = new VariantSpawnIndex(conditions, weights, sampler);
+    }
+
+    /**
+     * A {@code public static} {@link VariantIndex} that builds a new index from a collection of {@link VariantParameter}.
+     * <p>
+     * Ordinals are assigned in iteration order. When multiple variants share the same name, the first one is kept and the
+     * others are skipped with a warning. Duplicate detection uses a hash lookup, so building the index is linear in the
+     * number of variants. Variants that declare a parent are resolved by {@link VariantInheritance#flatten(String, Collection)}
+     * first, so every indexed variant holds all of its parameters. <br>
+     * The indexed variants are copied into a new {@link ParameterSchema} that holds only their keys, so the slots of the index
+     * never include keys of variants that are no longer loaded.
+     * </p>
+     *
+     * @param pEntityName {@link String} - The name of the entity.
+     * @param pVariants   {@link Collection<VariantParameter>} - The variants to index.
+     * @return {@link VariantIndex} - The new index.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static VariantIndex of(String pEntityName, Collection<VariantParameter> pVariants) {
+        return of(pEntityName, pVariants, new IdentityHashMap<>());
+    }
+
+    /**
+     * A {@code static} {@link VariantIndex} that builds a new index and records which copy replaced every given variant.
+     * <p>
+     * This works like {@link #of(String, Collection)}. Every given variant that made it into the index is mapped to its
+     * copy in {@code pCopies}, so callers that keep the given variants, such as the resource cache of {@link VariantLoader},
+     * can hold the copies instead and never keep every variant twice.
+     * </p>
+     *
+     * @param pEntityName {@link String} - The name of the entity.
+     * @param pVariants   {@link Collection<VariantParameter>} - The variants to index.
+     * @param pCopies     {@link Map} - Receives the copy of every indexed variant, keyed by the given variant; should compare by identity.
+     * @return {@link VariantIndex} - The new index.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    static VariantIndex of(String pEntityName, Collection<VariantParameter> pVariants, Map<VariantParameter, VariantParameter> pCopies) {
+        Map<String, Integer> ordinals = new HashMap<>(Math.max(16, pVariants.size() * 2));
+        List<VariantParameter> unique = new ArrayList<>(pVariants.size());
+        List<VariantParameter> sources = new ArrayList<>(pVariants.size());
+        Iterator<VariantParameter> given = pVariants.iterator();
+        for (VariantParameter variant : VariantInheritance.flatten(pEntityName, pVariants)) {
+            VariantParameter source = given.next();
+            String variantName = variant.getVariantParameter();
+            if (variantName == null) {
+                LogCategory.VARIANT.log(BaseLogLevel.WARNING, "Skipping variant without a name for entity: " + pEntityName);
+                continue;
+            }
+            if (ordinals.putIfAbsent(variantName, unique.size()) == null) {
+                unique.add(variant);
+                sources.add(source);
+            } else {
+                LogCategory.VARIANT.log(BaseLogLevel.WARNING, "Skipping duplicate variant: " + variantName + " for entity: " + pEntityName);
+            }
+        }
+        ParameterSchema schema = new ParameterSchema();
+        VariantParameter[] variants = new VariantParameter[unique.size()];
+        for (int i = 0; i < variants.length; i++) {
+            variants[i] = new VariantParameter(schema, unique.get(i));
+            pCopies.put(sources.get(i), variants[i]);
+        }
+        return new VariantIndex(pEntityName, variants, ordinals);
+    }
+
+    /**
+     * A {@code public} {@link String} that returns the name of the entity this index belongs to.
+     *
+     * @return {@link String} - The name of the entity.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public String getEntityName() {
+        return entityName;
+    }
+
+    /**
+     * A {@code public} {@link VariantParameter} that retrieves a variant by its name.
+     *
+     * @param pVariantName {@link String} - The name of the variant.
+     * @return {@link VariantParameter} - The variant, or {@code null} if it does not exist.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public VariantParameter getVariant(String pVariantName) {
+        Integer ordinal = ordinals.get(pVariantName);
+        return ordinal == null ? null : variants[ordinal];
+    }
+
+    /**
+     * A {@code public} {@link VariantParameter} that retrieves a variant by its ordinal.
+     *
+     * @param pOrdinal {@code int} - The ordinal of the variant.
+     * @return {@link VariantParameter} - The variant, or {@code null} if the ordinal is out of range.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public VariantParameter getVariant(int pOrdinal) {
+        return pOrdinal >= 0 && pOrdinal < variants.length ? variants[pOrdinal] : null;
+    }
+
+    /**
+     * A {@code public} {@code int} that retrieves the ordinal of a variant.
+     *
+     * @param pVariantName {@link String} - The name of the variant.
+     * @return {@code int} - The ordinal of the variant, or {@code -1} if it does not exist.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int getOrdinal(String pVariantName) {
+        Integer ordinal = ordinals.get(pVariantName);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * A {@code public} {@link Boolean} that checks if a variant exists.
+     *
+     * @param pVariantName {@link String} - The name of the variant.
+     * @return {@code true} if the variant exists, {@code false} otherwise.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public boolean containsVariant(String pVariantName) {
+        return ordinals.containsKey(pVariantName);
+    }
+
+    /**
+     * A {@code public} {@link Map} that retrieves the precomputed parameters of a variant.
+     * <p>
+     * The view is built once when this index is built, so the same instance is returned until the next reload.
+     * </p>
+     *
+     * @param pVariantName {@link String} - The name of the variant.
+     * @return {@link Map} - An immutable {@link Map} of the string value of every parameter, or {@code null} if the variant does not exist.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public Map<String, String> getParameterView(String pVariantName) {
+        Integer ordinal = ordinals.get(pVariantName);
+        return ordinal == null ? null : parameterViews.get(ordinal);
+    }
+
+    /**
+     * A {@code public} {@code int} that returns the number of variants in this index.
+     *
+     * @return {@code int} - The number of variants.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int size() {
+        return variants.length;
+    }
+
+    /**
+     * A {@code public} {@link Boolean} that checks if this index contains no variants.
+     *
+     * @return {@code true} if the index is empty, {@code false} otherwise.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public boolean isEmpty() {
+        return variants.length == 0;
+    }
+
+    /**
+     * A {@code public} {@link List<VariantParameter>} that returns all variants ordered by ordinal.
+     *
+     * @return {@link List<VariantParameter>} - An immutable {@link List} of all variants.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public List<VariantParameter> getVariants() {
+        return variantList;
+    }
+
+    /**
+     * A {@code public} {@link List<String>} that returns the names of all variants ordered by ordinal.
+     *
+     * @return {@link List<String>} - An immutable {@link List} of all variant names.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public List<String> getVariantNames() {
+        return variantNames;
+    }
+
+    /**
+     * A {@code public} {@link VariantParameter} that picks a random variant, weighted by its {@code weight} parameter.
+     *
+     * @param pRandom {@link RandomSource} - The random source to draw from. It should not be shared between threads.
+     * @return {@link VariantParameter} - A random variant, or {@code null} if the index is empty.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public VariantParameter getRandomVariant(RandomSource pRandom) {
+        int ordinal = sampler.sample(pRandom);
+        return ordinal < 0 ? null : variants[ordinal];
+    }
+
+    /**
+     * A {@code public} {@code int} that picks the ordinal of a random variant, weighted by its {@code weight} parameter.
+     *
+     * @param pRandom {@link RandomSource} - The random source to draw from. It should not be shared between threads.
+     * @return {@code int} - The ordinal of a random variant, or {@code -1} if the index is empty.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int getRandomOrdinal(RandomSource pRandom) {
+        return sampler.sample(pRandom);
+    }
+
+    /**
+     * A {@code public} {@link VariantParameter} that picks a random variant that matches a spawn position, weighted by its {@code weight} parameter.
+     *
+     * @param pDimension {@link ResourceKey} - The dimension of the spawn position.
+     * @param pBiome     {@link Holder} - The biome at the spawn position.
+     * @param pY         {@code int} - The Y level of the spawn position.
+     * @param pRandom    {@link RandomSource} - The random source to draw from. It should not be shared between threads.
+     * @return {@link VariantParameter} - A matching variant, or {@code null} if no variant matches.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public VariantParameter getRandomVariant(ResourceKey<Level> pDimension, Holder<Biome> pBiome, int pY, RandomSource pRandom) {
+        int ordinal = getRandomOrdinal(pDimension, pBiome, pY, pRandom);
+        return ordinal < 0 ? null : variants[ordinal];
+    }
+
+    /**
+     * A {@code public} {@code int} that picks the ordinal of a random variant that matches a spawn position, weighted by its {@code weight} parameter.
+     *
+     * @param pDimension {@link ResourceKey} - The dimension of the spawn position.
+     * @param pBiome     {@link Holder} - The biome at the spawn position.
+     * @param pY         {@code int} - The Y level of the spawn position.
+     * @param pRandom    {@link RandomSource} - The random source to draw from. It should not be shared between threads.
+     * @return {@code int} - The ordinal of a matching variant, or {@code -1} if no variant matches.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int getRandomOrdinal(ResourceKey<Level> pDimension, Holder<Biome> pBiome, int pY, RandomSource pRandom) {
+        return spawnIndex.getRandomOrdinal(pDimension, pBiome, pY, pRandom);
+    }
+}
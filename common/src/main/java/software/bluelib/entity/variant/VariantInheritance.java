@@ -0,0 +1,141 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.entity.variant;
+
+import software.bluelib.utils.logging.BaseLogLevel;
+import software.bluelib.utils.logging.LogCategory;
+
+import java.util.*;
+
+/**
+ * A {@code public final class} that resolves variants which inherit the parameters of another variant.
+ * <p>
+ * A variant declares its parent with {@code "parent": "<variantName>"} and only lists the parameters it overrides.
+ * {@link #flatten(String, Collection)} runs once per entity while its {@link VariantIndex} is built, and replaces every
+ * inheriting variant with a fully resolved {@link VariantParameter}, so lookups never walk the inheritance chain. <br>
+ * Every variant is resolved at most once; chains share the resolved parents. The {@link #PARENT_KEY} is not copied into
+ * the resolved variants, so only the declared variants keep it. A parent that does not exist is logged and ignored. A cycle is logged and broken at the edge that closes it, so the result does not depend on anything but the
+ * load order.
+ * </p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #flatten(String, Collection)} - Resolves the inheritance of all variants of an entity.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see VariantIndex#of(String, Collection)
+ * @since 1.0.0
+ */
+public final class VariantInheritance {
+
+    /**
+     * A {@code public static final} {@link String} that holds the key a variant declares its parent with.
+     *
+     * @since 1.0.0
+     */
+    public static final String PARENT_KEY = "parent";
+
+    /**
+     * A {@code private} constructor to prevent instantiation.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private VariantInheritance() {
+    }
+
+    /**
+     * A {@code public static} {@link List} that resolves the inheritance of all variants of an entity.
+     * <p>
+     * Variants are resolved from their declared parameters, so variants that were resolved before, such as the ones kept
+     * from an earlier reload, pick up changes to their parents. The order of the variants is kept. If no variant declares
+     * a parent, the declared variants are returned without any copy.
+     * </p>
+     *
+     * @param pEntityName {@link String} - The name of the entity, used in log messages.
+     * @param pVariants   {@link Collection} - The variants of the entity, in load order.
+     * @return {@link List} - The resolved variants, in the same order.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static List<VariantParameter> flatten(String pEntityName, Collection<VariantParameter> pVariants) {
+        List<VariantParameter> declared = new ArrayList<>(pVariants.size());
+        Map<String, VariantParameter> byName = new HashMap<>(Math.max(16, pVariants.size() * 2));
+        boolean inherits = false;
+        for (VariantParameter variant : pVariants) {
+            VariantParameter own = variant.getDeclared();
+            declared.add(own);
+            String variantName = own.getVariantParameter();
+            if (variantName != null) {
+                byName.putIfAbsent(variantName, own);
+            }
+            inherits |= own.getString(PARENT_KEY) != null;
+        }
+        if (!inherits) {
+            return declared;
+        }
+
+        Map<String, VariantParameter> resolved = new HashMap<>(byName.size() * 2);
+        List<VariantParameter> result = new ArrayList<>(declared.size());
+        for (VariantParameter variant : declared) {
+            String variantName = variant.getVariantParameter();
+            if (variantName == null || byName.get(variantName) != variant) {
+                result.add(variant);
+                continue;
+            }
+            result.add(resolve(pEntityName, variantName, byName, resolved));
+        }
+        LogCategory.VARIANT.log(BaseLogLevel.INFO, () -> "Resolved variant inheritance for entity: " + pEntityName);
+        return result;
+    }
+
+    /**
+     * A {@code private static} {@link VariantParameter} that resolves a single variant and every unresolved ancestor.
+     * <p>
+     * The chain is walked upwards until it reaches a resolved variant, a variant without a parent, a missing parent or a
+     * variant that is already on the chain. The chain is then resolved downwards, each variant on top of its resolved parent.
+     * </p>
+     *
+     * @param pEntityName  {@link String} - The name of the entity, used in log messages.
+     * @param pVariantName {@link String} - The name of the variant to resolve.
+     * @param pByName      {@link Map} - The declared variants, keyed by name.
+     * @param pResolved    {@link Map} - The variants resolved so far, keyed by name.
+     * @return {@link VariantParameter} - The resolved variant.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private static VariantParameter resolve(String pEntityName, String pVariantName, Map<String, VariantParameter> pByName, Map<String, VariantParameter> pResolved) {
+        VariantParameter base;
+        Deque<String> chain = new ArrayDeque<>();
+        Set<String> onChain = new HashSet<>();
+        String current = pVariantName;
+        while (true) {
+            base = pResolved.get(current);
+            if (base != null) {
+                break;
+            }
+            if (!onChain.add(current)) {
+                LogCategory.VARIANT.log(BaseLogLevel.ERROR, "Variant inheritance cycle at: " + current + " for entity: " + pEntityName + ", ignoring the parent of: " + chain.peek());
+                break;
+            }
+            chain.push(current);
+            String parent = pByName.get(current).getString(PARENT_KEY);
+            if (parent == null) {
+                break;
+            }
+            if (!pByName.containsKey(parent)) {
+                LogCategory.VARIANT.log(BaseLogLevel.WARNING, "Missing parent variant: " + parent + " of variant: " + current + " for entity: " + pEntityName);
+                break;
+            }
+            current = parent;
+        }
+
+        while (!chain.isEmpty()) {
+            String variantName = chain.pop();
+            VariantParameter own = pByName.get(variantName);
+            base = base == null && own.getString(PARENT_KEY) == null ? own : new VariantParameter(base, own);
+            pResolved.put(variantName, base);
+        }
+        return base;
+    }
+}
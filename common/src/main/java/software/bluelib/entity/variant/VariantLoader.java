@@ -2,32 +2,71 @@
 
 package software.bluelib.entity.variant;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.packs.resources.Resource;
 import net.minecraft.server.packs.resources.ResourceManager;
+import software.bluelib.BlueLibCommon;
+import software.bluelib.entity.variant.base.ParameterSchema;
 import software.bluelib.interfaces.variant.base.IVariantEntityBase;
 import software.bluelib.json.JSONLoader;
-import software.bluelib.json.JSONMerger;
+import software.bluelib.utils.concurrent.BlueLibExecutor;
 import software.bluelib.utils.logging.BaseLogLevel;
-import software.bluelib.utils.logging.BaseLogger;
+import software.bluelib.utils.logging.LogCategory;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A {@code public class} that implements the {@link IVariantEntityBase} {@code interface} that manages the loading and storage of entity variants.
  * <p>
- * The class handles loading and merging of JSON Data by utilizing the {@link JSONLoader} and {@link JSONMerger} classes. <br>
- * To load the Variants it loops through all resources in a folder and merges them into a single {@link JsonObject}. <br>
- * The merged JSON data is then parsed into {@link VariantParameter} instances and stored in {@link #entityVariantsMap}. <br>
+ * The class handles loading of JSON Data by utilizing the {@link JSONLoader} class. <br>
+ * To load the Variants it streams every resource in a folder in parallel on {@link #LOADER_POOL}, creating a
+ * {@link VariantParameter} for each variant object as it is read, without ever building a JSON tree for the document. <br>
+ * The parsed {@link VariantParameter} instances are then combined in resource order into a new {@link VariantRegistry} snapshot,
+ * which replaces {@link #registry} with a single reference swap. <br>
+ * A load is split in a prepare phase, {@link #prepareAllVariants(String, ResourceManager, Collection)}, that does all I/O, parsing
+ * and indexing and can run on a worker thread, and an apply phase, {@link #applyVariants(PreparedVariants)}, that only publishes
+ * the prepared snapshot with a single reference swap and is cheap enough for the server thread. A prepared snapshot that
+ * another load has overtaken is never indexed again on the applying thread; it is dropped and prepared again in the background. <br>
+ * </p>
+ * <p>
+ * Reloads are incremental. Every resource is fingerprinted with a {@link ResourceFingerprint}, and a resource whose fingerprint
+ * did not change reuses the variants parsed last time. Only entities with a changed, added or removed resource get a new
+ * {@link VariantIndex}; all other entities keep the index of the current snapshot. <br>
+ * With the system property {@code bluelib.variant.cache} set to {@code true}, the parsed variants are also persisted to a
+ * {@link VariantCache} file in the game directory, so a cold start only has to fingerprint the resources and can skip JSON
+ * parsing for every resource that did not change.
+ * </p>
+ * <p>
+ * All read methods are safe to call from any thread, including render and worker threads. They never lock and always observe
+ * a complete snapshot, even while a reload is in progress. Loading may be started from any thread as well.
  * </p>
  * Key Methods:
  * <ul>
- *   <li>{@link #loadVariants(String, MinecraftServer, String)} - Loads and merges variant data by looping thru all resources in a folder.</li>
+ *   <li>{@link #loadVariants(String, MinecraftServer, String)} - Loads and parses variant data from all resources in a folder in parallel.</li>
+ *   <li>{@link #loadAllVariants(String, MinecraftServer, Collection)} - Loads the variants of multiple entities with a single resource scan.</li>
+ *   <li>{@link #loadAllVariants(String, ResourceManager, Collection)} - Loads the variants of multiple entities from a specific {@link ResourceManager}.</li>
+ *   <li>{@link #prepareAllVariants(String, ResourceManager, Collection)} - Reads and parses the variants of multiple entities without publishing them.</li>
+ *   <li>{@link #prepareAllVariants(Map, ResourceManager)} - Reads and parses the variants of the entities of several base paths at once.</li>
+ *   <li>{@link #applyVariants(PreparedVariants)} - Publishes prepared variants with a single reference swap.</li>
  *   <li>{@link #getVariantsFromEntity(String)} - Retrieves the list of loaded {@link VariantParameter} for a specific entity.</li>
  *   <li>{@link #getVariantByName(String, String)} - Retrieves a specific {@link VariantParameter} by its name for a given entity.</li>
+ *   <li>{@link #getRegistry()} - Retrieves the current {@link VariantRegistry} snapshot.</li>
+ *   <li>{@link #invalidateResourceCache()} - Forces the next load to parse every resource again.</li>
+ *   <li>{@link #openCache()} - Reads the {@link VariantCache} file before the first load.</li>
  * </ul>
  *
  * @author MeAlam
@@ -36,14 +75,25 @@ import java.util.*;
 public class VariantLoader implements IVariantEntityBase {
 
     /**
-     * A {@code private static final} {@link Map<String>} to store entity variants as key-value pairs.
+     * A {@code private static volatile} {@link VariantRegistry} that holds the current snapshot of all entity variants.
+     * <p>
+     * The snapshot is immutable. Reloads build a new {@link VariantRegistry} and replace this reference in one write,
+     * so readers always see either the old or the new snapshot as a whole.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private static volatile VariantRegistry registry = VariantRegistry.EMPTY;
+
+    /**
+     * A {@code private static final} {@link Object} that serializes writers of {@link #registry}.
      * <p>
-     * This {@link Map<String>} holds entity names and their corresponding list of {@link VariantParameter} instances.
+     * Only the code that builds and publishes a new snapshot holds this lock; readers of {@link #registry} never do.
      * </p>
      *
      * @since 1.0.0
      */
-    private static final Map<String, List<VariantParameter>> entityVariantsMap = new HashMap<>();
+    private static final Object PUBLISH_LOCK = new Object();
 
     /**
      * A {@code private static final} {@link JSONLoader} to load JSON data from resources.
@@ -53,20 +103,130 @@ public class VariantLoader implements IVariantEntityBase {
     private static final JSONLoader jsonLoader = new JSONLoader();
 
     /**
-     * A {@code private static final} {@link JSONMerger} to merge JSON data.
+     * A {@code private static final} {@link Integer} that defines the maximum number of worker threads used to load variant resources.
+     * <p>
+     * One core is left free for the server thread, and the pool never grows beyond four workers.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private static final int LOADER_PARALLELISM = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() - 1, 4));
+
+    /**
+     * A {@code private static final} {@link ForkJoinPool} that reads and parses variant resources in parallel.
      * <p>
-     * This {@link JSONMerger} instance is used to merge JSON data into a single {@link JsonObject}.
+     * The pool is bounded by {@link #LOADER_PARALLELISM} and uses named daemon threads, so it never keeps the JVM alive.
      * </p>
      *
      * @since 1.0.0
      */
-    private static final JSONMerger jsonMerger = new JSONMerger();
+    private static final ForkJoinPool LOADER_POOL = new ForkJoinPool(LOADER_PARALLELISM, pPool -> {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pPool);
+        thread.setName("BlueLib-VariantLoader-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }, null, false);
+
+    /**
+     * A {@code private static final} {@link Map} that holds the fingerprint and parsed variants of every loaded resource.
+     *
+     * @since 1.0.0
+     */
+    private static final Map<ResourceLocation, CachedResource> RESOURCE_CACHE = new ConcurrentHashMap<>();
 
     /**
-     * A {@code public static void} that loads and merges variant data from JSON resources in the specified folder path.
+     * A {@code private static final} {@link Map} that holds the resources every entity was last loaded from, in load order.
      * <p>
-     * The method loops through all resources in the folder and merges them into a single {@link JsonObject}. <br>
-     * The merged JSON data is then parsed into {@link VariantParameter} instances and stored in {@link #entityVariantsMap}.
+     * Only accessed while holding {@link #PUBLISH_LOCK}.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private static final Map<String, List<ResourceLocation>> ENTITY_RESOURCES = new HashMap<>();
+
+    /**
+     * A {@code private static final} {@link Boolean} that indicates if parsed variants are persisted in a {@link VariantCache} file.
+     * <p>
+     * Disabled unless the system property {@code bluelib.variant.cache} is set to {@code true}.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private static final boolean PERSISTENT_CACHE_ENABLED = Boolean.parseBoolean(System.getProperty("bluelib.variant.cache", "false"));
+
+    /**
+     * A {@code private static} {@link Path} that holds the {@link VariantCache} file, or {@code null} until {@link #openCache()} is called.
+     * <p>
+     * Only accessed while holding {@link #PUBLISH_LOCK}.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private static Path cacheFile;
+
+    /**
+     * A {@code private static} {@code long} that holds the combined fingerprint of the resources in {@link #cacheFile}.
+     * <p>
+     * Only accessed while holding {@link #PUBLISH_LOCK}.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private static long persistedFingerprint;
+
+    /**
+     * A {@code private record} that holds the result of loading a single variant resource.
+     *
+     * @param resourceLocation {@link ResourceLocation} - The resource that was loaded.
+     * @param variants         {@link Map} - The parsed {@link VariantParameter} instances, keyed by entity name in file order.
+     * @param elapsedNanos     {@code long} - The time it took to read and parse the resource, in nanoseconds.
+     * @param reused           {@code boolean} - Whether the variants were reused because the resource did not change.
+     * @param cached           {@link CachedResource} - The cached entry that was reused, the new entry to cache once the load
+     *                         is applied, or {@code null} if the resource failed to load.
+     * @since 1.0.0
+     */
+    private record LoadedResource(ResourceLocation resourceLocation, Map<String, List<VariantParameter>> variants, long elapsedNanos, boolean reused, CachedResource cached) {
+    }
+
+    /**
+     * A {@code record} that holds the fingerprint and parsed variants of a resource between reloads.
+     *
+     * @param fingerprint {@link ResourceFingerprint} - The fingerprint of the resource when it was parsed.
+     * @param variants    {@link Map} - The parsed {@link VariantParameter} instances, keyed by entity name in file order.
+     * @since 1.0.0
+     */
+    record CachedResource(ResourceFingerprint fingerprint, Map<String, List<VariantParameter>> variants) {
+
+        /**
+         * A {@link CachedResource} that replaces the cached variants with the copies a {@link VariantIndex} holds.
+         *
+         * @param pCopies {@link Map} - The copy of every indexed variant, keyed by the variant it was copied from.
+         * @return {@link CachedResource} - The entry with the copies, or this entry if none of its variants was copied.
+         * @since 1.0.0
+         */
+        CachedResource compact(Map<VariantParameter, VariantParameter> pCopies) {
+            Map<String, List<VariantParameter>> compacted = new LinkedHashMap<>();
+            boolean replaced = false;
+            for (Map.Entry<String, List<VariantParameter>> entry : variants.entrySet()) {
+                List<VariantParameter> list = new ArrayList<>(entry.getValue().size());
+                for (VariantParameter variant : entry.getValue()) {
+                    VariantParameter copy = pCopies.getOrDefault(variant, variant);
+                    replaced |= copy != variant;
+                    list.add(copy);
+                }
+                compacted.put(entry.getKey(), list);
+            }
+            return replaced ? new CachedResource(fingerprint, compacted) : this;
+        }
+    }
+
+    /**
+     * A {@code public static void} that loads variant data from JSON resources in the specified folder path.
+     * <p>
+     * Every resource in the folder is read and fingerprinted on {@link #LOADER_POOL}; only resources that changed since the last load are parsed. <br>
+     * If nothing changed, the current {@link VariantIndex} of the entity is kept. Otherwise the results are combined in resource order
+     * into a new snapshot that replaces {@link #registry}. <br>
+     * The time spent on every resource, and per namespace, is logged so slow packs can be identified.
      * </p>
      *
      * @param pFolderPath  {@link String} - The path to the folder containing JSON resources.
@@ -74,81 +234,519 @@ public class VariantLoader implements IVariantEntityBase {
      * @param pEntityName {@link String} - The name of the entity whose variants should be cleared before loading new ones.
      */
     public static void loadVariants(String pFolderPath, MinecraftServer pServer, String pEntityName) {
+        long start = System.nanoTime();
+        Map<ResourceLocation, Resource> resources = pServer.getResourceManager().listResources(pFolderPath, pFiles -> pFiles.getPath().endsWith(".json"));
 
-        clearVariantsForEntity(pEntityName);
+        LogCategory.VARIANT.log(BaseLogLevel.INFO, () -> "Found resources: " + resources.keySet() + " at: " + pFolderPath + " for: " + pEntityName);
 
-        ResourceManager resourceManager = pServer.getResourceManager();
-        JsonObject mergedJsonObject = new JsonObject();
+        Map<String, List<ResourceLocation>> entityResources = Map.of(pEntityName, new ArrayList<>(resources.keySet()));
+        openCache();
+        int rebuilt = applyVariants(prepareEntities(entityResources, resources, resources.size(), pEntityName));
+        LogCategory.VARIANT.log(BaseLogLevel.INFO, () -> "Loaded " + resources.size() + " resource(s) for: " + pEntityName + " (" + (rebuilt == 0 ? "unchanged" : "rebuilt") + ") in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+    }
 
-        Collection<ResourceLocation> collection = resourceManager.listResources(pFolderPath, pFiles -> pFiles.getPath().endsWith(".json")).keySet();
+    /**
+     * A {@code public static void} that loads variant data for multiple entities with a single resource scan.
+     * <p>
+     * The folder at {@code pBasePath} is listed once, and every resource is routed to an entity by the name of its first sub-folder,
+     * so {@code variant/entity/dragon/blue.json} belongs to {@code dragon}. Resources in sub-folders that are not in
+     * {@code pEntityNames} are ignored. <br>
+     * All routed resources are fingerprinted on {@link #LOADER_POOL} at once, and only changed resources are parsed again.
+     * The variants of every entity in {@code pEntityNames} with a changed, added or removed resource are cleared and replaced;
+     * the other entities keep their current {@link VariantIndex}.
+     * </p>
+     *
+     * @param pBasePath    {@link String} - The path to the folder that contains one sub-folder per entity.
+     * @param pServer      {@link MinecraftServer} - The {@link MinecraftServer} instance used to access resources.
+     * @param pEntityNames {@link Collection<String>} - The names of the entities to load.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static void loadAllVariants(String pBasePath, MinecraftServer pServer, Collection<String> pEntityNames) {
+        openCache();
+        loadAllVariants(pBasePath, pServer.getResourceManager(), pEntityNames);
+    }
+
+    /**
+     * A {@code public static void} that loads variant data for multiple entities with a single resource scan of a {@link ResourceManager}.
+     * <p>
+     * This works like {@link #loadAllVariants(String, MinecraftServer, Collection)}, but reads from the given {@link ResourceManager},
+     * such as the one handed to a reload listener before the server switches to it. The {@link VariantCache} file is only
+     * updated if it was already opened with {@link #openCache()}. <br>
+     * Both phases run on the calling thread; use {@link #prepareAllVariants(String, ResourceManager, Collection)} and
+     * {@link #applyVariants(PreparedVariants)} to keep the I/O and parsing off the server thread.
+     * </p>
+     *
+     * @param pBasePath        {@link String} - The path to the folder that contains one sub-folder per entity.
+     * @param pResourceManager {@link ResourceManager} - The {@link ResourceManager} used to access resources.
+     * @param pEntityNames     {@link Collection<String>} - The names of the entities to load.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static void loadAllVariants(String pBasePath, ResourceManager pResourceManager, Collection<String> pEntityNames) {
+        long start = System.nanoTime();
+        PreparedVariants prepared = prepareAllVariants(pBasePath, pResourceManager, pEntityNames);
+        int rebuilt = applyVariants(prepared);
+        LogCategory.VARIANT.log(BaseLogLevel.INFO, () -> "Loaded " + prepared.getResourceCount() + " resource(s) for " + pEntityNames.size() + " entities, rebuilt " + rebuilt + ", in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+    }
 
-        BaseLogger.log(BaseLogLevel.INFO, "Found resources: " + collection + " at: " + pFolderPath + " for: " + pEntityName, true);
+    /**
+     * A {@code public static} {@link PreparedVariants} that reads and parses the variants of multiple entities without publishing them.
+     * <p>
+     * This is the prepare phase of a reload and is meant to run on a worker thread. The folder at {@code pBasePath} is listed once
+     * and routed like in {@link #loadAllVariants(String, MinecraftServer, Collection)}, every changed resource is parsed, and the
+     * new {@link VariantIndex} of every changed entity and the resulting {@link VariantRegistry} are built. <br>
+     * Nothing is published: the current snapshot is untouched until the result is passed to {@link #applyVariants(PreparedVariants)}.
+     * </p>
+     *
+     * @param pBasePath        {@link String} - The path to the folder that contains one sub-folder per entity.
+     * @param pResourceManager {@link ResourceManager} - The {@link ResourceManager} used to access resources.
+     * @param pEntityNames     {@link Collection<String>} - The names of the entities to load.
+     * @return {@link PreparedVariants} - The immutable result, ready to be applied.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static PreparedVariants prepareAllVariants(String pBasePath, ResourceManager pResourceManager, Collection<String> pEntityNames) {
+        return prepareAllVariants(Map.of(pBasePath, pEntityNames), pResourceManager);
+    }
 
-        for (ResourceLocation resourceLocation : collection) {
-            try {
-                BaseLogger.log(BaseLogLevel.INFO, "Loading JSON data from resource: " + resourceLocation.toString(), true);
-                JsonObject jsonObject = jsonLoader.loadJson(resourceLocation, resourceManager);
-                jsonMerger.mergeJsonObjects(mergedJsonObject, jsonObject);
-            } catch (Exception pException) {
-                BaseLogger.log(BaseLogLevel.ERROR, "Failed to load JSON data from resource: " + resourceLocation.toString(), pException, true);
+    /**
+     * A {@code public static} {@link PreparedVariants} that reads and parses the variants of the entities of several base paths at once.
+     * <p>
+     * Every base path is listed once and routed like in {@link #prepareAllVariants(String, ResourceManager, Collection)}, and all
+     * of them are prepared into a single result against the same snapshot. Apply the result once instead of preparing every base
+     * path on its own, since a result is prepared again if another load was applied after it was prepared.
+     * </p>
+     *
+     * @param pEntityNames     {@link Map} - The names of the entities to load, keyed by the path of the folder that contains one sub-folder per entity.
+     * @param pResourceManager {@link ResourceManager} - The {@link ResourceManager} used to access resources.
+     * @return {@link PreparedVariants} - The immutable result, ready to be applied.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static PreparedVariants prepareAllVariants(Map<String, ? extends Collection<String>> pEntityNames, ResourceManager pResourceManager) {
+        Map<String, List<ResourceLocation>> entityResources = new LinkedHashMap<>();
+        Map<ResourceLocation, Resource> resources = new HashMap<>();
+        List<String> basePaths = new ArrayList<>(pEntityNames.size());
+        int resourceCount = 0;
+        for (Map.Entry<String, ? extends Collection<String>> entry : pEntityNames.entrySet()) {
+            String basePath = entry.getKey().endsWith("/") ? entry.getKey().substring(0, entry.getKey().length() - 1) : entry.getKey();
+            basePaths.add(basePath);
+            Map<String, List<ResourceLocation>> pathResources = new HashMap<>();
+            for (String entityName : entry.getValue()) {
+                pathResources.put(entityName, entityResources.computeIfAbsent(entityName, k -> new ArrayList<>()));
             }
+            Map<ResourceLocation, Resource> listed = pResourceManager.listResources(basePath, pFiles -> pFiles.getPath().endsWith(".json"));
+            for (Map.Entry<ResourceLocation, Resource> resource : listed.entrySet()) {
+                String entityName = getEntityFolder(basePath, resource.getKey());
+                List<ResourceLocation> entityList = entityName == null ? null : pathResources.get(entityName);
+                if (entityList != null) {
+                    entityList.add(resource.getKey());
+                    resources.put(resource.getKey(), resource.getValue());
+                    resourceCount++;
+                }
+            }
+        }
+
+        String label = String.join(", ", basePaths);
+        if (LogCategory.VARIANT.isEnabled(BaseLogLevel.INFO)) {
+            LogCategory.VARIANT.log(BaseLogLevel.INFO, "Found " + resourceCount + " resource(s) at: " + label + " for: " + entityResources.keySet());
         }
-        parseVariants(mergedJsonObject);
+        return prepareEntities(entityResources, resources, resourceCount, label);
     }
 
     /**
-     * A {@code private static void} that clears variants for a specific entity type from {@link #entityVariantsMap}.
+     * A {@code public static} {@code int} that publishes a {@link PreparedVariants} result.
      * <p>
-     * This method removes all variants associated with the given entity name.
+     * This is the apply phase of a reload and is cheap enough for the server thread: if no other load was published since the
+     * result was prepared, it is a single swap of {@link #registry}. Otherwise the result is stale; it is dropped without
+     * touching any state, and the same resources are prepared and applied again on the {@link BlueLibExecutor}, so neither load
+     * is lost and the calling thread never indexes. <br>
+     * The cached spawn tables of every {@link VariantSpawnIndex} are dropped, since the biome tags they were built from may
+     * have changed too, and so are the textures in the {@link VariantTextureCache}. Writing the {@link VariantCache} file is
+     * handed to the {@link BlueLibExecutor}.
      * </p>
      *
-     * @param pEntityName {@link String} - The name of the entity whose variants should be cleared.
+     * @param pPrepared {@link PreparedVariants} - The result of {@link #prepareAllVariants(String, ResourceManager, Collection)}.
+     * @return {@code int} - The number of entities that were rebuilt, {@code 0} if the result was stale.
+     * @author MeAlam
+     * @since 1.0.0
      */
-    private static void clearVariantsForEntity(String pEntityName) {
-        entityVariantsMap.remove(pEntityName);
+    public static int applyVariants(PreparedVariants pPrepared) {
+        synchronized (PUBLISH_LOCK) {
+            if (registry != pPrepared.base) {
+                LogCategory.VARIANT.log(BaseLogLevel.INFO, () -> "Snapshot changed while preparing: " + pPrepared.getLabel() + ", preparing again");
+                prepareAgain(pPrepared);
+                return 0;
+            }
+            registry = pPrepared.result;
+            ENTITY_RESOURCES.putAll(pPrepared.entityResources);
+            RESOURCE_CACHE.putAll(pPrepared.parsedResources);
+            for (ResourceLocation resourceLocation : pPrepared.removedResources) {
+                RESOURCE_CACHE.remove(resourceLocation);
+            }
+        }
+        VariantSpawnIndex.invalidateAll();
+        VariantTextureCache.invalidateAll();
+        persistCache();
+        return pPrepared.getRebuiltCount();
     }
 
     /**
-     * A {@code private static void} that parses the merged JSON data and converts it into {@link VariantParameter} instances.
+     * A {@code private static void} that prepares and applies the resources of a stale {@link PreparedVariants} again on the {@link BlueLibExecutor}.
      * <p>
-     * This method processes each entry in the JSON object and stores the created {@link VariantParameter} instances in {@link #entityVariantsMap}.
+     * If the executor rejects the task, the load is dropped and logged; the next reload picks the resources up again.
      * </p>
      *
-     * @param pJsonObject {@link JsonObject} - The merged {@link JsonObject} containing variant data.
+     * @param pStale {@link PreparedVariants} - The result that was prepared against an outdated snapshot.
      */
-    private static void parseVariants(JsonObject pJsonObject) {
-        for (Map.Entry<String, JsonElement> entry : pJsonObject.entrySet()) {
+    private static void prepareAgain(PreparedVariants pStale) {
+        try {
+            BlueLibExecutor.execute(() -> applyVariants(pStale.prepareAgain.get()));
+        } catch (RejectedExecutionException pException) {
+            LogCategory.VARIANT.log(BaseLogLevel.WARNING, "Dropped stale variant load: " + pStale.getLabel() + ": " + pException.getMessage());
+        }
+    }
+
+    /**
+     * A {@code private static} {@link String} that returns the entity sub-folder a resource belongs to.
+     *
+     * @param pBasePath         {@link String} - The base path without a trailing slash.
+     * @param pResourceLocation {@link ResourceLocation} - The resource to route.
+     * @return {@link String} - The name of the first folder below {@code pBasePath}, or {@code null} if the resource is not in a sub-folder.
+     */
+    private static String getEntityFolder(String pBasePath, ResourceLocation pResourceLocation) {
+        String path = pResourceLocation.getPath();
+        int folderStart = pBasePath.length() + 1;
+        int folderEnd = path.indexOf('/', folderStart);
+        return folderEnd < 0 ? null : path.substring(folderStart, folderEnd);
+    }
+
+    /**
+     * A {@code private static} {@link PreparedVariants} that loads the resources of a set of entities and prepares the entities that changed.
+     * <p>
+     * An entity is rebuilt when one of its resources was parsed again, when its list of resources differs from the last load,
+     * or when it has no {@link VariantIndex} yet. Parsed resources are cached, and cached resources that failed to load or no
+     * longer belong to an entity are dropped, only when the result is applied. <br>
+     * Resources are parsed into a {@link ParameterSchema} per entity that only this load uses, so concurrent loads never share
+     * a schema. The resources of every rebuilt entity are cached with the copies its new {@link VariantIndex} holds, so every
+     * variant is kept in memory once, not once for the cache and once for the index.
+     * </p>
+     *
+     * @param pEntityResources {@link Map} - The resources of every entity, in load order, keyed by entity name.
+     * @param pResources       {@link Map} - The listed resources, keyed by {@link ResourceLocation}.
+     * @param pResourceCount   {@code int} - The number of routed resources.
+     * @param pLabel           {@link String} - A label that identifies this load in the log.
+     * @return {@link PreparedVariants} - The immutable result, ready to be applied.
+     */
+    private static PreparedVariants prepareEntities(Map<String, List<ResourceLocation>> pEntityResources, Map<ResourceLocation, Resource> pResources, int pResourceCount, String pLabel) {
+        List<ResourceLocation> collection = new ArrayList<>();
+        for (List<ResourceLocation> entityList : pEntityResources.values()) {
+            collection.addAll(entityList);
+        }
+
+        Map<ResourceLocation, LoadedResource> loadedResources = new HashMap<>();
+        Map<ResourceLocation, CachedResource> parsedResources = new HashMap<>();
+        Set<ResourceLocation> removedResources = new HashSet<>();
+        int reused = 0;
+        Map<String, ParameterSchema> schemas = new ConcurrentHashMap<>();
+        for (LoadedResource loadedResource : loadResources(collection, pResources, schemas, pLabel)) {
+            loadedResources.put(loadedResource.resourceLocation(), loadedResource);
+            if (loadedResource.reused()) {
+                reused++;
+            } else if (loadedResource.cached() != null) {
+                parsedResources.put(loadedResource.resourceLocation(), loadedResource.cached());
+            } else {
+                removedResources.add(loadedResource.resourceLocation());
+            }
+        }
+        if (LogCategory.VARIANT.isEnabled(BaseLogLevel.INFO)) {
+            LogCategory.VARIANT.log(BaseLogLevel.INFO, "Reused " + reused + " of " + collection.size() + " unchanged resource(s) for: " + pLabel);
+        }
+
+        VariantRegistry base;
+        Map<String, List<ResourceLocation>> previousResources = new HashMap<>();
+        synchronized (PUBLISH_LOCK) {
+            base = registry;
+            for (String entityName : pEntityResources.keySet()) {
+                previousResources.put(entityName, ENTITY_RESOURCES.get(entityName));
+            }
+        }
+
+        Map<String, List<ResourceLocation>> entityResources = new LinkedHashMap<>();
+        Map<String, List<VariantParameter>> loadedVariants = new LinkedHashMap<>();
+        Set<String> changedEntities = new HashSet<>();
+        for (Map.Entry<String, List<ResourceLocation>> entry : pEntityResources.entrySet()) {
             String entityName = entry.getKey();
-            JsonArray textureArray = entry.getValue().getAsJsonArray();
+            List<ResourceLocation> entityList = List.copyOf(entry.getValue());
+            List<ResourceLocation> previous = previousResources.get(entityName);
+            entityResources.put(entityName, entityList);
+
+            boolean changed = !entityList.equals(previous) || base.getIndex(entityName) == null;
+            for (ResourceLocation resourceLocation : entityList) {
+                changed |= !loadedResources.get(resourceLocation).reused();
+            }
+            if (previous != null) {
+                Set<ResourceLocation> current = new HashSet<>(entityList);
+                for (ResourceLocation resourceLocation : previous) {
+                    if (!current.contains(resourceLocation)) {
+                        removedResources.add(resourceLocation);
+                    }
+                }
+            }
+            if (!changed) {
+                continue;
+            }
+
+            changedEntities.add(entityName);
+            for (ResourceLocation resourceLocation : entityList) {
+                for (Map.Entry<String, List<VariantParameter>> variants : loadedResources.get(resourceLocation).variants().entrySet()) {
+                    loadedVariants.computeIfAbsent(variants.getKey(), k -> new ArrayList<>()).addAll(variants.getValue());
+                }
+            }
+        }
+
+        VariantRegistry result = base;
+        if (!changedEntities.isEmpty()) {
+            Map<VariantParameter, VariantParameter> copies = new IdentityHashMap<>();
+            result = base.withEntities(buildIndexes(base, loadedVariants, changedEntities, copies), changedEntities);
+            for (String entityName : changedEntities) {
+                for (ResourceLocation resourceLocation : entityResources.get(entityName)) {
+                    CachedResource cached = loadedResources.get(resourceLocation).cached();
+                    if (cached != null) {
+                        CachedResource compacted = cached.compact(copies);
+                        if (compacted != cached) {
+                            parsedResources.put(resourceLocation, compacted);
+                        }
+                    }
+                }
+            }
+        }
+        return new PreparedVariants(base, result, entityResources, parsedResources, removedResources, changedEntities, pResourceCount, pLabel,
+                () -> prepareEntities(pEntityResources, pResources, pResourceCount, pLabel));
+    }
+
+    /**
+     * A {@code private static} {@link List<LoadedResource>} that reads and parses resources in parallel on {@link #LOADER_POOL}.
+     * <p>
+     * The results are returned in the same order as {@code pResources}. The worker time spent per namespace is logged.
+     * </p>
+     *
+     * @param pResourceLocations {@link Collection<ResourceLocation>} - The resources to load.
+     * @param pResources         {@link Map} - The listed resources, keyed by {@link ResourceLocation}.
+     * @param pSchemas           {@link Map} - The schema of every entity for this load, keyed by JSON key.
+     * @param pLabel             {@link String} - A label that identifies this load in the log.
+     * @return {@link List<LoadedResource>} - The loaded resources in the order of {@code pResourceLocations}.
+     */
+    private static List<LoadedResource> loadResources(Collection<ResourceLocation> pResourceLocations, Map<ResourceLocation, Resource> pResources, Map<String, ParameterSchema> pSchemas, String pLabel) {
+        List<ForkJoinTask<LoadedResource>> tasks = new ArrayList<>(pResourceLocations.size());
+        for (ResourceLocation resourceLocation : pResourceLocations) {
+            Resource resource = pResources.get(resourceLocation);
+            tasks.add(LOADER_POOL.submit(() -> loadResource(resourceLocation, resource, pSchemas)));
+        }
 
-            BaseLogger.log(BaseLogLevel.INFO, "Parsing variants for entity: " + entityName, true);
-            List<VariantParameter> variantList = entityVariantsMap.computeIfAbsent(entityName, k -> new ArrayList<>());
+        List<LoadedResource> loadedResources = new ArrayList<>(tasks.size());
+        Map<String, Long> namespaceTimings = new TreeMap<>();
+        for (ForkJoinTask<LoadedResource> task : tasks) {
+            LoadedResource loadedResource = task.join();
+            loadedResources.add(loadedResource);
+            namespaceTimings.merge(loadedResource.resourceLocation().getNamespace(), loadedResource.elapsedNanos(), Long::sum);
+        }
 
-            for (JsonElement variant : textureArray) {
-                VariantParameter newVariant = getEntityVariant(entityName, variant.getAsJsonObject());
+        for (Map.Entry<String, Long> entry : namespaceTimings.entrySet()) {
+            LogCategory.VARIANT.log(BaseLogLevel.INFO, () -> "Namespace " + entry.getKey() + " took " + TimeUnit.NANOSECONDS.toMillis(entry.getValue()) + " ms of worker time for: " + pLabel);
+        }
+        return loadedResources;
+    }
 
-                boolean variantExists = variantList.stream()
-                        .anyMatch(v -> v.equals(newVariant));
+    /**
+     * A {@code private static} {@link LoadedResource} that reads, fingerprints and, if it changed, parses a single variant resource.
+     * <p>
+     * This method runs on {@link #LOADER_POOL}. The resource is read once; if its {@link ResourceFingerprint} matches the one
+     * in {@link #RESOURCE_CACHE}, the cached variants are returned, otherwise the bytes that were read are parsed. <br>
+     * {@link #RESOURCE_CACHE} is never written here: the new entry is returned and only cached by {@link #applyVariants(PreparedVariants)},
+     * so a prepared load that is dropped or fails never marks a resource as parsed. <br>
+     * Failures are logged and result in an empty {@link LoadedResource} whose cached entry is dropped when the load is applied,
+     * so a single broken file never prevents the other resources from loading.
+     * </p>
+     *
+     * @param pResourceLocation {@link ResourceLocation} - The resource to load.
+     * @param pResource         {@link Resource} - The resource, used to open its content and to get its pack id.
+     * @param pSchemas          {@link Map} - The schema of every entity for this load, keyed by JSON key.
+     * @return {@link LoadedResource} - The parsed variants together with the time it took to load them.
+     */
+    private static LoadedResource loadResource(ResourceLocation pResourceLocation, Resource pResource, Map<String, ParameterSchema> pSchemas) {
+        long start = System.nanoTime();
+        Map<String, List<VariantParameter>> variants = new LinkedHashMap<>();
+        CachedResource parsed = null;
+        try {
+            byte[] content;
+            try (InputStream inputStream = pResource.open()) {
+                content = inputStream.readAllBytes();
+            }
+            ResourceFingerprint fingerprint = ResourceFingerprint.of(pResource.sourcePackId(), content);
+            CachedResource cached = RESOURCE_CACHE.get(pResourceLocation);
+            if (cached != null && cached.fingerprint().equals(fingerprint)) {
+                return new LoadedResource(pResourceLocation, cached.variants(), System.nanoTime() - start, true, cached);
+            }
+
+            LogCategory.VARIANT.log(BaseLogLevel.INFO, () -> "Loading JSON data from resource: " + pResourceLocation.toString());
+            jsonLoader.streamJson(new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8), (pJsonKey, pReader) ->
+                    variants.computeIfAbsent(pJsonKey, k -> new ArrayList<>()).add(getEntityVariant(pSchemas.computeIfAbsent(pJsonKey, k -> new ParameterSchema()), pJsonKey, pReader)));
+            parsed = new CachedResource(fingerprint, variants);
+        } catch (Exception pException) {
+            LogCategory.VARIANT.log(BaseLogLevel.ERROR, "Failed to load JSON data from resource: " + pResourceLocation.toString(), pException);
+            variants.clear();
+        }
+        long elapsed = System.nanoTime() - start;
+        LogCategory.VARIANT.log(BaseLogLevel.INFO, () -> "Parsed resource: " + pResourceLocation + " in " + String.format("%.3f", elapsed / 1_000_000.0) + " ms");
+        return new LoadedResource(pResourceLocation, variants, elapsed, false, parsed);
+    }
+
+    /**
+     * A {@code public static void} that seeds {@link #RESOURCE_CACHE} from the {@link VariantCache} file in the game directory.
+     * <p>
+     * The file is only read on the first call, so on a cold start unchanged resources skip JSON parsing entirely.
+     * Resources that are already cached in memory are not replaced. Does nothing unless the persistent cache is enabled
+     * with {@code -Dbluelib.variant.cache=true}. <br>
+     * The file lives outside any world folder, since its entries are keyed by resource fingerprints, so it can be opened
+     * before the first reload runs, while a world is still loading. Call it before the first prepare, like the
+     * {@link software.bluelib.event.VariantReloadCoordinator} does.
+     * </p>
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static void openCache() {
+        if (!PERSISTENT_CACHE_ENABLED) {
+            return;
+        }
+        synchronized (PUBLISH_LOCK) {
+            if (cacheFile != null) {
+                return;
+            }
+            Path file = BlueLibCommon.PLATFORM.getGameDirectory().resolve(".bluelib").resolve("variant_cache.bin");
+            cacheFile = file;
+            long start = System.nanoTime();
+            Map<ResourceLocation, CachedResource> persisted = VariantCache.read(file);
+            for (Map.Entry<ResourceLocation, CachedResource> entry : persisted.entrySet()) {
+                RESOURCE_CACHE.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+            persistedFingerprint = persisted.isEmpty() ? 0L : VariantCache.combinedFingerprint(persisted);
+            LogCategory.VARIANT.log(BaseLogLevel.INFO, () -> "Read " + persisted.size() + " cached resource(s) from: " + file + " in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+        }
+    }
 
-                if (!variantExists) {
-                    variantList.add(newVariant);
+    /**
+     * A {@code public static void} that writes {@link #RESOURCE_CACHE} to the {@link VariantCache} file if it changed.
+     * <p>
+     * The combined fingerprint is computed and the file is written on the {@link BlueLibExecutor}, so the calling thread
+     * only copies the cache and never waits for disk I/O. If the executor is not running, is full or the write fails, the
+     * remembered fingerprint is left unchanged, so the write is retried on the next load or when the next server starts.
+     * </p>
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static void persistCache() {
+        Path file;
+        Map<ResourceLocation, CachedResource> snapshot;
+        synchronized (PUBLISH_LOCK) {
+            if (cacheFile == null) {
+                return;
+            }
+            file = cacheFile;
+            snapshot = new HashMap<>(RESOURCE_CACHE);
+        }
+        try {
+            BlueLibExecutor.execute(() -> {
+                long fingerprint = VariantCache.combinedFingerprint(snapshot);
+                synchronized (PUBLISH_LOCK) {
+                    if (fingerprint == persistedFingerprint || !file.equals(cacheFile)) {
+                        return;
+                    }
+                }
+                if (VariantCache.write(file, snapshot)) {
+                    synchronized (PUBLISH_LOCK) {
+                        if (file.equals(cacheFile)) {
+                            persistedFingerprint = fingerprint;
+                        }
+                    }
                 }
+            });
+        } catch (RejectedExecutionException pException) {
+            LogCategory.VARIANT.log(BaseLogLevel.DEBUG, "Deferred writing the variant cache: " + pException.getMessage());
+        }
+    }
+
+    /**
+     * A {@code public static void} that drops all cached resource fingerprints, so the next load parses every resource again.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static void invalidateResourceCache() {
+        synchronized (PUBLISH_LOCK) {
+            RESOURCE_CACHE.clear();
+            ENTITY_RESOURCES.clear();
+        }
+    }
+
+    /**
+     * A {@code private static} {@link Map} that indexes the parsed {@link VariantParameter} instances on top of a snapshot.
+     * <p>
+     * The variants of the entities in {@code pClearedEntities} are replaced; the variants of any other entity found in the
+     * resources are appended to the ones in {@code pBase}. A new {@link VariantIndex} is built on {@link #LOADER_POOL} for every
+     * touched entity. The snapshot itself is left untouched; the caller publishes the indexes with
+     * {@link VariantRegistry#withEntities(Map, Collection)}.
+     * </p>
+     *
+     * @param pBase             {@link VariantRegistry} - The snapshot the indexes are built on top of.
+     * @param pLoadedVariants   {@link Map} - The parsed {@link VariantParameter} instances, keyed by entity name.
+     * @param pClearedEntities {@link Collection<String>} - The names of the entities whose existing variants should be replaced.
+     * @param pCopies           {@link Map} - Receives the copy every index holds of every indexed variant, keyed by the variant it was copied from.
+     * @return {@link Map} - The new indexes, keyed by entity name.
+     */
+    private static Map<String, VariantIndex> buildIndexes(VariantRegistry pBase, Map<String, List<VariantParameter>> pLoadedVariants, Collection<String> pClearedEntities, Map<VariantParameter, VariantParameter> pCopies) {
+        Map<String, ForkJoinTask<VariantIndex>> tasks = new HashMap<>();
+        Map<String, Map<VariantParameter, VariantParameter>> taskCopies = new HashMap<>();
+        for (Map.Entry<String, List<VariantParameter>> entry : pLoadedVariants.entrySet()) {
+            String entityName = entry.getKey();
+
+            LogCategory.VARIANT.log(BaseLogLevel.INFO, () -> "Parsing variants for entity: " + entityName);
+            VariantIndex existing = pBase.getIndex(entityName);
+            List<VariantParameter> variantList = new ArrayList<>();
+            if (existing != null && !pClearedEntities.contains(entityName)) {
+                variantList.addAll(existing.getVariants());
             }
+            variantList.addAll(entry.getValue());
+            Map<VariantParameter, VariantParameter> copies = new IdentityHashMap<>();
+            taskCopies.put(entityName, copies);
+            tasks.put(entityName, LOADER_POOL.submit(() -> VariantIndex.of(entityName, variantList, copies)));
+        }
+
+        Map<String, VariantIndex> replacements = new HashMap<>();
+        for (Map.Entry<String, ForkJoinTask<VariantIndex>> entry : tasks.entrySet()) {
+            replacements.put(entry.getKey(), entry.getValue().join());
+            pCopies.putAll(taskCopies.get(entry.getKey()));
         }
+        return replacements;
     }
 
     /**
-     * A {@code private static} {@link VariantParameter} that creates a new {@link VariantParameter} instance from a JSON object.
+     * A {@code private static} {@link VariantParameter} that creates a new {@link VariantParameter} instance from a streamed JSON object.
      * <p>
      * This method wraps the creation of {@link VariantParameter} instances for easier management and potential modification.
      * </p>
      *
-     * @param pJsonKey    {@link String} - The key associated with this variant.
-     * @param pJsonObject {@link JsonObject} - The {@link JsonObject} containing the variant data.
+     * @param pSchema  {@link ParameterSchema} - The schema of the entity for the current load.
+     * @param pJsonKey {@link String} - The key associated with this variant.
+     * @param pReader  {@link JsonReader} - The {@link JsonReader}, positioned at the start of the variant object.
      * @return {@link VariantParameter} - A {@link VariantParameter} instance.
+     * @throws IOException if the variant object cannot be read.
      */
-    private static VariantParameter getEntityVariant(String pJsonKey, JsonObject pJsonObject) {
-        return new VariantParameter(pJsonKey, pJsonObject);
+    private static VariantParameter getEntityVariant(ParameterSchema pSchema, String pJsonKey, JsonReader pReader) throws IOException {
+        return new VariantParameter(pSchema, pJsonKey, pReader);
     }
 
     /**
@@ -161,14 +759,17 @@ public class VariantLoader implements IVariantEntityBase {
      * @return {@link List<VariantParameter>} - A {@link List<VariantParameter>} of {@link VariantParameter} instances for the specified entity.
      */
     public static List<VariantParameter> getVariantsFromEntity(String pEntityName) {
-        BaseLogger.log(BaseLogLevel.INFO, "Retrieving variants for entity: " + pEntityName, true);
-        return entityVariantsMap.getOrDefault(pEntityName, new ArrayList<>());
+        if (LogCategory.VARIANT.isEnabled(BaseLogLevel.INFO)) {
+            LogCategory.VARIANT.log(BaseLogLevel.INFO, "Retrieving variants for entity: " + pEntityName);
+        }
+        VariantIndex index = registry.getIndex(pEntityName);
+        return index == null ? Collections.emptyList() : index.getVariants();
     }
 
     /**
      * A {@code public static} {@link VariantParameter} that retrieves a {@link VariantParameter} for a specific entity, by the variant's name.
      * <p>
-     * This method searches for a variant with the specified name within the list of variants for the given entity.
+     * This method looks the variant up in the {@link VariantIndex} of the given entity in constant time.
      * </p>
      *
      * @param pEntityName  {@link String} - The name of the entity to retrieve variants for.
@@ -176,14 +777,39 @@ public class VariantLoader implements IVariantEntityBase {
      * @return {@link VariantParameter} - The {@link VariantParameter} with the specified name, or {@code null} if not found.
      */
     public static VariantParameter getVariantByName(String pEntityName, String pVariantName) {
-        BaseLogger.log(BaseLogLevel.INFO, "Retrieving variant by name: " + pVariantName + " for entity: " + pEntityName, true);
-        List<VariantParameter> variants = getVariantsFromEntity(pEntityName);
-        for (VariantParameter variant : variants) {
-            if (variant.getVariantParameter().equals(pVariantName)) {
-                return variant;
-            }
+        if (LogCategory.VARIANT.isEnabled(BaseLogLevel.INFO)) {
+            LogCategory.VARIANT.log(BaseLogLevel.INFO, "Retrieving variant by name: " + pVariantName + " for entity: " + pEntityName);
+        }
+        VariantParameter variant = registry.getVariant(pEntityName, pVariantName);
+        if (variant == null && LogCategory.VARIANT.isEnabled(BaseLogLevel.INFO)) {
+            LogCategory.VARIANT.log(BaseLogLevel.INFO, "Variant with name: " + pVariantName + " not found for entity: " + pEntityName);
         }
-        BaseLogger.log(BaseLogLevel.INFO, "Variant with name: " + pVariantName + " not found for entity: " + pEntityName, true);
-        return null;
+        return variant;
+    }
+
+    /**
+     * A {@code public static} {@link VariantIndex} that retrieves the {@link VariantIndex} of a specific entity.
+     *
+     * @param pEntityName {@link String} - The name of the entity.
+     * @return {@link VariantIndex} - The index of the entity, or {@code null} if the entity has no variants.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static VariantIndex getVariantIndex(String pEntityName) {
+        return registry.getIndex(pEntityName);
+    }
+
+    /**
+     * A {@code public static} {@link VariantRegistry} that retrieves the current snapshot of all entity variants.
+     * <p>
+     * The returned snapshot is immutable and stays valid after a reload; it just no longer reflects the latest data.
+     * </p>
+     *
+     * @return {@link VariantRegistry} - The current snapshot.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static VariantRegistry getRegistry() {
+        return registry;
     }
 }
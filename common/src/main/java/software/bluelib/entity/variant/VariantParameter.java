@@ -4,25 +4,32 @@ package software.bluelib.entity.variant;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
 import software.bluelib.entity.variant.base.ParameterBase;
+import software.bluelib.entity.variant.base.ParameterSchema;
+import software.bluelib.entity.variant.base.ParameterValue;
 import software.bluelib.utils.logging.BaseLogLevel;
-import software.bluelib.utils.logging.BaseLogger;
+import software.bluelib.utils.logging.LogCategory;
 
-import java.util.Map;
-import java.util.Set;
+import java.io.IOException;
+import java.util.*;
 
 /**
  * A {@code class} that represents the parameters associated with a specific variant of an entity.
  * <p>
  * This class extends {@link ParameterBase} to store and manage variant-specific parameters parsed from a {@link JsonObject}.
  * <p>
- * The class handles various JSON element types, including {@code JsonPrimitive}, {@code JsonArray}, and {@code JsonObject}.
+ * The class handles various JSON element types, including {@code JsonPrimitive}, {@code JsonArray}, and {@code JsonObject},
+ * and stores them as typed {@link ParameterValue} instances that can be read with the typed getters of {@link ParameterBase}.
  * </p>
  * Key Methods:
  * <ul>
  *   <li>{@link #getJsonKey()} - Retrieves the key of the JSON object that identifies this entity.</li>
  *   <li>{@link #getVariantParameter()} - Retrieves the name of the variant.</li>
  *   <li>{@link #getParameter(String)} - Retrieves the value of a specific parameter by its key.</li>
+ *   <li>{@link #toParameterView()} - Creates an immutable {@link Map} of the string values of all parameters.</li>
  * </ul>
  *
  * @author MeAlam
@@ -41,23 +48,34 @@ public class VariantParameter extends ParameterBase {
     private final String jsonKey;
 
     /**
-     * A {@code private static} {@link String} that represents the name of the Variant parameter.
+     * A {@code private final} {@link VariantParameter} that holds the parameters this variant declared itself.
      * <p>
-     * This key is used to locate the variant name within the parameters/JSON files.
+     * It is this variant, unless the variant was resolved from a parent by {@link VariantInheritance}.
      * </p>
      *
      * @since 1.0.0
      */
-    private static String variantParameterName = "variantName";
+    private final VariantParameter declared;
+
+    /**
+     * A {@code private static volatile} {@link String} that represents the name of the Variant parameter.
+     * <p>
+     * This key is used to locate the variant name within the parameters/JSON files. <br>
+     * It is {@code volatile} so a change is visible to variants that are read from other threads.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private static volatile String variantParameterName = "variantName";
 
     /**
      * Constructs a new {@code VariantParameter} instance by extracting parameters from a given {@link JsonObject}.
      * <p>
-     * This constructor processes different types of {@link JsonElement} values:
+     * This constructor converts every {@link JsonElement} value to a typed {@link ParameterValue}:
      * <ul>
-     *   <li>{@link com.google.gson.JsonPrimitive}: Stored directly as a string.</li>
-     *   <li>{@link com.google.gson.JsonArray}: Converts array elements into a single comma-separated string.</li>
-     *   <li>{@link JsonObject}: Converts the nested JSON object to a string representation.</li>
+     *   <li>{@link com.google.gson.JsonPrimitive}: Stored as an {@code int}, {@code long}, {@code double}, {@code boolean} or string.</li>
+     *   <li>{@link com.google.gson.JsonArray}: Stored as a string-list, with a comma-separated string representation.</li>
+     *   <li>{@link JsonObject}: Stored as a nested object, with its JSON string representation.</li>
      *   <li>{@code Other Types}: Stores "null" for unhandled JSON types.</li>
      * </ul>
      *
@@ -69,36 +87,229 @@ public class VariantParameter extends ParameterBase {
      * @since 1.0.0
      */
     public VariantParameter(String pJsonKey, JsonObject pJsonObject) {
+        super(new ParameterSchema());
         if (pJsonKey == null || pJsonObject == null) {
             Throwable throwable = new Throwable("JSON key or JSON object is null");
             IllegalArgumentException exception = new IllegalArgumentException("JSON key and object must not be null");
-            BaseLogger.log(BaseLogLevel.ERROR, exception.toString(), throwable, true);
+            LogCategory.VARIANT.log(BaseLogLevel.ERROR, exception.toString(), throwable);
             throw exception;
         }
         this.jsonKey = pJsonKey;
-        BaseLogger.log(BaseLogLevel.INFO, "Creating VariantParameter with JSON key: " + pJsonKey, true);
+        this.declared = this;
+        LogCategory.VARIANT.log(BaseLogLevel.INFO, () -> "Creating VariantParameter with JSON key: " + pJsonKey);
         Set<Map.Entry<String, JsonElement>> entryMap = pJsonObject.entrySet();
         for (Map.Entry<String, JsonElement> entry : entryMap) {
-            JsonElement element = entry.getValue();
-            if (element.isJsonPrimitive()) {
-                addParameter(entry.getKey(), element.getAsString());
-                BaseLogger.log(BaseLogLevel.SUCCESS, "Added primitive parameter: " + entry.getKey() + " = " + element.getAsString(), true);
-            } else if (element.isJsonArray()) {
-                StringBuilder arrayValues = new StringBuilder();
-                element.getAsJsonArray().forEach(e -> arrayValues.append(e.getAsString()).append(","));
-                if (!arrayValues.isEmpty()) {
-                    arrayValues.setLength(arrayValues.length() - 1);
+            ParameterValue value = toParameterValue(entry.getValue());
+            addParameter(entry.getKey(), value);
+            LogCategory.VARIANT_PARAMETER.log(BaseLogLevel.SUCCESS, () -> "Added " + value.getType() + " parameter: " + entry.getKey() + " = " + value);
+        }
+    }
+
+    /**
+     * Constructs a new {@code VariantParameter} instance by streaming a single variant object from a {@link JsonReader}.
+     * <p>
+     * The reader must be positioned at the start of a JSON object, which is fully consumed. Values are stored the same way
+     * as in {@link #VariantParameter(String, JsonObject)}, but no {@link JsonObject} is built for the variant itself.
+     * Only nested objects are parsed into a small {@link JsonElement} tree before they are converted.
+     * </p>
+     *
+     * @param pJsonKey {@link String} - The key that identifies this entity within the JSON document.
+     * @param pReader  {@link JsonReader} - The reader, positioned at the start of the variant object.
+     * @throws IOException              if the variant object cannot be read.
+     * @throws IllegalArgumentException if {@code pJsonKey} or {@code pReader} is {@code null}.
+     * @author MeAlam
+     * @see software.bluelib.json.JSONLoader#streamJson(java.io.Reader, software.bluelib.interfaces.json.IJsonArrayVisitor)
+     * @since 1.0.0
+     */
+    public VariantParameter(String pJsonKey, JsonReader pReader) throws IOException {
+        this(new ParameterSchema(), pJsonKey, pReader);
+    }
+
+    /**
+     * Constructs a new {@code VariantParameter} instance by streaming a single variant object into a given {@link ParameterSchema}.
+     * <p>
+     * This works like {@link #VariantParameter(String, JsonReader)}, but stores the keys in a schema that is shared with the
+     * other variants of the same entity that are parsed by the same load.
+     * </p>
+     *
+     * @param pSchema  {@link ParameterSchema} - The schema of the entity for the current load.
+     * @param pJsonKey {@link String} - The key that identifies this entity within the JSON document.
+     * @param pReader  {@link JsonReader} - The reader, positioned at the start of the variant object.
+     * @throws IOException              if the variant object cannot be read.
+     * @throws IllegalArgumentException if {@code pJsonKey} or {@code pReader} is {@code null}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    VariantParameter(ParameterSchema pSchema, String pJsonKey, JsonReader pReader) throws IOException {
+        super(pSchema);
+        if (pJsonKey == null || pReader == null) {
+            Throwable throwable = new Throwable("JSON key or JSON reader is null");
+            IllegalArgumentException exception = new IllegalArgumentException("JSON key and reader must not be null");
+            LogCategory.VARIANT.log(BaseLogLevel.ERROR, exception.toString(), throwable);
+            throw exception;
+        }
+        this.jsonKey = pJsonKey;
+        this.declared = this;
+        LogCategory.VARIANT.log(BaseLogLevel.INFO, () -> "Streaming VariantParameter with JSON key: " + pJsonKey);
+        pReader.beginObject();
+        while (pReader.hasNext()) {
+            String key = pReader.nextName();
+            addParameter(key, readValue(pReader));
+        }
+        pReader.endObject();
+    }
+
+    /**
+     * Constructs a new {@code VariantParameter} instance from parameters that were already converted, such as the ones
+     * read from the {@link VariantCache}.
+     *
+     * @param pSchema  {@link ParameterSchema} - The schema of the entity for the current load.
+     * @param pJsonKey {@link String} - The key that identifies this entity.
+     * @param pKeys    {@link List<String>} - The parameter keys, in file order.
+     * @param pValues  {@link List<ParameterValue>} - The parameter values, in the same order as {@code pKeys}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    VariantParameter(ParameterSchema pSchema, String pJsonKey, List<String> pKeys, List<ParameterValue> pValues) {
+        super(pSchema);
+        this.jsonKey = pJsonKey;
+        this.declared = this;
+        for (int i = 0; i < pKeys.size(); i++) {
+            addParameter(pKeys.get(i), pValues.get(i));
+        }
+    }
+
+    /**
+     * Constructs a new {@code VariantParameter} instance that inherits the parameters of a resolved parent.
+     * <p>
+     * The parameters of the parent are copied first, then the declared parameters of the child override them. The
+     * {@link VariantInheritance#PARENT_KEY} is left out, so it only stays on the declared variant.
+     * </p>
+     *
+     * @param pParent {@link VariantParameter} - The resolved parent variant, or {@code null} if the parent could not be resolved.
+     * @param pChild  {@link VariantParameter} - The child variant.
+     * @author MeAlam
+     * @see VariantInheritance
+     * @since 1.0.0
+     */
+    VariantParameter(VariantParameter pParent, VariantParameter pChild) {
+        super(pChild.getSchema());
+        this.jsonKey = pChild.jsonKey;
+        this.declared = pChild.declared;
+        if (pParent != null) {
+            for (String key : pParent.getParameterKeys()) {
+                if (!VariantInheritance.PARENT_KEY.equals(key)) {
+                    addParameter(key, pParent.getParameterValue(key));
+                }
+            }
+        }
+        for (String key : declared.getParameterKeys()) {
+            if (!VariantInheritance.PARENT_KEY.equals(key)) {
+                addParameter(key, declared.getParameterValue(key));
+            }
+        }
+    }
+
+    /**
+     * Constructs a new {@code VariantParameter} instance that holds the same parameters as another one, in a different schema.
+     * <p>
+     * The declared variant is copied into the same schema, so an inherited variant does not keep its old schema alive.
+     * </p>
+     *
+     * @param pSchema  {@link ParameterSchema} - The schema of the copy.
+     * @param pVariant {@link VariantParameter} - The variant to copy.
+     * @author MeAlam
+     * @see VariantIndex#of(String, Collection)
+     * @since 1.0.0
+     */
+    VariantParameter(ParameterSchema pSchema, VariantParameter pVariant) {
+        super(pSchema);
+        this.jsonKey = pVariant.jsonKey;
+        this.declared = pVariant.declared == pVariant ? this : new VariantParameter(pSchema, pVariant.declared);
+        for (String key : pVariant.getParameterKeys()) {
+            addParameter(key, pVariant.getParameterValue(key));
+        }
+    }
+
+    /**
+     * A {@link VariantParameter} method that retrieves the variant with only the parameters it declared itself.
+     *
+     * @return The declared variant, which is this variant unless it inherited parameters from a parent.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    VariantParameter getDeclared() {
+        return declared;
+    }
+
+    /**
+     * A {@code private static} {@link ParameterValue} that reads the next value of a {@link JsonReader}.
+     * <p>
+     * Numbers keep their literal as string representation. Arrays become string-lists; nested arrays and objects inside
+     * an array are stored as their JSON representation.
+     * </p>
+     *
+     * @param pReader {@link JsonReader} - The reader, positioned at the value to read.
+     * @return {@link ParameterValue} - The typed value.
+     * @throws IOException if the value cannot be read.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private static ParameterValue readValue(JsonReader pReader) throws IOException {
+        switch (pReader.peek()) {
+            case STRING:
+                return ParameterValue.ofString(pReader.nextString());
+            case NUMBER:
+                return ParameterValue.ofNumber(pReader.nextString());
+            case BOOLEAN:
+                return ParameterValue.ofBoolean(pReader.nextBoolean());
+            case NULL:
+                pReader.nextNull();
+                return ParameterValue.NULL;
+            case BEGIN_ARRAY:
+                List<String> values = new ArrayList<>();
+                pReader.beginArray();
+                while (pReader.hasNext()) {
+                    values.add(readValue(pReader).getAsString());
                 }
-                addParameter(entry.getKey(), arrayValues.toString());
-                BaseLogger.log(BaseLogLevel.SUCCESS, "Added array parameter: " + entry.getKey() + " = " + arrayValues, true);
-            } else if (element.isJsonObject()) {
-                addParameter(entry.getKey(), element.toString());
-                BaseLogger.log(BaseLogLevel.SUCCESS, "Added object parameter: " + entry.getKey() + " = " + element, true);
-            } else {
-                addParameter(entry.getKey(), "null");
-                BaseLogger.log(BaseLogLevel.SUCCESS, "Added null parameter for key: " + entry.getKey(), true);
+                pReader.endArray();
+                return ParameterValue.ofStringList(values);
+            default:
+                return toParameterValue(JsonParser.parseReader(pReader));
+        }
+    }
+
+    /**
+     * A {@code static} {@link ParameterValue} that converts a {@link JsonElement} to a typed {@link ParameterValue}.
+     *
+     * @param pElement {@link JsonElement} - The element to convert.
+     * @return {@link ParameterValue} - The typed value.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    static ParameterValue toParameterValue(JsonElement pElement) {
+        if (pElement.isJsonPrimitive()) {
+            JsonPrimitive primitive = pElement.getAsJsonPrimitive();
+            if (primitive.isBoolean()) {
+                return ParameterValue.ofBoolean(primitive.getAsBoolean());
+            } else if (primitive.isNumber()) {
+                return ParameterValue.ofNumber(primitive.getAsString());
             }
+            return ParameterValue.ofString(primitive.getAsString());
+        } else if (pElement.isJsonArray()) {
+            List<String> values = new ArrayList<>();
+            for (JsonElement element : pElement.getAsJsonArray()) {
+                values.add(element.isJsonPrimitive() ? element.getAsString() : element.toString());
+            }
+            return ParameterValue.ofStringList(values);
+        } else if (pElement.isJsonObject()) {
+            Map<String, ParameterValue> values = new LinkedHashMap<>();
+            for (Map.Entry<String, JsonElement> entry : pElement.getAsJsonObject().entrySet()) {
+                values.put(entry.getKey(), toParameterValue(entry.getValue()));
+            }
+            return ParameterValue.ofObject(values, pElement.toString());
         }
+        return ParameterValue.NULL;
     }
 
     /**
@@ -116,10 +327,12 @@ public class VariantParameter extends ParameterBase {
         if (this.jsonKey == null) {
             Throwable throwable = new Throwable("JSON key should not be null");
             IllegalStateException exception = new IllegalStateException("JSON key is unexpectedly null when retrieving from VariantParameter.");
-            BaseLogger.log(BaseLogLevel.ERROR, "JSON key is unexpectedly null when retrieving from VariantParameter.", throwable, true);
+            LogCategory.VARIANT.log(BaseLogLevel.ERROR, "JSON key is unexpectedly null when retrieving from VariantParameter.", throwable);
             throw exception;
         }
-        BaseLogger.log(BaseLogLevel.INFO, "Retrieved JSON key: " + this.jsonKey, true);
+        if (LogCategory.VARIANT_PARAMETER.isEnabled(BaseLogLevel.INFO)) {
+            LogCategory.VARIANT_PARAMETER.log(BaseLogLevel.INFO, "Retrieved JSON key: " + this.jsonKey);
+        }
         return this.jsonKey;
     }
 
@@ -136,7 +349,9 @@ public class VariantParameter extends ParameterBase {
      */
     public String getVariantParameter() {
         String variantName = getParameter(variantParameterName);
-        BaseLogger.log(BaseLogLevel.INFO, "Retrieved parameter name: " + variantName, true);
+        if (LogCategory.VARIANT_PARAMETER.isEnabled(BaseLogLevel.INFO)) {
+            LogCategory.VARIANT_PARAMETER.log(BaseLogLevel.INFO, "Retrieved parameter name: " + variantName);
+        }
         return variantName;
     }
 
@@ -152,7 +367,7 @@ public class VariantParameter extends ParameterBase {
      */
     public void setVariantParameter(String pCustomVariantName) {
         variantParameterName = pCustomVariantName;
-        BaseLogger.log(BaseLogLevel.INFO, "Setting parameter name: " + variantParameterName, true);
+        LogCategory.VARIANT_PARAMETER.log(BaseLogLevel.INFO, () -> "Setting parameter name: " + pCustomVariantName);
     }
 
     /**
@@ -168,7 +383,27 @@ public class VariantParameter extends ParameterBase {
      */
     public String getParameter(String pKey) {
         String value = (String) super.getParameter(pKey);
-        BaseLogger.log(BaseLogLevel.INFO, "Retrieved parameter for key " + pKey + ": " + value, true);
+        if (LogCategory.VARIANT_PARAMETER.isEnabled(BaseLogLevel.INFO)) {
+            LogCategory.VARIANT_PARAMETER.log(BaseLogLevel.INFO, "Retrieved parameter for key " + pKey + ": " + value);
+        }
         return value;
     }
+
+    /**
+     * A {@link Map} method that creates an immutable view of the string values of all parameters, keyed by parameter key.
+     * <p>
+     * The view is a snapshot: later changes to this variant are not reflected in it.
+     * </p>
+     *
+     * @return An immutable {@link Map} of the string value of every parameter.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public Map<String, String> toParameterView() {
+        Map<String, String> view = new HashMap<>();
+        for (Map.Entry<String, Object> entry : getAllParameters().entrySet()) {
+            view.put(entry.getKey(), (String) entry.getValue());
+        }
+        return Map.copyOf(view);
+    }
 }
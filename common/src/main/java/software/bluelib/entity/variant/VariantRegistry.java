@@ -0,0 +1,110 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.entity.variant;
+
+import java.util.*;
+
+/**
+ * A {@code public final class} that represents an immutable snapshot of all loaded entity variants.
+ * <p>
+ * The snapshot maps every entity name to a {@link VariantIndex}. It is never modified after it has been created;
+ * a reload builds a new snapshot with {@link #withEntities(Map, Collection)} and swaps it in as a whole.
+ * </p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #getIndex(String)} - Retrieves the {@link VariantIndex} of an entity.</li>
+ *   <li>{@link #getVariant(String, String)} - Retrieves a {@link VariantParameter} by entity and variant name.</li>
+ *   <li>{@link #withEntities(Map, Collection)} - Creates a new snapshot with some entities replaced or removed.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see VariantIndex
+ * @see VariantLoader
+ * @since 1.0.0
+ */
+public final class VariantRegistry {
+
+    /**
+     * A {@code public static final} {@link VariantRegistry} that contains no entities.
+     *
+     * @since 1.0.0
+     */
+    public static final VariantRegistry EMPTY = new VariantRegistry(Collections.emptyMap());
+
+    /**
+     * A {@code private final} immutable {@link Map} from entity name to {@link VariantIndex}.
+     *
+     * @since 1.0.0
+     */
+    private final Map<String, VariantIndex> entities;
+
+    /**
+     * A {@code private} constructor that creates a new {@link VariantRegistry}.
+     *
+     * @param pEntities {@link Map} - The immutable map from entity name to {@link VariantIndex}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private VariantRegistry(Map<String, VariantIndex> pEntities) {
+        this.entities = pEntities;
+    }
+
+    /**
+     * A {@code public} {@link VariantRegistry} that creates a new snapshot with some entities replaced or removed.
+     * <p>
+     * This snapshot is left untouched. Entities in {@code pReplacements} overwrite the existing index of the same name,
+     * and entities in {@code pRemoved} that are not replaced are dropped.
+     * </p>
+     *
+     * @param pReplacements {@link Map} - The new indexes, keyed by entity name.
+     * @param pRemoved      {@link Collection<String>} - The names of the entities to remove.
+     * @return {@link VariantRegistry} - The new snapshot.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public VariantRegistry withEntities(Map<String, VariantIndex> pReplacements, Collection<String> pRemoved) {
+        Map<String, VariantIndex> next = new HashMap<>(entities);
+        for (String entityName : pRemoved) {
+            next.remove(entityName);
+        }
+        next.putAll(pReplacements);
+        return new VariantRegistry(Collections.unmodifiableMap(next));
+    }
+
+    /**
+     * A {@code public} {@link VariantIndex} that retrieves the index of an entity.
+     *
+     * @param pEntityName {@link String} - The name of the entity.
+     * @return {@link VariantIndex} - The index of the entity, or {@code null} if the entity has no variants.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public VariantIndex getIndex(String pEntityName) {
+        return entities.get(pEntityName);
+    }
+
+    /**
+     * A {@code public} {@link VariantParameter} that retrieves a variant by entity and variant name.
+     *
+     * @param pEntityName  {@link String} - The name of the entity.
+     * @param pVariantName {@link String} - The name of the variant.
+     * @return {@link VariantParameter} - The variant, or {@code null} if it does not exist.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public VariantParameter getVariant(String pEntityName, String pVariantName) {
+        VariantIndex index = entities.get(pEntityName);
+        return index == null ? null : index.getVariant(pVariantName);
+    }
+
+    /**
+     * A {@code public} {@link Set<String>} that returns the names of all entities in this snapshot.
+     *
+     * @return {@link Set<String>} - An immutable {@link Set} of entity names.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public Set<String> getEntityNames() {
+        return entities.keySet();
+    }
+}
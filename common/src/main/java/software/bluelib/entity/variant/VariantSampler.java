@@ -0,0 +1,241 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.entity.variant;
+
+import net.minecraft.util.RandomSource;
+import software.bluelib.utils.logging.BaseLogLevel;
+import software.bluelib.utils.logging.LogCategory;
+
+import java.util.Arrays;
+
+/**
+ * A {@code public final class} that draws weighted random variant ordinals in constant time with Walker's alias method.
+ * <p>
+ * The sampler is built once per {@link VariantIndex}, so it is rebuilt on every reload together with the index.
+ * Every variant has an optional {@code weight} parameter; variants without one weigh {@code 1}, and variants with a weight
+ * that is zero, negative or not a number are never drawn. If no variant has a positive weight, all variants are drawn uniformly. <br>
+ * A draw consumes one {@code int} and one {@code float} from the {@link RandomSource}, reads two array slots and never allocates.
+ * The sampler itself is immutable, so any number of threads can draw from it at once, each with its own {@link RandomSource}.
+ * </p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #of(VariantParameter[], String)} - Builds a sampler from the weights of a set of variants.</li>
+ *   <li>{@link #sample(RandomSource)} - Draws a random ordinal.</li>
+ *   <li>{@link #threadRandom()} - Retrieves the {@link RandomSource} of the current thread.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see VariantIndex
+ * @since 1.0.0
+ */
+public final class VariantSampler {
+
+    /**
+     * A {@code public static final} {@link String} that holds the JSON key of the optional weight parameter.
+     *
+     * @since 1.0.0
+     */
+    public static final String WEIGHT_KEY = "weight";
+
+    /**
+     * A {@code private static final} {@link VariantSampler} that contains no variants.
+     *
+     * @since 1.0.0
+     */
+    private static final VariantSampler EMPTY = new VariantSampler(new float[0], new int[0]);
+
+    /**
+     * A {@code private static final} {@link ThreadLocal} that holds a non-synchronized {@link RandomSource} per thread.
+     *
+     * @since 1.0.0
+     */
+    private static final ThreadLocal<RandomSource> THREAD_RANDOM = ThreadLocal.withInitial(RandomSource::createNewThreadLocalInstance);
+
+    /**
+     * A {@code private final} {@code float} array that holds, per column, the probability of keeping the column's own ordinal.
+     *
+     * @since 1.0.0
+     */
+    private final float[] probabilities;
+
+    /**
+     * A {@code private final} {@code int} array that holds, per column, the ordinal drawn when the column's own ordinal is not kept.
+     *
+     * @since 1.0.0
+     */
+    private final int[] aliases;
+
+    /**
+     * A {@code private} constructor that creates a new {@link VariantSampler}.
+     *
+     * @param pProbabilities {@code float} array - The probability of keeping every column.
+     * @param pAliases       {@code int} array - The alias of every column.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private VariantSampler(float[] pProbabilities, int[] pAliases) {
+        this.probabilities = pProbabilities;
+        this.aliases = pAliases;
+    }
+
+    /**
+     * A {@code public static} {@link VariantSampler} that builds a sampler from the {@code weight} parameters of a set of variants.
+     *
+     * @param pVariants   {@link VariantParameter} array - The variants, ordered by ordinal.
+     * @param pEntityName {@link String} - The name of the entity, used in log messages.
+     * @return {@link VariantSampler} - The new sampler.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static VariantSampler of(VariantParameter[] pVariants, String pEntityName) {
+        return ofWeights(readWeights(pVariants, pEntityName));
+    }
+
+    /**
+     * A {@code static} {@code double} array that reads the {@code weight} parameter of every variant.
+     * <p>
+     * Weights that are zero, negative, infinite or not a number are logged and read as {@code 0}.
+     * </p>
+     *
+     * @param pVariants   {@link VariantParameter} array - The variants, ordered by ordinal.
+     * @param pEntityName {@link String} - The name of the entity, used in log messages.
+     * @return {@code double} array - The weight of every variant, ordered by ordinal.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    static double[] readWeights(VariantParameter[] pVariants, String pEntityName) {
+        double[] weights = new double[pVariants.length];
+        boolean anyPositive = false;
+        for (int i = 0; i < pVariants.length; i++) {
+            double weight = pVariants[i].getDouble(WEIGHT_KEY, 1.0);
+            if (!(weight > 0.0) || Double.isInfinite(weight)) {
+                LogCategory.VARIANT.log(BaseLogLevel.WARNING, "Variant: " + pVariants[i].getVariantParameter() + " of entity: " + pEntityName + " has weight " + weight + " and will never be picked");
+                weight = 0.0;
+            }
+            weights[i] = weight;
+            anyPositive |= weight > 0.0;
+        }
+        if (pVariants.length > 0 && !anyPositive) {
+            LogCategory.VARIANT.log(BaseLogLevel.WARNING, "No variant of entity: " + pEntityName + " has a positive weight, picking uniformly");
+        }
+        return weights;
+    }
+
+    /**
+     * A {@code static} {@link VariantSampler} that builds a sampler from a set of weights.
+     * <p>
+     * The alias table is built with Vose's algorithm, which is linear in the number of weights. Ordinals with a weight of
+     * {@code 0} are never drawn, unless all weights are {@code 0}, in which case every ordinal is drawn uniformly.
+     * </p>
+     *
+     * @param pWeights {@code double} array - The non-negative weight of every ordinal.
+     * @return {@link VariantSampler} - The new sampler.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    static VariantSampler ofWeights(double[] pWeights) {
+        int count = pWeights.length;
+        if (count == 0) {
+            return EMPTY;
+        }
+
+        double[] weights = pWeights;
+        double total = 0.0;
+        int heaviest = 0;
+        for (int i = 0; i < count; i++) {
+            total += weights[i];
+            if (weights[i] > weights[heaviest]) {
+                heaviest = i;
+            }
+        }
+        if (total <= 0.0) {
+            weights = new double[count];
+            Arrays.fill(weights, 1.0);
+            total = count;
+        }
+
+        float[] probabilities = new float[count];
+        int[] aliases = new int[count];
+        double[] scaled = new double[count];
+        int[] small = new int[count];
+        int[] large = new int[count];
+        int smallSize = 0;
+        int largeSize = 0;
+        for (int i = 0; i < count; i++) {
+            scaled[i] = weights[i] * count / total;
+            aliases[i] = i;
+            if (scaled[i] < 1.0) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+        while (smallSize > 0 && largeSize > 0) {
+            int less = small[--smallSize];
+            int more = large[--largeSize];
+            probabilities[less] = (float) scaled[less];
+            aliases[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+        while (largeSize > 0) {
+            probabilities[large[--largeSize]] = 1.0f;
+        }
+        while (smallSize > 0) {
+            int less = small[--smallSize];
+            if (weights[less] > 0.0) {
+                probabilities[less] = 1.0f;
+            } else {
+                aliases[less] = heaviest;
+            }
+        }
+        return new VariantSampler(probabilities, aliases);
+    }
+
+    /**
+     * A {@code public} {@code int} that draws a random ordinal.
+     *
+     * @param pRandom {@link RandomSource} - The random source to draw from. It should not be shared between threads.
+     * @return {@code int} - A random ordinal, or {@code -1} if the sampler is empty.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int sample(RandomSource pRandom) {
+        int count = aliases.length;
+        if (count == 0) {
+            return -1;
+        }
+        int column = pRandom.nextInt(count);
+        return pRandom.nextFloat() < probabilities[column] ? column : aliases[column];
+    }
+
+    /**
+     * A {@code public} {@code int} that returns the number of variants in this sampler.
+     *
+     * @return {@code int} - The number of variants.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int size() {
+        return aliases.length;
+    }
+
+    /**
+     * A {@code public static} {@link RandomSource} that retrieves the {@link RandomSource} of the current thread.
+     * <p>
+     * The returned source is not synchronized and must not be handed to other threads. Prefer the random source of the
+     * level or entity when one is available, so results follow the world's randomness.
+     * </p>
+     *
+     * @return {@link RandomSource} - The random source of the current thread.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static RandomSource threadRandom() {
+        return THREAD_RANDOM.get();
+    }
+}
@@ -0,0 +1,264 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.entity.variant;
+
+import net.minecraft.core.Holder;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.biome.Biome;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@code public final class} that picks weighted random variants of a single entity that match a spawn position.
+ * <p>
+ * The {@link SpawnCondition} of every variant is compiled, per dimension and biome, into a {@link SpawnTable} with one
+ * {@link VariantSampler} per Y band. A table is built the first time a dimension and biome are seen and cached, so a pick
+ * is one lookup per map, a binary search over the few Y bands and an O(1) draw, without any allocation. <br>
+ * If no variant of the entity has spawn conditions, the index draws from the entity's unconditioned sampler directly. On
+ * both paths variants with a weight of {@code 0} are never drawn, so if every variant has a weight of {@code 0} no variant
+ * matches.
+ * </p>
+ * <p>
+ * The cached tables depend on biome tags, which can change on a reload. {@link #invalidateAll()} drops the tables of
+ * every index, and is called whenever variants are applied or tags are updated.
+ * </p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #getRandomOrdinal(ResourceKey, Holder, int, RandomSource)} - Picks the ordinal of a random variant that matches a spawn position.</li>
+ *   <li>{@link #invalidateAll()} - Drops the cached tables of every index.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see VariantIndex
+ * @see SpawnCondition
+ * @since 1.0.0
+ */
+public final class VariantSpawnIndex {
+
+    /**
+     * A {@code private static final} {@link AtomicInteger} that is incremented every time all cached tables become stale.
+     *
+     * @since 1.0.0
+     */
+    private static final AtomicInteger EPOCH = new AtomicInteger();
+
+    /**
+     * A {@code private final} {@link SpawnCondition} array of every variant, ordered by ordinal.
+     *
+     * @since 1.0.0
+     */
+    private final SpawnCondition[] conditions;
+
+    /**
+     * A {@code private final} {@code double} array of the weight of every variant, ordered by ordinal.
+     *
+     * @since 1.0.0
+     */
+    private final double[] weights;
+
+    /**
+     * A {@code private final} {@link VariantSampler} over all variants, used when no variant has spawn conditions.
+     *
+     * @since 1.0.0
+     */
+    private final VariantSampler unconditioned;
+
+    /**
+     * A {@code private final} {@code boolean} that indicates if no variant has spawn conditions.
+     *
+     * @since 1.0.0
+     */
+    private final boolean isUnconditioned;
+
+    /**
+     * A {@code private final} {@code boolean} that indicates if any variant has a weight above {@code 0}.
+     *
+     * @since 1.0.0
+     */
+    private final boolean hasWeight;
+
+    /**
+     * A {@code private final} {@link Map} of the cached tables, keyed by dimension and then by biome.
+     *
+     * @since 1.0.0
+     */
+    private final Map<ResourceKey<Level>, Map<Holder<Biome>, SpawnTable>> tables = new ConcurrentHashMap<>();
+
+    /**
+     * A {@code private volatile} {@code int} that holds the {@link #EPOCH} the cached tables were built in.
+     *
+     * @since 1.0.0
+     */
+    private volatile int tableEpoch = EPOCH.get();
+
+    /**
+     * A constructor that creates a new {@link VariantSpawnIndex}.
+     *
+     * @param pConditions    {@link SpawnCondition} array - The spawn conditions of every variant, ordered by ordinal.
+     * @param pWeights       {@code double} array - The weight of every variant, ordered by ordinal.
+     * @param pUnconditioned {@link VariantSampler} - The sampler over all variants.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    VariantSpawnIndex(SpawnCondition[] pConditions, double[] pWeights, VariantSampler pUnconditioned) {
+        this.conditions = pConditions;
+        this.weights = pWeights;
+        this.unconditioned = pUnconditioned;
+        boolean allAlways = true;
+        for (SpawnCondition condition : pConditions) {
+            allAlways &= condition == SpawnCondition.ALWAYS;
+        }
+        this.isUnconditioned = allAlways;
+        boolean anyWeight = false;
+        for (double weight : pWeights) {
+            anyWeight |= weight > 0;
+        }
+        this.hasWeight = anyWeight;
+    }
+
+    /**
+     * A {@code public static void} that drops the cached tables of every {@link VariantSpawnIndex}.
+     * <p>
+     * Tables are rebuilt lazily on the next pick.
+     * </p>
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static void invalidateAll() {
+        EPOCH.incrementAndGet();
+    }
+
+    /**
+     * A {@code public} {@code int} that picks the ordinal of a random variant that matches a spawn position, weighted by its {@code weight} parameter.
+     *
+     * @param pDimension {@link ResourceKey} - The dimension of the spawn position.
+     * @param pBiome     {@link Holder} - The biome at the spawn position.
+     * @param pY         {@code int} - The Y level of the spawn position.
+     * @param pRandom    {@link RandomSource} - The random source to draw from. It should not be shared between threads.
+     * @return {@code int} - The ordinal of a matching variant, or {@code -1} if no variant matches.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int getRandomOrdinal(ResourceKey<Level> pDimension, Holder<Biome> pBiome, int pY, RandomSource pRandom) {
+        if (isUnconditioned) {
+            return hasWeight ? unconditioned.sample(pRandom) : -1;
+        }
+        return getTable(pDimension, pBiome).sample(pY, pRandom);
+    }
+
+    /**
+     * A {@code private} {@link SpawnTable} that retrieves the cached table of a dimension and biome, building it if needed.
+     * <p>
+     * Every table remembers the {@link #EPOCH} it was built in. A table of an older epoch, which a concurrent pick may have
+     * stored after the tables were cleared, is rebuilt instead of returned.
+     * </p>
+     *
+     * @param pDimension {@link ResourceKey} - The dimension.
+     * @param pBiome     {@link Holder} - The biome.
+     * @return {@link SpawnTable} - The table.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private SpawnTable getTable(ResourceKey<Level> pDimension, Holder<Biome> pBiome) {
+        int epoch = EPOCH.get();
+        if (tableEpoch != epoch) {
+            tables.clear();
+            tableEpoch = epoch;
+        }
+        Map<Holder<Biome>, SpawnTable> biomeTables = tables.get(pDimension);
+        if (biomeTables == null) {
+            biomeTables = tables.computeIfAbsent(pDimension, k -> new ConcurrentHashMap<>());
+        }
+        SpawnTable table = biomeTables.get(pBiome);
+        if (table == null || table.epoch() != epoch) {
+            table = biomeTables.merge(pBiome, buildTable(pDimension, pBiome, epoch),
+                    (pExisting, pBuilt) -> pExisting.epoch() - pBuilt.epoch() >= 0 ? pExisting : pBuilt);
+        }
+        return table;
+    }
+
+    /**
+     * A {@code private} {@link SpawnTable} that compiles the spawn conditions of all variants for a dimension and biome.
+     * <p>
+     * The Y levels are split into bands at every {@code minY} and {@code maxY} of the matching variants, so every variant
+     * either covers a band completely or not at all, and every band gets its own {@link VariantSampler}. Variants with a
+     * weight of {@code 0} are left out, so a band in which no variant can be drawn samples {@code -1} instead of falling
+     * back to a uniform draw.
+     * </p>
+     *
+     * @param pDimension {@link ResourceKey} - The dimension.
+     * @param pBiome     {@link Holder} - The biome.
+     * @param pEpoch     {@code int} - The {@link #EPOCH} the table is built in.
+     * @return {@link SpawnTable} - The new table.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private SpawnTable buildTable(ResourceKey<Level> pDimension, Holder<Biome> pBiome, int pEpoch) {
+        List<Integer> candidates = new ArrayList<>();
+        TreeSet<Integer> breakpoints = new TreeSet<>();
+        for (int ordinal = 0; ordinal < conditions.length; ordinal++) {
+            SpawnCondition condition = conditions[ordinal];
+            if (weights[ordinal] <= 0 || !condition.matches(pDimension, pBiome)) {
+                continue;
+            }
+            candidates.add(ordinal);
+            if (condition.getMinY() != Integer.MIN_VALUE) {
+                breakpoints.add(condition.getMinY());
+            }
+            if (condition.getMaxY() != Integer.MAX_VALUE) {
+                breakpoints.add(condition.getMaxY() + 1);
+            }
+        }
+
+        int[] bounds = breakpoints.stream().mapToInt(Integer::intValue).toArray();
+        int[][] ordinals = new int[bounds.length + 1][];
+        VariantSampler[] samplers = new VariantSampler[bounds.length + 1];
+        for (int band = 0; band <= bounds.length; band++) {
+            int bandStart = band == 0 ? Integer.MIN_VALUE : bounds[band - 1];
+            int[] bandOrdinals = candidates.stream().mapToInt(Integer::intValue).filter(pOrdinal -> conditions[pOrdinal].containsY(bandStart)).toArray();
+            double[] bandWeights = new double[bandOrdinals.length];
+            for (int i = 0; i < bandOrdinals.length; i++) {
+                bandWeights[i] = weights[bandOrdinals[i]];
+            }
+            ordinals[band] = bandOrdinals;
+            samplers[band] = VariantSampler.ofWeights(bandWeights);
+        }
+        return new SpawnTable(pEpoch, bounds, ordinals, samplers);
+    }
+
+    /**
+     * A {@code private record} that holds the samplers of a single dimension and biome, one per Y band.
+     * <p>
+     * Band {@code 0} covers every Y level below {@code bounds[0]}, band {@code i} covers {@code bounds[i - 1]} up to
+     * {@code bounds[i] - 1}, and the last band covers every Y level from the last bound up.
+     * </p>
+     *
+     * @param epoch    {@code int} - The {@link #EPOCH} the table was built in.
+     * @param bounds   {@code int} array - The first Y level of every band but the first, in ascending order.
+     * @param ordinals {@code int} array of arrays - The ordinals of the variants of every band.
+     * @param samplers {@link VariantSampler} array - The sampler of every band, over the ordinals of that band.
+     * @since 1.0.0
+     */
+    private record SpawnTable(int epoch, int[] bounds, int[][] ordinals, VariantSampler[] samplers) {
+
+        /**
+         * A {@code public} {@code int} that draws the ordinal of a random variant at a Y level.
+         *
+         * @param pY      {@code int} - The Y level.
+         * @param pRandom {@link RandomSource} - The random source to draw from.
+         * @return {@code int} - The ordinal of a matching variant, or {@code -1} if no variant matches.
+         * @since 1.0.0
+         */
+        public int sample(int pY, RandomSource pRandom) {
+            int search = Arrays.binarySearch(bounds, pY);
+            int band = search >= 0 ? search + 1 : -search - 1;
+            int index = samplers[band].sample(pRandom);
+            return index < 0 ? -1 : ordinals[band][index];
+        }
+    }
+}
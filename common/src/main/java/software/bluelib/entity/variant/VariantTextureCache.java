@@ -0,0 +1,131 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.entity.variant;
+
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@code public final class} that interns the texture {@link ResourceLocation} of every variant.
+ * <p>
+ * Renderers ask for the texture of every visible entity on every frame. Building the path and the {@link ResourceLocation}
+ * each time allocates several strings per entity per frame, so the result is cached per mod ID, entity and variant instead. <br>
+ * A lookup is three {@link ConcurrentHashMap} reads keyed by the strings the caller already holds, so a cache hit never allocates.
+ * The cache is cleared whenever variants are applied, so variants that were removed by a reload do not linger.
+ * </p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #getTexture(String, String, String)} - Retrieves the texture of a variant.</li>
+ *   <li>{@link #invalidateAll()} - Drops all cached textures.</li>
+ *   <li>{@link #size()} - Retrieves the number of cached textures.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see VariantLoader
+ * @since 1.0.0
+ */
+public final class VariantTextureCache {
+
+    /**
+     * A {@code private static final} {@code int} that holds the most variants cached per entity.
+     * <p>
+     * Variant names can arrive from the network, so the cache is bounded. Textures past the limit are built on every call.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private static final int MAX_VARIANTS_PER_ENTITY = 1024;
+
+    /**
+     * A {@code private static final} {@link Map} of the cached textures, keyed by mod ID, then entity name, then variant name.
+     *
+     * @since 1.0.0
+     */
+    private static final Map<String, Map<String, Map<String, ResourceLocation>>> TEXTURES = new ConcurrentHashMap<>();
+
+    /**
+     * A {@code private} constructor to prevent instantiation.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private VariantTextureCache() {
+    }
+
+    /**
+     * A {@code public static} {@link ResourceLocation} that retrieves the texture of a variant.
+     * <p>
+     * The texture is located at {@code <modId>:textures/entity/<entityName>/<variantName>.png}.
+     * </p>
+     *
+     * @param pModId       {@link String} - The mod ID used to locate the texture.
+     * @param pEntityName  {@link String} - The name of the entity.
+     * @param pVariantName {@link String} - The name of the variant.
+     * @return {@link ResourceLocation} - The texture of the variant.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static ResourceLocation getTexture(String pModId, String pEntityName, String pVariantName) {
+        String variantName = String.valueOf(pVariantName);
+        Map<String, ResourceLocation> variantTextures = TEXTURES
+                .computeIfAbsent(pModId, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(pEntityName, k -> new ConcurrentHashMap<>());
+        ResourceLocation texture = variantTextures.get(variantName);
+        if (texture == null) {
+            texture = createTexture(pModId, pEntityName, variantName);
+            if (variantTextures.size() < MAX_VARIANTS_PER_ENTITY) {
+                ResourceLocation existing = variantTextures.putIfAbsent(variantName, texture);
+                if (existing != null) {
+                    texture = existing;
+                }
+            }
+        }
+        return texture;
+    }
+
+    /**
+     * A {@code public static void} that drops all cached textures.
+     * <p>
+     * Textures are built again on the next lookup.
+     * </p>
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static void invalidateAll() {
+        TEXTURES.clear();
+    }
+
+    /**
+     * A {@code public static} {@code int} that retrieves the number of cached textures.
+     *
+     * @return {@code int} - The number of cached textures.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static int size() {
+        int size = 0;
+        for (Map<String, Map<String, ResourceLocation>> entityTextures : TEXTURES.values()) {
+            for (Map<String, ResourceLocation> variantTextures : entityTextures.values()) {
+                size += variantTextures.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * A {@code private static} {@link ResourceLocation} that builds the texture of a variant.
+     *
+     * @param pModId       {@link String} - The mod ID used to locate the texture.
+     * @param pEntityName  {@link String} - The name of the entity.
+     * @param pVariantName {@link String} - The name of the variant.
+     * @return {@link ResourceLocation} - The new texture.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private static ResourceLocation createTexture(String pModId, String pEntityName, String pVariantName) {
+        return ResourceLocation.fromNamespaceAndPath(pModId, "textures/entity/" + pEntityName + "/" + pVariantName + ".png");
+    }
+}
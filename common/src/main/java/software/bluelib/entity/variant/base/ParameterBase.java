@@ -3,17 +3,18 @@
 package software.bluelib.entity.variant.base;
 
 import software.bluelib.utils.logging.BaseLogLevel;
-import software.bluelib.utils.logging.BaseLogger;
+import software.bluelib.utils.logging.LogCategory;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 
 /**
  * A {@code public abstract base class} for managing a collection of {@link #parameters}.
  * <p>
- * This {@code class} provides methods to add, retrieve, remove, and manipulate {@link #parameters} stored as key-value pairs.
+ * This {@code class} provides methods to add, retrieve, remove, and manipulate {@link #parameters} stored as key-value pairs. <br>
+ * Keys are interned in a {@link ParameterSchema} that is shared by all variants of an entity, and every instance only stores
+ * a compact array of values indexed by slot. <br>
+ * Values are stored as typed {@link ParameterValue} instances, so numbers and booleans can be read through the typed getters
+ * without parsing or boxing.
  * </p>
  * Key Methods:
  * <ul>
@@ -28,6 +29,13 @@ import java.util.Set;
  *   <li>{@link #getParameterKeys()} - Returns a set of all parameter keys from {@link #parameters}.</li>
  *   <li>{@link #getParameterValues()} - Returns a collection of all parameter values from {@link #parameters}.</li>
  *   <li>{@link #updateParameter(String, Object)} - Updates the value of an existing parameter in {@link #parameters}.</li>
+ *   <li>{@link #getInt(String, int)} - Retrieves a parameter as an {@code int}.</li>
+ *   <li>{@link #getLong(String, long)} - Retrieves a parameter as a {@code long}.</li>
+ *   <li>{@link #getDouble(String, double)} - Retrieves a parameter as a {@code double}.</li>
+ *   <li>{@link #getBoolean(String, boolean)} - Retrieves a parameter as a {@code boolean}.</li>
+ *   <li>{@link #getString(String)} - Retrieves a parameter as a {@link String}.</li>
+ *   <li>{@link #getStringList(String)} - Retrieves a parameter as a {@link List} of {@link String}.</li>
+ *   <li>{@link #getObject(String)} - Retrieves a parameter as a nested object.</li>
  * </ul>
  *
  * @author MeAlam
@@ -36,19 +44,78 @@ import java.util.Set;
 public abstract class ParameterBase {
 
     /**
-     * A {@code private final} {@link Map} to store parameters as key-value pairs.
+     * A {@code private final} {@link ParameterSchema} that interns the parameter keys and assigns their slot indexes.
      * <p>
-     * This {@link Map} holds parameter keys and their corresponding values.
+     * The schema is usually shared by all variants of the same entity, so every key is only stored once.
      * </p>
      *
      * @since 1.0.0
      */
-    private final Map<String, Object> parameters = new HashMap<>();
+    private final ParameterSchema schema;
+
+    /**
+     * A {@code private} array to store parameter values by slot index.
+     * <p>
+     * The value of a key is stored at the slot that {@link #schema} assigned to it. Keys without a value have a {@code null} entry.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private ParameterValue[] parameters;
+
+    /**
+     * A {@code protected} constructor that creates a new {@link ParameterBase} backed by a shared {@link ParameterSchema}.
+     *
+     * @param pSchema {@link ParameterSchema} - The schema that interns the parameter keys.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    protected ParameterBase(ParameterSchema pSchema) {
+        this.schema = pSchema;
+        this.parameters = new ParameterValue[pSchema.size()];
+    }
+
+    /**
+     * A {@code protected} constructor that creates a new {@link ParameterBase} backed by its own {@link ParameterSchema}.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    protected ParameterBase() {
+        this(new ParameterSchema());
+    }
+
+    /**
+     * A {@code private} {@link ParameterValue} that retrieves the value stored for a key.
+     *
+     * @param pKey {@link String} - The key of the parameter.
+     * @return {@link ParameterValue} - The value, or {@code null} if the key has no value.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private ParameterValue getValue(String pKey) {
+        return getParameterValue(schema.getSlot(pKey));
+    }
+
+    /**
+     * A {@code public} {@link ParameterSchema} that returns the schema backing this instance.
+     * <p>
+     * Use {@link ParameterSchema#getSlot(String)} once to resolve a key, and the slot-based getters afterwards.
+     * </p>
+     *
+     * @return {@link ParameterSchema} - The schema of this instance.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public ParameterSchema getSchema() {
+        return schema;
+    }
 
     /**
      * A {@code protected void} that adds a parameter to {@link #parameters}.
      * <p>
      * This method stores a new parameter with the specified key and value in {@link #parameters}.
+     * The value is converted with {@link ParameterValue#of(Object)}.
      * </p>
      *
      * @param pKey   {@link String} - The key under which the parameter is stored.
@@ -57,22 +124,216 @@ public abstract class ParameterBase {
      * @since 1.0.0
      */
     protected void addParameter(String pKey, Object pValue) {
-        parameters.put(pKey, pValue);
+        int slot = schema.getOrCreateSlot(pKey);
+        if (slot >= parameters.length) {
+            parameters = Arrays.copyOf(parameters, Math.max(slot + 1, schema.size()));
+        }
+        parameters[slot] = ParameterValue.of(pValue);
     }
 
     /**
      * A {@code protected} {@link Object} that retrieves a parameter from {@link #parameters} by its key.
      * <p>
-     * This method returns the value associated with the specified key, or {@code null} if the key does not exist.
+     * This method returns the string representation of the value associated with the specified key, or {@code null} if the key does not exist.
      * </p>
      *
      * @param pKey {@link String} - The key of the parameter to retrieve.
-     * @return {@link Object} - The value associated with the key, or {@code null} if the key does not exist.
+     * @return {@link Object} - The string representation of the value associated with the key, or {@code null} if the key does not exist.
      * @author MeAlam
      * @since 1.0.0
      */
     protected Object getParameter(String pKey) {
-        return parameters.get(pKey);
+        ParameterValue value = getValue(pKey);
+        return value == null ? null : value.getAsString();
+    }
+
+    /**
+     * A {@code public} {@link ParameterValue} that retrieves the typed value of a parameter by its key.
+     *
+     * @param pKey {@link String} - The key of the parameter to retrieve.
+     * @return {@link ParameterValue} - The typed value associated with the key, or {@code null} if the key does not exist.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public ParameterValue getParameterValue(String pKey) {
+        return getValue(pKey);
+    }
+
+    /**
+     * A {@code public} {@link ParameterValue} that retrieves the typed value of a parameter by its slot index.
+     *
+     * @param pSlot {@code int} - The slot index from {@link ParameterSchema#getSlot(String)}.
+     * @return {@link ParameterValue} - The typed value at the slot, or {@code null} if the slot has no value.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public ParameterValue getParameterValue(int pSlot) {
+        ParameterValue[] values = parameters;
+        return pSlot >= 0 && pSlot < values.length ? values[pSlot] : null;
+    }
+
+    /**
+     * A {@code public} {@code int} that retrieves a parameter as an {@code int} by its slot index.
+     *
+     * @param pSlot    {@code int} - The slot index from {@link ParameterSchema#getSlot(String)}.
+     * @param pDefault {@code int} - The value to return if the parameter does not exist or is not numeric.
+     * @return {@code int} - The value of the parameter, or {@code pDefault}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int getInt(int pSlot, int pDefault) {
+        ParameterValue value = getParameterValue(pSlot);
+        return value == null ? pDefault : value.getAsInt(pDefault);
+    }
+
+    /**
+     * A {@code public} {@code long} that retrieves a parameter as a {@code long} by its slot index.
+     *
+     * @param pSlot    {@code int} - The slot index from {@link ParameterSchema#getSlot(String)}.
+     * @param pDefault {@code long} - The value to return if the parameter does not exist or is not numeric.
+     * @return {@code long} - The value of the parameter, or {@code pDefault}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public long getLong(int pSlot, long pDefault) {
+        ParameterValue value = getParameterValue(pSlot);
+        return value == null ? pDefault : value.getAsLong(pDefault);
+    }
+
+    /**
+     * A {@code public} {@code double} that retrieves a parameter as a {@code double} by its slot index.
+     *
+     * @param pSlot    {@code int} - The slot index from {@link ParameterSchema#getSlot(String)}.
+     * @param pDefault {@code double} - The value to return if the parameter does not exist or is not numeric.
+     * @return {@code double} - The value of the parameter, or {@code pDefault}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public double getDouble(int pSlot, double pDefault) {
+        ParameterValue value = getParameterValue(pSlot);
+        return value == null ? pDefault : value.getAsDouble(pDefault);
+    }
+
+    /**
+     * A {@code public} {@code boolean} that retrieves a parameter as a {@code boolean} by its slot index.
+     *
+     * @param pSlot    {@code int} - The slot index from {@link ParameterSchema#getSlot(String)}.
+     * @param pDefault {@code boolean} - The value to return if the parameter does not exist or is not a boolean.
+     * @return {@code boolean} - The value of the parameter, or {@code pDefault}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public boolean getBoolean(int pSlot, boolean pDefault) {
+        ParameterValue value = getParameterValue(pSlot);
+        return value == null ? pDefault : value.getAsBoolean(pDefault);
+    }
+
+    /**
+     * A {@code public} {@link String} that retrieves a parameter as a {@link String} by its slot index.
+     *
+     * @param pSlot {@code int} - The slot index from {@link ParameterSchema#getSlot(String)}.
+     * @return {@link String} - The string representation of the parameter, or {@code null} if the slot has no value.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public String getString(int pSlot) {
+        ParameterValue value = getParameterValue(pSlot);
+        return value == null ? null : value.getAsString();
+    }
+
+    /**
+     * A {@code public} {@code int} that retrieves a parameter as an {@code int}.
+     *
+     * @param pKey     {@link String} - The key of the parameter to retrieve.
+     * @param pDefault {@code int} - The value to return if the parameter does not exist or is not numeric.
+     * @return {@code int} - The value of the parameter, or {@code pDefault}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int getInt(String pKey, int pDefault) {
+        ParameterValue value = getValue(pKey);
+        return value == null ? pDefault : value.getAsInt(pDefault);
+    }
+
+    /**
+     * A {@code public} {@code long} that retrieves a parameter as a {@code long}.
+     *
+     * @param pKey     {@link String} - The key of the parameter to retrieve.
+     * @param pDefault {@code long} - The value to return if the parameter does not exist or is not numeric.
+     * @return {@code long} - The value of the parameter, or {@code pDefault}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public long getLong(String pKey, long pDefault) {
+        ParameterValue value = getValue(pKey);
+        return value == null ? pDefault : value.getAsLong(pDefault);
+    }
+
+    /**
+     * A {@code public} {@code double} that retrieves a parameter as a {@code double}.
+     *
+     * @param pKey     {@link String} - The key of the parameter to retrieve.
+     * @param pDefault {@code double} - The value to return if the parameter does not exist or is not numeric.
+     * @return {@code double} - The value of the parameter, or {@code pDefault}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public double getDouble(String pKey, double pDefault) {
+        ParameterValue value = getValue(pKey);
+        return value == null ? pDefault : value.getAsDouble(pDefault);
+    }
+
+    /**
+     * A {@code public} {@code boolean} that retrieves a parameter as a {@code boolean}.
+     *
+     * @param pKey     {@link String} - The key of the parameter to retrieve.
+     * @param pDefault {@code boolean} - The value to return if the parameter does not exist or is not a boolean.
+     * @return {@code boolean} - The value of the parameter, or {@code pDefault}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public boolean getBoolean(String pKey, boolean pDefault) {
+        ParameterValue value = getValue(pKey);
+        return value == null ? pDefault : value.getAsBoolean(pDefault);
+    }
+
+    /**
+     * A {@code public} {@link String} that retrieves a parameter as a {@link String}.
+     *
+     * @param pKey {@link String} - The key of the parameter to retrieve.
+     * @return {@link String} - The string representation of the parameter, or {@code null} if the key does not exist.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public String getString(String pKey) {
+        ParameterValue value = getValue(pKey);
+        return value == null ? null : value.getAsString();
+    }
+
+    /**
+     * A {@code public} {@link List<String>} that retrieves a parameter as a {@link List} of {@link String}.
+     *
+     * @param pKey {@link String} - The key of the parameter to retrieve.
+     * @return {@link List<String>} - An immutable {@link List} of values, or an empty {@link List} if the key does not exist.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public List<String> getStringList(String pKey) {
+        ParameterValue value = getValue(pKey);
+        return value == null ? Collections.emptyList() : value.getAsStringList();
+    }
+
+    /**
+     * A {@code public} {@link Map} that retrieves a parameter as a nested object.
+     *
+     * @param pKey {@link String} - The key of the parameter to retrieve.
+     * @return {@link Map} - An immutable {@link Map} of nested values, or an empty {@link Map} if the key does not exist or is not an object.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public Map<String, ParameterValue> getObject(String pKey) {
+        ParameterValue value = getValue(pKey);
+        return value == null ? Collections.emptyMap() : value.getAsObject();
     }
 
     /**
@@ -86,17 +347,19 @@ public abstract class ParameterBase {
      * @since 1.0.0
      */
     protected void removeParameter(String pKey) {
-        if (parameters.remove(pKey) != null) {
-            BaseLogger.log(BaseLogLevel.SUCCESS, String.format("Parameter removed: Key = %s", pKey), true);
+        int slot = schema.getSlot(pKey);
+        if (getParameterValue(slot) != null) {
+            parameters[slot] = null;
+            LogCategory.VARIANT_PARAMETER.log(BaseLogLevel.SUCCESS, () -> String.format("Parameter removed: Key = %s", pKey));
         } else {
-            BaseLogger.log(BaseLogLevel.WARNING, String.format("Attempted to remove non-existent parameter: Key = %s", pKey), true);
+            LogCategory.VARIANT_PARAMETER.log(BaseLogLevel.WARNING, () -> String.format("Attempted to remove non-existent parameter: Key = %s", pKey));
         }
     }
 
     /**
      * A {@code protected} {@link Map} that returns all parameters in {@link #parameters}.
      * <p>
-     * This method returns a new {@link Map} containing all parameters stored in {@link #parameters}.
+     * This method returns a new {@link Map} containing the string representation of all parameters stored in {@link #parameters}.
      * </p>
      *
      * @return {@link Map} - A {@link Map} containing all parameters.
@@ -104,7 +367,13 @@ public abstract class ParameterBase {
      * @since 1.0.0
      */
     protected Map<String, Object> getAllParameters() {
-        return new HashMap<>(parameters);
+        Map<String, Object> allParameters = new HashMap<>();
+        for (int slot = 0; slot < parameters.length; slot++) {
+            if (parameters[slot] != null) {
+                allParameters.put(schema.getKey(slot), parameters[slot].getAsString());
+            }
+        }
+        return allParameters;
     }
 
     /**
@@ -119,7 +388,7 @@ public abstract class ParameterBase {
      * @since 1.0.0
      */
     protected boolean containsParameter(String pKey) {
-        return parameters.containsKey(pKey);
+        return getValue(pKey) != null;
     }
 
     /**
@@ -133,7 +402,7 @@ public abstract class ParameterBase {
      * @since 1.0.0
      */
     protected boolean isEmpty() {
-        return parameters.isEmpty();
+        return getParameterCount() == 0;
     }
 
     /**
@@ -143,7 +412,7 @@ public abstract class ParameterBase {
      * @since 1.0.0
      */
     protected void clearParameters() {
-        parameters.clear();
+        Arrays.fill(parameters, null);
     }
 
     /**
@@ -154,7 +423,13 @@ public abstract class ParameterBase {
      * @since 1.0.0
      */
     protected int getParameterCount() {
-        return parameters.size();
+        int count = 0;
+        for (ParameterValue value : parameters) {
+            if (value != null) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
@@ -168,13 +443,19 @@ public abstract class ParameterBase {
      * @since 1.0.0
      */
     protected Set<String> getParameterKeys() {
-        return parameters.keySet();
+        Set<String> keys = new LinkedHashSet<>();
+        for (int slot = 0; slot < parameters.length; slot++) {
+            if (parameters[slot] != null) {
+                keys.add(schema.getKey(slot));
+            }
+        }
+        return keys;
     }
 
     /**
      * A {@code protected} {@link Collection<Object>} that returns a {@link Collection<Object>} of all parameter values.
      * <p>
-     * This method provides a {@link Collection<Object>} containing all the values of parameters in {@link #parameters}.
+     * This method provides a {@link Collection<Object>} containing the string representation of all the values of parameters in {@link #parameters}.
      * </p>
      *
      * @return {@link Collection<Object>} - A {@link Collection<Object>} containing all parameter values.
@@ -182,7 +463,13 @@ public abstract class ParameterBase {
      * @since 1.0.0
      */
     protected Collection<Object> getParameterValues() {
-        return parameters.values();
+        List<Object> values = new ArrayList<>(parameters.length);
+        for (ParameterValue value : parameters) {
+            if (value != null) {
+                values.add(value.getAsString());
+            }
+        }
+        return values;
     }
 
     /**
@@ -198,13 +485,13 @@ public abstract class ParameterBase {
      * @since 1.0.0
      */
     protected void updateParameter(String pKey, Object pNewValue) {
-        if (parameters.containsKey(pKey)) {
-            parameters.put(pKey, pNewValue);
-            BaseLogger.log(BaseLogLevel.SUCCESS, String.format("Parameter updated: Key = %s, New Value = %s", pKey, pNewValue), true);
+        if (containsParameter(pKey)) {
+            parameters[schema.getSlot(pKey)] = ParameterValue.of(pNewValue);
+            LogCategory.VARIANT_PARAMETER.log(BaseLogLevel.SUCCESS, () -> String.format("Parameter updated: Key = %s, New Value = %s", pKey, pNewValue));
         } else {
             Throwable throwable = new Throwable("Key does not exist: " + pKey);
             IllegalArgumentException exception = new IllegalArgumentException("Key does not exist: " + pKey);
-            BaseLogger.log(BaseLogLevel.ERROR, String.format("Attempted to update non-existent parameter: Key = %s", pKey), throwable, true);
+            LogCategory.VARIANT_PARAMETER.log(BaseLogLevel.ERROR, () -> String.format("Attempted to update non-existent parameter: Key = %s", pKey), throwable);
             throw exception;
         }
     }
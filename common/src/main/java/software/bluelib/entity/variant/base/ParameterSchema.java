@@ -0,0 +1,127 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.entity.variant.base;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@code public final class} that interns parameter keys and assigns every key a slot index.
+ * <p>
+ * All variants of an entity share the same {@link ParameterSchema}, so every key is stored only once and every
+ * {@link ParameterBase} only needs a compact array of values indexed by slot. <br>
+ * Slots are never removed or reassigned within a schema, so a slot looked up once with {@link #getSlot(String)} stays valid
+ * for every variant of the same {@link software.bluelib.entity.variant.VariantIndex} and can be used for array-indexed
+ * access on hot paths.
+ * </p>
+ * <p>
+ * There is no global schema. Variants are parsed into a schema per entity that lives only for a single load, and every
+ * {@link software.bluelib.entity.variant.VariantIndex} copies its variants into a new schema that holds only their keys,
+ * so keys of removed or renamed packs never keep their slots across reloads, and concurrent loads never share a schema.
+ * </p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #getSlot(String)} - Retrieves the slot index of a key.</li>
+ *   <li>{@link #getOrCreateSlot(String)} - Retrieves the slot index of a key, assigning a new one if needed.</li>
+ *   <li>{@link #getKey(int)} - Retrieves the key stored at a slot index.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see ParameterBase
+ * @since 1.0.0
+ */
+public final class ParameterSchema {
+
+    /**
+     * A {@code private final} {@link Map} from key to slot index.
+     *
+     * @since 1.0.0
+     */
+    private final Map<String, Integer> slots = new ConcurrentHashMap<>();
+
+    /**
+     * A {@code private volatile} array of keys indexed by slot.
+     * <p>
+     * This array is replaced, never modified, when a new key is added.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private volatile String[] keys = new String[0];
+
+    /**
+     * A {@code public} {@code int} that retrieves the slot index of a key.
+     *
+     * @param pKey {@link String} - The key to look up.
+     * @return {@code int} - The slot index of the key, or {@code -1} if the key has no slot.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int getSlot(String pKey) {
+        Integer slot = slots.get(pKey);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * A {@code public} {@code int} that retrieves the slot index of a key, assigning the next free slot if the key has none.
+     *
+     * @param pKey {@link String} - The key to look up.
+     * @return {@code int} - The slot index of the key.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int getOrCreateSlot(String pKey) {
+        Integer slot = slots.get(pKey);
+        if (slot != null) {
+            return slot;
+        }
+        synchronized (this) {
+            slot = slots.get(pKey);
+            if (slot == null) {
+                String[] next = Arrays.copyOf(keys, keys.length + 1);
+                slot = keys.length;
+                next[slot] = pKey;
+                keys = next;
+                slots.put(pKey, slot);
+            }
+            return slot;
+        }
+    }
+
+    /**
+     * A {@code public} {@link String} that retrieves the key stored at a slot index.
+     *
+     * @param pSlot {@code int} - The slot index.
+     * @return {@link String} - The interned key, or {@code null} if the slot does not exist.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public String getKey(int pSlot) {
+        String[] current = keys;
+        return pSlot >= 0 && pSlot < current.length ? current[pSlot] : null;
+    }
+
+    /**
+     * A {@code public} {@code int} that returns the number of slots in this schema.
+     *
+     * @return {@code int} - The number of slots.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * A {@code public} {@link List<String>} that returns all keys ordered by slot.
+     *
+     * @return {@link List<String>} - An immutable {@link List} of keys.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public List<String> getKeys() {
+        return List.of(keys);
+    }
+}
@@ -0,0 +1,397 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.entity.variant.base;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@code public final class} that holds a single, immutable, typed parameter value.
+ * <p>
+ * Numbers and booleans are stored in primitive fields, so reading them through the typed getters never boxes or parses.
+ * Every value also keeps its string representation, which matches the way parameters were stored before they were typed:
+ * numbers keep their literal, arrays are joined with commas and objects are stored as JSON.
+ * </p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #of(Object)} - Wraps an arbitrary {@link Object} in a {@link ParameterValue}.</li>
+ *   <li>{@link #ofNumber(String)} - Creates a numeric {@link ParameterValue} from a number literal.</li>
+ *   <li>{@link #getAsInt(int)} - Retrieves the value as an {@code int}.</li>
+ *   <li>{@link #getAsDouble(double)} - Retrieves the value as a {@code double}.</li>
+ *   <li>{@link #getAsBoolean(boolean)} - Retrieves the value as a {@code boolean}.</li>
+ *   <li>{@link #getAsString()} - Retrieves the string representation of the value.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see ParameterBase
+ * @since 1.0.0
+ */
+public final class ParameterValue {
+
+    /**
+     * A {@code public enum} of all types a {@link ParameterValue} can hold.
+     *
+     * @since 1.0.0
+     */
+    public enum Type {
+        INT, LONG, DOUBLE, BOOLEAN, STRING, STRING_LIST, OBJECT, NULL
+    }
+
+    /**
+     * A {@code public static final} {@link ParameterValue} that represents a JSON {@code null}.
+     *
+     * @since 1.0.0
+     */
+    public static final ParameterValue NULL = new ParameterValue(Type.NULL, 0L, 0.0D, null, "null");
+
+    /**
+     * A {@code public static final} {@link ParameterValue} that represents {@code true}.
+     *
+     * @since 1.0.0
+     */
+    public static final ParameterValue TRUE = new ParameterValue(Type.BOOLEAN, 1L, 1.0D, null, "true");
+
+    /**
+     * A {@code public static final} {@link ParameterValue} that represents {@code false}.
+     *
+     * @since 1.0.0
+     */
+    public static final ParameterValue FALSE = new ParameterValue(Type.BOOLEAN, 0L, 0.0D, null, "false");
+
+    /**
+     * A {@code private final} {@link Type} of this value.
+     *
+     * @since 1.0.0
+     */
+    private final Type type;
+
+    /**
+     * A {@code private final} {@code long} that holds integral and boolean values.
+     *
+     * @since 1.0.0
+     */
+    private final long longValue;
+
+    /**
+     * A {@code private final} {@code double} that holds numeric values.
+     *
+     * @since 1.0.0
+     */
+    private final double doubleValue;
+
+    /**
+     * A {@code private final} {@link Object} that holds string, string-list and object values.
+     *
+     * @since 1.0.0
+     */
+    private final Object reference;
+
+    /**
+     * A {@code private final} {@link String} representation of this value.
+     *
+     * @since 1.0.0
+     */
+    private final String text;
+
+    /**
+     * A {@code private} constructor that creates a new {@link ParameterValue}.
+     *
+     * @param pType        {@link Type} - The type of the value.
+     * @param pLongValue   {@code long} - The integral or boolean value.
+     * @param pDoubleValue {@code double} - The numeric value.
+     * @param pReference   {@link Object} - The string, string-list or object value.
+     * @param pText        {@link String} - The string representation of the value.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private ParameterValue(Type pType, long pLongValue, double pDoubleValue, Object pReference, String pText) {
+        this.type = pType;
+        this.longValue = pLongValue;
+        this.doubleValue = pDoubleValue;
+        this.reference = pReference;
+        this.text = pText;
+    }
+
+    /**
+     * A {@code public static} {@link ParameterValue} that creates an {@code int} value.
+     *
+     * @param pValue {@code int} - The value.
+     * @return {@link ParameterValue} - The new value.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static ParameterValue ofInt(int pValue) {
+        return new ParameterValue(Type.INT, pValue, pValue, null, Integer.toString(pValue));
+    }
+
+    /**
+     * A {@code public static} {@link ParameterValue} that creates a {@code long} value.
+     *
+     * @param pValue {@code long} - The value.
+     * @return {@link ParameterValue} - The new value.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static ParameterValue ofLong(long pValue) {
+        return new ParameterValue(Type.LONG, pValue, pValue, null, Long.toString(pValue));
+    }
+
+    /**
+     * A {@code public static} {@link ParameterValue} that creates a {@code double} value.
+     *
+     * @param pValue {@code double} - The value.
+     * @return {@link ParameterValue} - The new value.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static ParameterValue ofDouble(double pValue) {
+        return new ParameterValue(Type.DOUBLE, (long) pValue, pValue, null, Double.toString(pValue));
+    }
+
+    /**
+     * A {@code public static} {@link ParameterValue} that creates a {@code boolean} value.
+     *
+     * @param pValue {@code boolean} - The value.
+     * @return {@link ParameterValue} - {@link #TRUE} or {@link #FALSE}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static ParameterValue ofBoolean(boolean pValue) {
+        return pValue ? TRUE : FALSE;
+    }
+
+    /**
+     * A {@code public static} {@link ParameterValue} that creates a {@link String} value.
+     *
+     * @param pValue {@link String} - The value.
+     * @return {@link ParameterValue} - The new value, or {@link #NULL} if {@code pValue} is {@code null}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static ParameterValue ofString(String pValue) {
+        return pValue == null ? NULL : new ParameterValue(Type.STRING, 0L, 0.0D, pValue, pValue);
+    }
+
+    /**
+     * A {@code public static} {@link ParameterValue} that creates a string-list value.
+     * <p>
+     * The string representation joins the elements with commas.
+     * </p>
+     *
+     * @param pValues {@link List<String>} - The values.
+     * @return {@link ParameterValue} - The new value.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static ParameterValue ofStringList(List<String> pValues) {
+        return new ParameterValue(Type.STRING_LIST, 0L, 0.0D, List.copyOf(pValues), String.join(",", pValues));
+    }
+
+    /**
+     * A {@code public static} {@link ParameterValue} that creates a nested object value.
+     *
+     * @param pValues {@link Map} - The values of the nested object, keyed by name.
+     * @param pText   {@link String} - The JSON representation of the nested object.
+     * @return {@link ParameterValue} - The new value.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static ParameterValue ofObject(Map<String, ParameterValue> pValues, String pText) {
+        return new ParameterValue(Type.OBJECT, 0L, 0.0D, Collections.unmodifiableMap(new LinkedHashMap<>(pValues)), pText);
+    }
+
+    /**
+     * A {@code public static} {@link ParameterValue} that creates a numeric value from a number literal.
+     * <p>
+     * Literals without a fraction or exponent become {@link Type#INT} or {@link Type#LONG}, depending on their size.
+     * All other literals become {@link Type#DOUBLE}. The literal itself is kept as the string representation.
+     * </p>
+     *
+     * @param pLiteral {@link String} - The number literal.
+     * @return {@link ParameterValue} - The new value, or a {@link Type#STRING} value if the literal is not a number.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static ParameterValue ofNumber(String pLiteral) {
+        try {
+            if (pLiteral.indexOf('.') < 0 && pLiteral.indexOf('e') < 0 && pLiteral.indexOf('E') < 0) {
+                long value = Long.parseLong(pLiteral);
+                Type type = value == (int) value ? Type.INT : Type.LONG;
+                return new ParameterValue(type, value, value, null, pLiteral);
+            }
+            double value = Double.parseDouble(pLiteral);
+            return new ParameterValue(Type.DOUBLE, (long) value, value, null, pLiteral);
+        } catch (NumberFormatException pException) {
+            return ofString(pLiteral);
+        }
+    }
+
+    /**
+     * A {@code public static} {@link ParameterValue} that wraps an arbitrary {@link Object}.
+     * <p>
+     * Numbers, booleans, strings and lists are converted to their matching {@link Type}. Any other object is stored as its string representation.
+     * </p>
+     *
+     * @param pValue {@link Object} - The value to wrap.
+     * @return {@link ParameterValue} - The wrapped value.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static ParameterValue of(Object pValue) {
+        if (pValue == null) {
+            return NULL;
+        } else if (pValue instanceof ParameterValue value) {
+            return value;
+        } else if (pValue instanceof Integer value) {
+            return ofInt(value);
+        } else if (pValue instanceof Long value) {
+            return ofLong(value);
+        } else if (pValue instanceof Number value) {
+            return ofDouble(value.doubleValue());
+        } else if (pValue instanceof Boolean value) {
+            return ofBoolean(value);
+        } else if (pValue instanceof List<?> values) {
+            return ofStringList(values.stream().map(String::valueOf).toList());
+        }
+        return ofString(pValue.toString());
+    }
+
+    /**
+     * A {@code public} {@link Type} that returns the type of this value.
+     *
+     * @return {@link Type} - The type of this value.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * A {@code private} {@link Boolean} that checks if this value is numeric or boolean.
+     *
+     * @return {@code true} if this value holds a number or boolean, {@code false} otherwise.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private boolean isPrimitive() {
+        return type == Type.INT || type == Type.LONG || type == Type.DOUBLE || type == Type.BOOLEAN;
+    }
+
+    /**
+     * A {@code public} {@code int} that returns this value as an {@code int}.
+     *
+     * @param pDefault {@code int} - The value to return if this value is not numeric or does not fit in an {@code int}.
+     * @return {@code int} - The value, or {@code pDefault}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int getAsInt(int pDefault) {
+        return isPrimitive() && longValue == (int) longValue ? (int) longValue : pDefault;
+    }
+
+    /**
+     * A {@code public} {@code long} that returns this value as a {@code long}.
+     *
+     * @param pDefault {@code long} - The value to return if this value is not numeric.
+     * @return {@code long} - The value, or {@code pDefault}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public long getAsLong(long pDefault) {
+        return isPrimitive() ? longValue : pDefault;
+    }
+
+    /**
+     * A {@code public} {@code double} that returns this value as a {@code double}.
+     *
+     * @param pDefault {@code double} - The value to return if this value is not numeric.
+     * @return {@code double} - The value, or {@code pDefault}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public double getAsDouble(double pDefault) {
+        return isPrimitive() ? doubleValue : pDefault;
+    }
+
+    /**
+     * A {@code public} {@code boolean} that returns this value as a {@code boolean}.
+     * <p>
+     * A string is parsed ignoring case, so {@code "true"} and {@code "false"} written as strings keep working.
+     * </p>
+     *
+     * @param pDefault {@code boolean} - The value to return if this value is neither a boolean nor a boolean string.
+     * @return {@code boolean} - The value, or {@code pDefault}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public boolean getAsBoolean(boolean pDefault) {
+        if (type == Type.BOOLEAN) {
+            return longValue != 0L;
+        }
+        if (type == Type.STRING) {
+            if ("true".equalsIgnoreCase(text)) {
+                return true;
+            }
+            if ("false".equalsIgnoreCase(text)) {
+                return false;
+            }
+        }
+        return pDefault;
+    }
+
+    /**
+     * A {@code public} {@link String} that returns the string representation of this value.
+     *
+     * @return {@link String} - The string representation of this value.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public String getAsString() {
+        return text;
+    }
+
+    /**
+     * A {@code public} {@link List<String>} that returns this value as a string-list.
+     * <p>
+     * A single string is returned as a list with one element.
+     * </p>
+     *
+     * @return {@link List<String>} - An immutable {@link List} with the values, or an empty {@link List} if this value is not a string or string-list.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> getAsStringList() {
+        if (type == Type.STRING_LIST) {
+            return (List<String>) reference;
+        }
+        return type == Type.STRING ? List.of(text) : Collections.emptyList();
+    }
+
+    /**
+     * A {@code public} {@link Map} that returns this value as a nested object.
+     *
+     * @return {@link Map} - An immutable {@link Map} of the nested values, or an empty {@link Map} if this value is not an object.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, ParameterValue> getAsObject() {
+        return type == Type.OBJECT ? (Map<String, ParameterValue>) reference : Collections.emptyMap();
+    }
+
+    /**
+     * A {@code public} {@link String} that returns the string representation of this value.
+     *
+     * @return {@link String} - The string representation of this value.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -9,6 +9,8 @@ import software.bluelib.entity.variant.VariantLoader;
 import software.bluelib.utils.logging.BaseLogLevel;
 import software.bluelib.utils.logging.BaseLogger;
 
+import java.util.Collection;
+
 /**
  * A {@code class} responsible for handling events related to reloading entity variants.
  * <p>
@@ -18,6 +20,7 @@ import software.bluelib.utils.logging.BaseLogger;
  * Key Features:
  * <ul>
  *   <li>{@link #registerEntityVariants(String, MinecraftServer, String, String)} - Registers entity variants from specified locations.</li>
+ *   <li>{@link #registerAllEntityVariants(String, MinecraftServer, String, Collection)} - Registers the variants of multiple entities with a single resource scan.</li>
  * </ul>
  *
  * @author MeAlam
@@ -76,4 +79,52 @@ public class ReloadEventHandler {
             throw pException;
         }
     }
+
+    /**
+     * A {@code protected static void} that registers the variants of multiple entities with a single resource scan.
+     * <p>
+     * Unlike {@link #registerEntityVariants(String, MinecraftServer, String, String)}, which scans the resources once per entity,
+     * this method lists {@code pBasePath} once and routes every file to an entity by its sub-folder, so
+     * {@code variant/entity/dragon/blue.json} is loaded for {@code dragon}.
+     * </p>
+     * <p>
+     * Parameters:
+     * <ul>
+     *   <li>{@code pBasePath} {@link String} - The folder path that contains one sub-folder per entity. (e.g. {@code variant/entity/})</li>
+     *   <li>{@code pServer} {@link MinecraftServer} - The server instance of the current world.</li>
+     *   <li>{@code pModID} {@link String} - The mod ID used to locate the entity variant resources. (Use your Mod's ID)</li>
+     *   <li>{@code pEntityNames} {@link Collection<String>} - The entity names to load.</li>
+     * </ul>
+     *
+     * Exception Handling:
+     * <ul>
+     *   <li>{@link JsonParseException} - Thrown when there is an error parsing the JSON files.</li>
+     *   <li>{@link RuntimeException} - Thrown for unexpected errors during the registration process.</li>
+     * </ul>
+     *
+     * @param pBasePath    {@link String} - The folder path that contains one sub-folder per entity.
+     * @param pServer      {@link MinecraftServer} - The server instance of the current world.
+     * @param pModID       {@link String} - The mod ID used to locate the entity variant resources. (Use your Mod's ID)
+     * @param pEntityNames {@link Collection<String>} - The entity names to load.
+     * @throws JsonParseException if there is an error parsing the JSON files.
+     * @throws RuntimeException   if an unexpected error occurs during the registration process.
+     * @author MeAlam
+     * @see VariantLoader#loadAllVariants(String, MinecraftServer, Collection)
+     * @since 1.0.0
+     */
+    protected static void registerAllEntityVariants(String pBasePath, MinecraftServer pServer, String pModID, Collection<String> pEntityNames) {
+
+        BaseLogger.log(BaseLogLevel.INFO, "Attempting to register entity variants for " + pEntityNames + " with ModID: " + pModID, true);
+
+        try {
+            VariantLoader.loadAllVariants(pBasePath, pServer, pEntityNames);
+            BaseLogger.log(BaseLogLevel.SUCCESS, "Successfully registered entity variants for " + pEntityNames + " from ModID: " + pModID, true);
+        } catch (JsonParseException pException) {
+            BaseLogger.log(BaseLogLevel.ERROR, "Failed to parse JSON(s) while registering entity variants for " + pEntityNames + " from ModID: " + pModID, pException, true);
+            throw pException;
+        } catch (Exception pException) {
+            BaseLogger.log(BaseLogLevel.ERROR, "Unexpected error occurred while registering entity variants for " + pEntityNames + " from ModID: " + pModID, pException, true);
+            throw pException;
+        }
+    }
 }
@@ -0,0 +1,195 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.event;
+
+import net.minecraft.server.packs.resources.PreparableReloadListener;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.util.profiling.ProfilerFiller;
+import software.bluelib.entity.variant.PreparedVariants;
+import software.bluelib.entity.variant.VariantLoader;
+import software.bluelib.utils.logging.BaseLogLevel;
+import software.bluelib.utils.logging.LogCategory;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@code public final class} that reloads entity variants as part of the regular resource reload.
+ * <p>
+ * Register it as a {@link PreparableReloadListener} on every platform. Minecraft calls it after the new resources are
+ * available, so no delay or timer is needed to wait for them. <br>
+ * The reload is split in two phases. All resource I/O, parsing and indexing runs on the background executor in
+ * {@link VariantLoader#prepareAllVariants(Map, ResourceManager)}, which prepares every registered base path into a single
+ * result; the server thread only publishes it with {@link VariantLoader#applyVariants(PreparedVariants)}, which is a single
+ * reference swap. <br>
+ * Every call to {@link #reload(PreparationBarrier, ResourceManager, ProfilerFiller, ProfilerFiller, Executor, Executor)}
+ * starts a new generation. Work of an older generation that has not been applied yet is skipped, so overlapping reloads,
+ * and the same listener being registered more than once, are coalesced into a single load of the newest resources.
+ * </p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #register(String, Collection)} - Registers the entities of a base path to be reloaded.</li>
+ *   <li>{@link #reload(PreparationBarrier, ResourceManager, ProfilerFiller, ProfilerFiller, Executor, Executor)} - Reloads all registered entities.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see VariantLoader
+ * @since 1.0.0
+ */
+public final class VariantReloadCoordinator implements PreparableReloadListener {
+
+    /**
+     * A {@code public static final} {@link VariantReloadCoordinator} shared by all platforms.
+     *
+     * @since 1.0.0
+     */
+    public static final VariantReloadCoordinator INSTANCE = new VariantReloadCoordinator();
+
+    /**
+     * A {@code private final} {@link Map} of the entity names to reload, keyed by base path.
+     *
+     * @since 1.0.0
+     */
+    private final Map<String, Set<String>> registrations = new ConcurrentHashMap<>();
+
+    /**
+     * A {@code private final} {@link AtomicLong} that holds the generation of the newest reload.
+     *
+     * @since 1.0.0
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * A {@code private} constructor to prevent instantiation outside {@link #INSTANCE}.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private VariantReloadCoordinator() {
+    }
+
+    /**
+     * A {@code public void} that registers the entities of a base path to be reloaded.
+     * <p>
+     * Registering the same entities again has no effect, so this can safely be called on every reload event.
+     * </p>
+     *
+     * @param pBasePath    {@link String} - The folder path that contains one sub-folder per entity. (e.g. {@code variant/entity/})
+     * @param pEntityNames {@link Collection<String>} - The entity names to load.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public void register(String pBasePath, Collection<String> pEntityNames) {
+        registrations.computeIfAbsent(pBasePath, k -> ConcurrentHashMap.newKeySet()).addAll(pEntityNames);
+    }
+
+    /**
+     * A {@link CompletableFuture} that reloads the variants of all registered entities from the new resources.
+     * <p>
+     * The variants are prepared on the background executor, and applied on the game executor once all listeners have
+     * passed the preparation barrier. If a newer reload has started by then, the prepared variants are discarded.
+     * </p>
+     *
+     * @param pPreparationBarrier   {@link PreparationBarrier} - The barrier between the preparation and apply phases.
+     * @param pResourceManager      {@link ResourceManager} - The new resources.
+     * @param pPreparationsProfiler {@link ProfilerFiller} - The profiler of the preparation phase.
+     * @param pReloadProfiler       {@link ProfilerFiller} - The profiler of the apply phase.
+     * @param pBackgroundExecutor   {@link Executor} - The executor for preparation work.
+     * @param pGameExecutor         {@link Executor} - The executor of the server thread.
+     * @return {@link CompletableFuture} - Completes when the reload has been applied or skipped.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Override
+    public CompletableFuture<Void> reload(PreparationBarrier pPreparationBarrier, ResourceManager pResourceManager,
+                                          ProfilerFiller pPreparationsProfiler, ProfilerFiller pReloadProfiler,
+                                          Executor pBackgroundExecutor, Executor pGameExecutor) {
+        long reloadGeneration = generation.incrementAndGet();
+        return CompletableFuture.supplyAsync(() -> {
+                    pPreparationsProfiler.startTick();
+                    pPreparationsProfiler.push("bluelib_variants");
+                    try {
+                        return prepare(pResourceManager, reloadGeneration);
+                    } finally {
+                        pPreparationsProfiler.pop();
+                        pPreparationsProfiler.endTick();
+                    }
+                }, pBackgroundExecutor)
+                .thenCompose(pPreparationBarrier::wait)
+                .thenAcceptAsync(pPrepared -> {
+                    if (reloadGeneration != generation.get()) {
+                        LogCategory.VARIANT.log(BaseLogLevel.INFO, "Skipping superseded variant reload " + reloadGeneration);
+                        return;
+                    }
+                    pReloadProfiler.startTick();
+                    pReloadProfiler.push("bluelib_variants");
+                    try {
+                        apply(pPrepared);
+                    } finally {
+                        pReloadProfiler.pop();
+                        pReloadProfiler.endTick();
+                    }
+                }, pGameExecutor);
+    }
+
+    /**
+     * A {@code private} {@link Optional} that reads and parses the variants of all registered entities.
+     * <p>
+     * The persistent variant cache is opened first with {@link VariantLoader#openCache()}, so the initial load while a world
+     * is starting already skips parsing unchanged resources. <br>
+     * All base paths are prepared into a single result, so applying one base path never makes the others stale. A failure is
+     * logged and does not fail the whole reload. Nothing is prepared once a newer reload has started.
+     * </p>
+     *
+     * @param pResourceManager  {@link ResourceManager} - The new resources.
+     * @param pReloadGeneration {@code long} - The generation of this reload.
+     * @return {@link Optional} - The prepared variants, or empty if nothing was prepared.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private Optional<PreparedVariants> prepare(ResourceManager pResourceManager, long pReloadGeneration) {
+        if (pReloadGeneration != generation.get() || registrations.isEmpty()) {
+            return Optional.empty();
+        }
+        VariantLoader.openCache();
+        Map<String, List<String>> entityNames = new LinkedHashMap<>();
+        for (Map.Entry<String, Set<String>> entry : registrations.entrySet()) {
+            entityNames.put(entry.getKey(), List.copyOf(entry.getValue()));
+        }
+        try {
+            return Optional.of(VariantLoader.prepareAllVariants(entityNames, pResourceManager));
+        } catch (Exception pException) {
+            LogCategory.VARIANT.log(BaseLogLevel.ERROR, "Unexpected error occurred while reloading entity variants for " + entityNames, pException);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * A {@code private void} that publishes the prepared variants of all registered entities.
+     *
+     * @param pPrepared {@link Optional} - The prepared variants, or empty if nothing was prepared.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private void apply(Optional<PreparedVariants> pPrepared) {
+        pPrepared.ifPresent(pVariants -> {
+            int rebuilt = VariantLoader.applyVariants(pVariants);
+            LogCategory.VARIANT.log(BaseLogLevel.SUCCESS, () -> "Reloaded " + pVariants.getResourceCount() + " resource(s) at: " + pVariants.getLabel() + ", rebuilt " + rebuilt);
+        });
+    }
+
+    /**
+     * A {@link String} that returns the name of this listener, shown in reload profiles.
+     *
+     * @return {@link String} - The name of this listener.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Override
+    public String getName() {
+        return "BlueLib Variants";
+    }
+}
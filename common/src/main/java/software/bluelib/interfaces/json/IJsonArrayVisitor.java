@@ -0,0 +1,38 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.interfaces.json;
+
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+
+/**
+ * A {@code public Interface} that receives the elements of top-level JSON arrays while a JSON document is streamed.
+ * <p>
+ * Implementations are handed the {@link JsonReader} positioned at the start of a single array element, and must
+ * consume exactly that one element before returning.
+ * </p>
+ * <p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #visit(String, JsonReader)} - Reads a single element of the array stored under a top-level key.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see software.bluelib.json.JSONLoader
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface IJsonArrayVisitor {
+
+    /**
+     * A {@code void} method that reads a single element of the array stored under a top-level key.
+     *
+     * @param pKey    {@link String} - The top-level key that holds the array.
+     * @param pReader {@link JsonReader} - The reader, positioned at the start of the element.
+     * @throws IOException if the element cannot be read.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    void visit(String pKey, JsonReader pReader) throws IOException;
+}
@@ -0,0 +1,40 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.interfaces.json;
+
+import com.google.gson.JsonElement;
+
+/**
+ * A {@code public Interface} that decides how a value of a source JSON object is merged into a target JSON object.
+ * <p>
+ * It is only called for keys that both objects contain; keys that only the source contains are always added. The built-in
+ * strategies are in {@link software.bluelib.json.JSONMergeStrategies}.
+ * </p>
+ * <p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #merge(String, JsonElement, JsonElement)} - Merges the value of a key that both objects contain.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see software.bluelib.json.JSONMerger
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface IJsonMergeStrategy {
+
+    /**
+     * A {@link JsonElement} method that merges the value of a key that both objects contain.
+     * <p>
+     * The target value may be modified in place and returned.
+     * </p>
+     *
+     * @param pKey           {@link String} - The key both objects contain.
+     * @param pTargetElement {@link JsonElement} - The value of the target object.
+     * @param pSourceElement {@link JsonElement} - The value of the source object, which must not be modified.
+     * @return {@link JsonElement} - The value to store in the target object.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    JsonElement merge(String pKey, JsonElement pTargetElement, JsonElement pSourceElement);
+}
@@ -2,14 +2,19 @@
 
 package software.bluelib.interfaces.platform;
 
+import net.minecraft.network.protocol.common.ClientboundCustomPayloadPacket;
+import net.minecraft.server.level.ServerPlayer;
+import software.bluelib.network.VariantIdSyncPayload;
 import software.bluelib.utils.logging.BaseLogLevel;
 import software.bluelib.utils.logging.BaseLogger;
 
+import java.nio.file.Path;
+
 /**
  * A {@code public interface} that defines platform-specific functionality for the BlueLib mod.
  * <p>
  * This interface provides methods to retrieve the platform name, check for loaded mods, and determine
- * if the game is running in a development environment.
+ * if the game is running in a development environment, and to send BlueLib's payloads to players.
  * </p>
  * <p>
  * Key Methods:
@@ -18,7 +23,12 @@ import software.bluelib.utils.logging.BaseLogger;
  *   <li>{@link #isModLoaded(String)} - Checks if a mod is loaded based on its ID.</li>
  *   <li>{@link #isDevelopmentEnvironment()} - Determines if the environment is for development.</li>
  *   <li>{@link #getEnvironmentName()} - Retrieves the name of the environment type.</li>
+ *   <li>{@link #sendToPlayer(ServerPlayer, VariantIdSyncPayload)} - Sends the variant IDs to a player.</li>
+ *   <li>{@link #getGameDirectory()} - Retrieves the game directory.</li>
  * </ul>
+ * {@link #sendToPlayer(ServerPlayer, VariantIdSyncPayload)} and {@link #getGameDirectory()} have default implementations
+ * that only use vanilla, so existing implementations of this interface keep working; the platforms of BlueLib override
+ * them with their own networking and paths.
  *
  * @author MeAlam
  * @since 1.0.0
@@ -65,4 +75,35 @@ public interface IPlatformHelper {
     default String getEnvironmentName() {
         return isDevelopmentEnvironment() ? "development" : "production";
     }
+
+    /**
+     * A {@code default void} method that sends the variant IDs of the server to a player over the platform's networking.
+     * <p>
+     * The payload type must have been registered with the platform when the mod was constructed. By default the payload is
+     * sent in a vanilla {@link ClientboundCustomPayloadPacket}.
+     * </p>
+     *
+     * @param pPlayer  {@link ServerPlayer} - The player to send the payload to.
+     * @param pPayload {@link VariantIdSyncPayload} - The payload to send.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    default void sendToPlayer(ServerPlayer pPlayer, VariantIdSyncPayload pPayload) {
+        pPlayer.connection.send(new ClientboundCustomPayloadPacket(pPayload));
+    }
+
+    /**
+     * A {@link Path} method that retrieves the game directory.
+     * <p>
+     * Unlike a world folder, the game directory is known before any world is loaded. By default it is the working directory
+     * of the game.
+     * </p>
+     *
+     * @return {@link Path} - The game directory.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    default Path getGameDirectory() {
+        return Path.of("").toAbsolutePath();
+    }
 }
@@ -2,11 +2,21 @@
 
 package software.bluelib.interfaces.variant;
 
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.ServerLevelAccessor;
+import software.bluelib.entity.variant.VariantIndex;
+import software.bluelib.entity.variant.VariantLoader;
+import software.bluelib.entity.variant.VariantParameter;
+import software.bluelib.entity.variant.VariantSampler;
 import software.bluelib.interfaces.variant.base.IVariantEntityBase;
 import software.bluelib.utils.logging.BaseLogLevel;
-import software.bluelib.utils.logging.BaseLogger;
+import software.bluelib.utils.logging.LogCategory;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -18,7 +28,11 @@ import java.util.List;
  * <p>
  * Key Methods:
  * <ul>
+ *   <li>{@link #getRandomVariant(String, String, ServerLevelAccessor, BlockPos)} - Retrieves a random variant name of an entity by weight that may spawn at a position.</li>
+ *   <li>{@link #getRandomVariant(String, String, RandomSource)} - Retrieves a random variant name of an entity by weight, or the default if it has none.</li>
  *   <li>{@link #getRandomVariant(List, String)} - Retrieves a random variant name from a provided list or defaults if the list is empty.</li>
+ *   <li>{@link #assignVariants(String, Collection, String, RandomSource)} - Assigns random variants to many entities at once.</li>
+ *   <li>{@link #assignVariants(String, Collection, String, ServerLevelAccessor)} - Assigns random variants that match their positions to many entities at once.</li>
  * </ul>
  *
  * @author MeAlam
@@ -30,14 +44,83 @@ public interface IVariantEntity extends IVariantEntityBase {
      * A {@link RandomSource} instance used for generating random variants.
      *
      * @since 1.0.0
+     * @deprecated Pass the random source of the level to {@link #getRandomVariant(String, String, RandomSource)} instead;
+     * this shared instance is no longer used by BlueLib and will be removed in the next release.
      */
+    @Deprecated(since = "1.0.0", forRemoval = true)
     RandomSource random = RandomSource.create();
 
+    /**
+     * A {@code default} {@link String} that selects a random variant name of an entity, weighted by the {@code weight} parameter of every variant.
+     * <p>
+     * The variant is drawn in constant time from the {@link VariantSampler} of the entity's {@link VariantIndex}, which is
+     * rebuilt on every reload. Nothing is allocated per call unless {@link BaseLogLevel#DEBUG} logging is enabled. If the entity
+     * has no variants, the default variant name is returned.
+     * </p>
+     *
+     * @param pEntityName     {@link String} - The name of the entity.
+     * @param pDefaultVariant {@link String} - The default variant name to return if the entity has no variants.
+     * @param pRandom         {@link RandomSource} - The random source to draw from, such as the random source of the level. It should not be shared between threads.
+     * @return A random variant name of the entity, or the default variant if the entity has no variants.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    default String getRandomVariant(String pEntityName, String pDefaultVariant, RandomSource pRandom) {
+        VariantIndex index = VariantLoader.getVariantIndex(pEntityName);
+        VariantParameter variant = index == null ? null : index.getRandomVariant(pRandom);
+        if (variant == null) {
+            if (LogCategory.VARIANT.isEnabled(BaseLogLevel.DEBUG)) {
+                LogCategory.VARIANT.log(BaseLogLevel.DEBUG, "No variants found for entity: " + pEntityName + ". Returning default variant: " + pDefaultVariant);
+            }
+            return pDefaultVariant;
+        }
+        String selectedVariant = variant.getVariantParameter();
+        if (LogCategory.VARIANT.isEnabled(BaseLogLevel.DEBUG)) {
+            LogCategory.VARIANT.log(BaseLogLevel.DEBUG, "Selected random variant: " + selectedVariant + " for entity: " + pEntityName);
+        }
+        return selectedVariant;
+    }
+
+    /**
+     * A {@code default} {@link String} that selects a random variant name of an entity that may spawn at a position,
+     * weighted by the {@code weight} parameter of every variant.
+     * <p>
+     * Only variants whose {@link software.bluelib.entity.variant.SpawnCondition} matches the dimension, biome and Y level of
+     * {@code pPos} are considered. The variant is drawn with the random source of the level from the entity's
+     * {@link software.bluelib.entity.variant.VariantSpawnIndex}, which costs a map lookup and a constant time draw.
+     * If no variant matches, the default variant name is returned.
+     * </p>
+     *
+     * @param pEntityName     {@link String} - The name of the entity.
+     * @param pDefaultVariant {@link String} - The default variant name to return if no variant matches.
+     * @param pLevel          {@link ServerLevelAccessor} - The level the entity spawns in.
+     * @param pPos            {@link BlockPos} - The position the entity spawns at.
+     * @return A random matching variant name of the entity, or the default variant if no variant matches.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    default String getRandomVariant(String pEntityName, String pDefaultVariant, ServerLevelAccessor pLevel, BlockPos pPos) {
+        VariantIndex index = VariantLoader.getVariantIndex(pEntityName);
+        VariantParameter variant = index == null ? null : index.getRandomVariant(pLevel.getLevel().dimension(), pLevel.getBiome(pPos), pPos.getY(), pLevel.getRandom());
+        if (variant == null) {
+            if (LogCategory.VARIANT.isEnabled(BaseLogLevel.DEBUG)) {
+                LogCategory.VARIANT.log(BaseLogLevel.DEBUG, "No variant of entity: " + pEntityName + " matches position: " + pPos + ". Returning default variant: " + pDefaultVariant);
+            }
+            return pDefaultVariant;
+        }
+        String selectedVariant = variant.getVariantParameter();
+        if (LogCategory.VARIANT.isEnabled(BaseLogLevel.DEBUG)) {
+            LogCategory.VARIANT.log(BaseLogLevel.DEBUG, "Selected random variant: " + selectedVariant + " for entity: " + pEntityName + " at: " + pPos);
+        }
+        return selectedVariant;
+    }
+
     /**
      * A {@code default} {@link String} that selects a random variant name from the provided list of variant names.
      * <p>
-     * This method uses the {@link RandomSource} to pick a random variant from the list. If the list is empty, the default
-     * variant name is returned.
+     * Every name has the same chance of being picked. The name is drawn with the {@link RandomSource} of the current thread,
+     * so concurrent callers never contend. If the list is empty, the default variant name is returned. <br>
+     * Prefer {@link #getRandomVariant(String, String, RandomSource)}, which honours variant weights and needs no list.
      * </p>
      *
      * @param pVariantNamesList {@link List<String>} - A {@link List<String>} of variant names available for the entity.
@@ -48,12 +131,101 @@ public interface IVariantEntity extends IVariantEntityBase {
      */
     default String getRandomVariant(List<String> pVariantNamesList, String pDefaultVariant) {
         if (pVariantNamesList.isEmpty()) {
-            BaseLogger.log(BaseLogLevel.INFO, "Variant names list is empty. Returning default variant: " + pDefaultVariant, true);
+            if (LogCategory.VARIANT.isEnabled(BaseLogLevel.DEBUG)) {
+                LogCategory.VARIANT.log(BaseLogLevel.DEBUG, "Variant names list is empty. Returning default variant: " + pDefaultVariant);
+            }
             return pDefaultVariant;
         }
-        int index = random.nextInt(pVariantNamesList.size());
+        int index = VariantSampler.threadRandom().nextInt(pVariantNamesList.size());
         String selectedVariant = pVariantNamesList.get(index);
-        BaseLogger.log(BaseLogLevel.SUCCESS, "Selected random variant: " + selectedVariant + " from list of size: " + pVariantNamesList.size(), true);
+        if (LogCategory.VARIANT.isEnabled(BaseLogLevel.DEBUG)) {
+            LogCategory.VARIANT.log(BaseLogLevel.DEBUG, "Selected random variant: " + selectedVariant + " from list of size: " + pVariantNamesList.size());
+        }
         return selectedVariant;
     }
+
+    /**
+     * A {@code static} {@code int} that assigns a random variant of an entity to many entities at once, weighted by the
+     * {@code weight} parameter of every variant.
+     * <p>
+     * Meant for spawning many entities in one go, such as from commands, structures or scripts. The entity's
+     * {@link VariantIndex} is resolved once, every variant is drawn in a single pass over the entities, and the variant is
+     * written straight to the synchronized data of each entity. One summary line is logged instead of one per entity.
+     * If the entity has no variants, every entity gets the default variant name.
+     * </p>
+     *
+     * @param pEntityName     {@link String} - The name of the entity whose variants are assigned.
+     * @param pEntities       {@link Collection} - The entities to assign a variant to.
+     * @param pDefaultVariant {@link String} - The default variant name to assign if the entity has no variants.
+     * @param pRandom         {@link RandomSource} - The random source to draw from, such as the random source of the level. It should not be shared between threads.
+     * @param <E>             The type of the entities.
+     * @return {@code int} - The number of entities that were assigned a variant.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    static <E extends LivingEntity & IVariantEntity> int assignVariants(String pEntityName, Collection<E> pEntities, String pDefaultVariant, RandomSource pRandom) {
+        VariantIndex index = VariantLoader.getVariantIndex(pEntityName);
+        List<String> variantNames = index == null ? List.of() : index.getVariantNames();
+        int assigned = 0;
+        for (E entity : pEntities) {
+            int ordinal = index == null ? -1 : index.getRandomOrdinal(pRandom);
+            ((IVariantAccessor) entity).setEntityVariantName(ordinal < 0 ? pDefaultVariant : variantNames.get(ordinal));
+            assigned++;
+        }
+        logAssigned(pEntityName, assigned, index);
+        return assigned;
+    }
+
+    /**
+     * A {@code static} {@code int} that assigns a random variant of an entity that may spawn at each entity's position to
+     * many entities at once, weighted by the {@code weight} parameter of every variant.
+     * <p>
+     * Works like {@link #assignVariants(String, Collection, String, RandomSource)}, but only variants whose
+     * {@link software.bluelib.entity.variant.SpawnCondition} matches the dimension, biome and Y level of each entity's
+     * {@link LivingEntity#blockPosition()} are considered. The dimension is resolved once for the whole call, and entities
+     * that share a biome share the cached spawn table of that biome. Entities for which no variant matches get the default
+     * variant name.
+     * </p>
+     *
+     * @param pEntityName     {@link String} - The name of the entity whose variants are assigned.
+     * @param pEntities       {@link Collection} - The entities to assign a variant to, all in {@code pLevel}.
+     * @param pDefaultVariant {@link String} - The default variant name to assign if no variant matches.
+     * @param pLevel          {@link ServerLevelAccessor} - The level the entities spawn in.
+     * @param <E>             The type of the entities.
+     * @return {@code int} - The number of entities that were assigned a variant.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    static <E extends LivingEntity & IVariantEntity> int assignVariants(String pEntityName, Collection<E> pEntities, String pDefaultVariant, ServerLevelAccessor pLevel) {
+        VariantIndex index = VariantLoader.getVariantIndex(pEntityName);
+        List<String> variantNames = index == null ? List.of() : index.getVariantNames();
+        ResourceKey<Level> dimension = pLevel.getLevel().dimension();
+        RandomSource random = pLevel.getRandom();
+        int assigned = 0;
+        for (E entity : pEntities) {
+            int ordinal = -1;
+            if (index != null) {
+                BlockPos pos = entity.blockPosition();
+                ordinal = index.getRandomOrdinal(dimension, pLevel.getBiome(pos), pos.getY(), random);
+            }
+            ((IVariantAccessor) entity).setEntityVariantName(ordinal < 0 ? pDefaultVariant : variantNames.get(ordinal));
+            assigned++;
+        }
+        logAssigned(pEntityName, assigned, index);
+        return assigned;
+    }
+
+    /**
+     * A {@code private static void} that logs the summary of a bulk assignment.
+     *
+     * @param pEntityName {@link String} - The name of the entity whose variants were assigned.
+     * @param pAssigned   {@code int} - The number of entities that were assigned a variant.
+     * @param pIndex      {@link VariantIndex} - The index the variants were drawn from, or {@code null} if the entity has no variants.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private static void logAssigned(String pEntityName, int pAssigned, VariantIndex pIndex) {
+        LogCategory.VARIANT.log(BaseLogLevel.INFO, () -> "Assigned variants to " + pAssigned + " entities of: " + pEntityName
+                + (pIndex == null ? " using the default variant" : " from " + pIndex.size() + " variants"));
+    }
 }
@@ -3,13 +3,14 @@
 package software.bluelib.interfaces.variant.base;
 
 import net.minecraft.resources.ResourceLocation;
+import software.bluelib.entity.variant.VariantIndex;
 import software.bluelib.entity.variant.VariantLoader;
-import software.bluelib.entity.variant.VariantParameter;
+import software.bluelib.entity.variant.VariantTextureCache;
 import software.bluelib.utils.logging.BaseLogLevel;
 import software.bluelib.utils.logging.BaseLogger;
 
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * A {@code public base Interface} providing fundamental methods for handling entity variants.
@@ -20,6 +21,7 @@ import java.util.stream.Collectors;
  * Key Methods:
  * <ul>
  *   <li>{@link #getTextureLocation(String, String)} - Retrieves the {@link ResourceLocation} for the entity texture.</li>
+ *   <li>{@link #getVariantTextureLocation(String, String, String)} - Retrieves the cached {@link ResourceLocation} for the texture of a variant.</li>
  *   <li>{@link #getEntityVariants(String)} - Retrieves a {@link List<String>} of variant names for a specified entity.</li>
  * </ul>
  *
@@ -44,22 +46,40 @@ public interface IVariantEntityBase {
         return ResourceLocation.fromNamespaceAndPath(pModId, pPath);
     }
 
+    /**
+     * A {@code default} {@link ResourceLocation} that points to the texture of a variant of an entity.
+     * <p>
+     * The texture is located at {@code <modId>:textures/entity/<entityName>/<variantName>.png}. Unlike
+     * {@link #getTextureLocation(String, String)}, the {@link ResourceLocation} is interned by the {@link VariantTextureCache},
+     * so calling this from a renderer every frame does not allocate.
+     * </p>
+     *
+     * @param pModId       {@link String} - The mod ID used to locate the texture.
+     * @param pEntityName  {@link String} - The name of the entity.
+     * @param pVariantName {@link String} - The name of the variant.
+     * @return A {@link ResourceLocation} pointing to the texture of the variant.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    default ResourceLocation getVariantTextureLocation(String pModId, String pEntityName, String pVariantName) {
+        return VariantTextureCache.getTexture(pModId, pEntityName, pVariantName);
+    }
+
     /**
      * A {@code default} {@link List<String>} of variant names associated with the specified entity.
      * <p>
-     * This method retrieves the names of all variants for a given entity by querying the {@link VariantLoader}.
+     * This method retrieves the names of all variants for a given entity from the {@link VariantIndex} held by the {@link VariantLoader}.
+     * The returned {@link List} is precomputed when the variants are loaded, so no collection is built per call.
      * </p>
      *
      * @param pEntityName {@link String} - The name of the entity whose variant names are to be retrieved.
-     * @return A {@link List<String>} containing the names of variants associated with the specified entity.
+     * @return An immutable {@link List<String>} containing the names of variants associated with the specified entity.
      * @author MeAlam
      * @since 1.0.0
      */
     default List<String> getEntityVariants(String pEntityName) {
-        List<VariantParameter> variants = VariantLoader.getVariantsFromEntity(pEntityName);
-        List<String> variantNames = variants.stream()
-                .map(VariantParameter::getVariantParameter)
-                .collect(Collectors.toList());
+        VariantIndex index = VariantLoader.getVariantIndex(pEntityName);
+        List<String> variantNames = index == null ? Collections.emptyList() : index.getVariantNames();
         BaseLogger.log(BaseLogLevel.SUCCESS, "Retrieved " + variantNames.size() + " variants for entity: " + pEntityName, true);
         return variantNames;
     }
@@ -4,15 +4,19 @@ package software.bluelib.json;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.resources.Resource;
 import net.minecraft.server.packs.resources.ResourceManager;
+import software.bluelib.interfaces.json.IJsonArrayVisitor;
 import software.bluelib.utils.logging.BaseLogLevel;
-import software.bluelib.utils.logging.BaseLogger;
+import software.bluelib.utils.logging.LogCategory;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
@@ -24,6 +28,8 @@ import java.util.Optional;
  * Key Methods:
  * <ul>
  *   <li>{@link #loadJson(ResourceLocation, ResourceManager)} - Loads a JSON resource from the specified location.</li>
+ *   <li>{@link #streamJson(ResourceLocation, ResourceManager, IJsonArrayVisitor)} - Streams the elements of the top-level arrays of a JSON resource.</li>
+ *   <li>{@link #streamJson(Reader, IJsonArrayVisitor)} - Streams the elements of the top-level arrays of a JSON document.</li>
  * </ul>
  *
  * @author MeAlam
@@ -53,7 +59,7 @@ public class JSONLoader {
             Optional<Resource> resource = pResourceManager.getResource(pResourceLocation);
 
             if (resource.isEmpty()) {
-                BaseLogger.log(BaseLogLevel.ERROR, "Resource not found: " + pResourceLocation, true);
+                LogCategory.JSON.log(BaseLogLevel.ERROR, "Resource not found: " + pResourceLocation);
                 return new JsonObject();
             }
 
@@ -61,13 +67,83 @@ public class JSONLoader {
                  InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
 
                 JsonObject jsonObject = gson.fromJson(reader, JsonObject.class);
-                BaseLogger.log(BaseLogLevel.SUCCESS, "Successfully loaded JSON resource: " + pResourceLocation, true);
+                LogCategory.JSON.log(BaseLogLevel.SUCCESS, "Successfully loaded JSON resource: " + pResourceLocation);
                 return jsonObject;
             }
         } catch (IOException pException) {
             RuntimeException exception = new RuntimeException("Failed to load JSON resource: " + pResourceLocation, pException);
-            BaseLogger.log(BaseLogLevel.ERROR, "Failed to load JSON resource: " + pResourceLocation, exception, true);
+            LogCategory.JSON.log(BaseLogLevel.ERROR, "Failed to load JSON resource: " + pResourceLocation, exception);
             throw exception;
         }
     }
+
+    /**
+     * A {@code public void} that streams the elements of the top-level arrays of a JSON resource.
+     * <p>
+     * Unlike {@link #loadJson(ResourceLocation, ResourceManager)}, this method never builds a {@link JsonObject} for the document.
+     * Every element of every top-level array is handed to {@code pVisitor} as soon as it is reached, so only one element
+     * needs to be in memory at a time.
+     * </p>
+     *
+     * @param pResourceLocation {@link ResourceLocation} - The {@link ResourceLocation} of the JSON resource.
+     * @param pResourceManager  {@link ResourceManager} - The {@link ResourceManager} used to load the resource.
+     * @param pVisitor          {@link IJsonArrayVisitor} - The visitor that reads every array element.
+     * @throws RuntimeException if there is an error reading the resource.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public void streamJson(ResourceLocation pResourceLocation, ResourceManager pResourceManager, IJsonArrayVisitor pVisitor) {
+        try {
+            Optional<Resource> resource = pResourceManager.getResource(pResourceLocation);
+
+            if (resource.isEmpty()) {
+                LogCategory.JSON.log(BaseLogLevel.ERROR, "Resource not found: " + pResourceLocation);
+                return;
+            }
+
+            try (InputStream inputStream = resource.get().open();
+                 InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+
+                streamJson(reader, pVisitor);
+                LogCategory.JSON.log(BaseLogLevel.SUCCESS, "Successfully streamed JSON resource: " + pResourceLocation);
+            }
+        } catch (IOException pException) {
+            RuntimeException exception = new RuntimeException("Failed to stream JSON resource: " + pResourceLocation, pException);
+            LogCategory.JSON.log(BaseLogLevel.ERROR, "Failed to stream JSON resource: " + pResourceLocation, exception);
+            throw exception;
+        }
+    }
+
+    /**
+     * A {@code public void} that streams the elements of the top-level arrays of a JSON document.
+     * <p>
+     * The document must be a JSON object. Every value that is an array has its elements handed to {@code pVisitor} one by one,
+     * together with the key that holds the array. Values that are not arrays are skipped with a warning.
+     * </p>
+     *
+     * @param pReader  {@link Reader} - The reader that provides the JSON document. It is not closed by this method.
+     * @param pVisitor {@link IJsonArrayVisitor} - The visitor that reads every array element.
+     * @throws IOException if the document cannot be read or is not a JSON object.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public void streamJson(Reader pReader, IJsonArrayVisitor pVisitor) throws IOException {
+        JsonReader jsonReader = new JsonReader(pReader);
+        jsonReader.setLenient(true);
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String key = jsonReader.nextName();
+            if (jsonReader.peek() != JsonToken.BEGIN_ARRAY) {
+                LogCategory.JSON.log(BaseLogLevel.WARNING, "Skipping non-array value for key: " + key);
+                jsonReader.skipValue();
+                continue;
+            }
+            jsonReader.beginArray();
+            while (jsonReader.hasNext()) {
+                pVisitor.visit(key, jsonReader);
+            }
+            jsonReader.endArray();
+        }
+        jsonReader.endObject();
+    }
 }
@@ -0,0 +1,281 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.json;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import software.bluelib.interfaces.json.IJsonMergeStrategy;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A {@code public final class} that provides the built-in {@link IJsonMergeStrategy} implementations of {@link JSONMerger}.
+ * <p>
+ * Values that are not both arrays are taken from the source, except by {@link #packPriority(String)}, which keeps the target.
+ * The keyed strategies index the target array by a hash of the identity key and keep that index across merges into the
+ * same array, so merging a source array costs one lookup per element, and merging N packs of M elements into one target
+ * costs O(N·M) instead of O(N²·M). Every call of {@link #mergeByKey(String)} and {@link #packPriority(String)} returns a
+ * new strategy with its own indexes, so create one per merge run.
+ * </p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #APPEND} - Appends source arrays to target arrays.</li>
+ *   <li>{@link #REPLACE} - Replaces target values with source values.</li>
+ *   <li>{@link #mergeByKey(String)} - Merges arrays of objects by an identity key; the source wins.</li>
+ *   <li>{@link #packPriority(String)} - Merges arrays of objects by an identity key; the target wins.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see JSONMerger
+ * @since 1.0.0
+ */
+public final class JSONMergeStrategies {
+
+    /**
+     * A {@code public static final} {@link IJsonMergeStrategy} that appends every element of a source array to the target array.
+     * <p>
+     * Duplicates are kept. This is the default strategy of {@link JSONMerger}.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    public static final IJsonMergeStrategy APPEND = (pKey, pTargetElement, pSourceElement) -> {
+        if (pTargetElement.isJsonArray() && pSourceElement.isJsonArray()) {
+            pTargetElement.getAsJsonArray().addAll(pSourceElement.getAsJsonArray());
+            return pTargetElement;
+        }
+        return pSourceElement;
+    };
+
+    /**
+     * A {@code public static final} {@link IJsonMergeStrategy} that replaces every target value with the source value.
+     *
+     * @since 1.0.0
+     */
+    public static final IJsonMergeStrategy REPLACE = (pKey, pTargetElement, pSourceElement) -> pSourceElement;
+
+    /**
+     * A {@code private} constructor to prevent instantiation.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private JSONMergeStrategies() {
+    }
+
+    /**
+     * A {@code public static} {@link IJsonMergeStrategy} that merges arrays of objects by an identity key, such as {@code "variantName"}.
+     * <p>
+     * A source object whose identity matches a target object replaces it in place, so the element keeps its position.
+     * Other source elements are appended. Use it when packs are merged from the lowest to the highest priority.
+     * </p>
+     *
+     * @param pIdentityKey {@link String} - The key that identifies an object within an array.
+     * @return {@link IJsonMergeStrategy} - The strategy.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static IJsonMergeStrategy mergeByKey(String pIdentityKey) {
+        return new KeyedStrategy(pIdentityKey, true);
+    }
+
+    /**
+     * A {@code public static} {@link IJsonMergeStrategy} that merges arrays of objects by an identity key, keeping the target.
+     * <p>
+     * A source object whose identity matches a target object is dropped, and any other value of the target is kept. Other
+     * source elements are appended. Use it when packs are merged from the highest to the lowest priority, so the first pack
+     * that defines an object overrides all later ones.
+     * </p>
+     *
+     * @param pIdentityKey {@link String} - The key that identifies an object within an array.
+     * @return {@link IJsonMergeStrategy} - The strategy.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static IJsonMergeStrategy packPriority(String pIdentityKey) {
+        return new KeyedStrategy(pIdentityKey, false);
+    }
+
+    /**
+     * A {@code private static} {@link String} that retrieves the identity of an array element.
+     *
+     * @param pElement     {@link JsonElement} - The array element.
+     * @param pIdentityKey {@link String} - The key that identifies an object within an array.
+     * @return {@link String} - The identity, or {@code null} if the element is not an object with the identity key.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private static String identityOf(JsonElement pElement, String pIdentityKey) {
+        if (!pElement.isJsonObject()) {
+            return null;
+        }
+        JsonElement identity = pElement.getAsJsonObject().get(pIdentityKey);
+        if (identity == null || identity.isJsonNull()) {
+            return null;
+        }
+        return identity.isJsonPrimitive() ? identity.getAsString() : identity.toString();
+    }
+
+    /**
+     * A {@code private static final class} that merges arrays of objects by an identity key.
+     * <p>
+     * The positions of the target array are indexed once and the index is kept for later merges into the same array, so
+     * only elements appended since the last merge are indexed again. Elements without the identity key, or that are not
+     * objects, are always appended. If the target array was changed other than by appending since the last merge, its
+     * index is rebuilt. At most {@link #MAX_INDEXED_TARGETS} arrays are indexed at once; beyond that all indexes are dropped.
+     * </p>
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private static final class KeyedStrategy implements IJsonMergeStrategy {
+
+        /**
+         * A {@code private static final} {@code int} that holds the maximum number of target arrays that are indexed at once.
+         *
+         * @since 1.0.0
+         */
+        private static final int MAX_INDEXED_TARGETS = 16;
+
+        /**
+         * A {@code private final} {@link String} that holds the key that identifies an object within an array.
+         *
+         * @since 1.0.0
+         */
+        private final String identityKey;
+
+        /**
+         * A {@code private final} {@code boolean} that holds whether the source wins over the target.
+         *
+         * @since 1.0.0
+         */
+        private final boolean sourceOverride;
+
+        /**
+         * A {@code private final} {@link Map} that holds the index of every target array, keyed by identity.
+         *
+         * @since 1.0.0
+         */
+        private final Map<JsonArray, TargetIndex> indexes = new IdentityHashMap<>();
+
+        /**
+         * Constructs a new {@code KeyedStrategy}.
+         *
+         * @param pIdentityKey    {@link String} - The key that identifies an object within an array.
+         * @param pSourceOverride {@code boolean} - Whether the source wins over the target.
+         * @author MeAlam
+         * @since 1.0.0
+         */
+        private KeyedStrategy(String pIdentityKey, boolean pSourceOverride) {
+            this.identityKey = pIdentityKey;
+            this.sourceOverride = pSourceOverride;
+        }
+
+        @Override
+        public synchronized JsonElement merge(String pKey, JsonElement pTargetElement, JsonElement pSourceElement) {
+            if (!pTargetElement.isJsonArray() || !pSourceElement.isJsonArray()) {
+                return sourceOverride ? pSourceElement : pTargetElement;
+            }
+            JsonArray targetArray = pTargetElement.getAsJsonArray();
+            TargetIndex index = indexOf(targetArray);
+            for (JsonElement element : pSourceElement.getAsJsonArray()) {
+                String identity = identityOf(element, identityKey);
+                if (identity == null) {
+                    targetArray.add(element);
+                    continue;
+                }
+                Integer position = index.positions.putIfAbsent(identity, targetArray.size());
+                if (position == null) {
+                    targetArray.add(element);
+                } else if (sourceOverride) {
+                    targetArray.set(position, element);
+                }
+            }
+            index.markIndexed(targetArray);
+            return targetArray;
+        }
+
+        /**
+         * A {@code private} {@link TargetIndex} that retrieves the index of a target array, bringing it up to date.
+         *
+         * @param pTargetArray {@link JsonArray} - The target array.
+         * @return {@link TargetIndex} - The index, covering every element of the array.
+         * @author MeAlam
+         * @since 1.0.0
+         */
+        private TargetIndex indexOf(JsonArray pTargetArray) {
+            TargetIndex index = indexes.get(pTargetArray);
+            if (index == null || !index.isAppendedTo(pTargetArray)) {
+                if (index == null && indexes.size() >= MAX_INDEXED_TARGETS) {
+                    indexes.clear();
+                }
+                index = new TargetIndex();
+                indexes.put(pTargetArray, index);
+            }
+            for (int i = index.indexedSize; i < pTargetArray.size(); i++) {
+                String identity = identityOf(pTargetArray.get(i), identityKey);
+                if (identity != null) {
+                    index.positions.putIfAbsent(identity, i);
+                }
+            }
+            index.markIndexed(pTargetArray);
+            return index;
+        }
+    }
+
+    /**
+     * A {@code private static final class} that holds the positions of the objects of a target array by identity.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private static final class TargetIndex {
+
+        /**
+         * A {@code private final} {@link Map} that holds the position of the first object with every identity.
+         *
+         * @since 1.0.0
+         */
+        private final Map<String, Integer> positions = new HashMap<>();
+
+        /**
+         * A {@code private} {@code int} that holds the number of elements of the array that are indexed.
+         *
+         * @since 1.0.0
+         */
+        private int indexedSize;
+
+        /**
+         * A {@code private} {@link JsonElement} that holds the last indexed element, or {@code null} if none is indexed.
+         *
+         * @since 1.0.0
+         */
+        private JsonElement lastIndexed;
+
+        /**
+         * A {@code private} {@code boolean} that checks if an array was only appended to since it was indexed.
+         *
+         * @param pTargetArray {@link JsonArray} - The target array.
+         * @return {@code true} if the indexed elements are unchanged, as far as a constant time check can tell.
+         * @author MeAlam
+         * @since 1.0.0
+         */
+        private boolean isAppendedTo(JsonArray pTargetArray) {
+            return pTargetArray.size() >= indexedSize && (indexedSize == 0 || pTargetArray.get(indexedSize - 1) == lastIndexed);
+        }
+
+        /**
+         * A {@code private void} that marks every element of an array as indexed.
+         *
+         * @param pTargetArray {@link JsonArray} - The target array.
+         * @author MeAlam
+         * @since 1.0.0
+         */
+        private void markIndexed(JsonArray pTargetArray) {
+            indexedSize = pTargetArray.size();
+            lastIndexed = indexedSize == 0 ? null : pTargetArray.get(indexedSize - 1);
+        }
+    }
+}
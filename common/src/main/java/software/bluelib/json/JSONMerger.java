@@ -2,25 +2,27 @@
 
 package software.bluelib.json;
 
-import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import software.bluelib.interfaces.json.IJsonMergeStrategy;
 import software.bluelib.utils.logging.BaseLogLevel;
-import software.bluelib.utils.logging.BaseLogger;
+import software.bluelib.utils.logging.LogCategory;
 
 import java.util.Map;
 
 /**
  * A {@code public class} responsible for merging JSON data from a source {@link JsonObject} into a target {@link JsonObject}.
  * <p>
- * This class provides functionality to combine JSON data where overlapping keys result in merging arrays,
- * and non-overlapping keys are simply added to the target.
+ * Keys that only the source contains are added to the target. Keys that both contain are merged by the
+ * {@link IJsonMergeStrategy} of the merger, which appends arrays by default. The built-in strategies are in
+ * {@link JSONMergeStrategies}.
  * </p>
  *
  * <p>
  * Key Methods:
  * <ul>
  *   <li>{@link #mergeJsonObjects(JsonObject, JsonObject)} - Merges the data from the source JSON object into the target JSON object.</li>
+ *   <li>{@link #getStrategy()} - Retrieves the strategy used for keys that both objects contain.</li>
  * </ul>
  *
  * @author MeAlam
@@ -28,11 +30,56 @@ import java.util.Map;
  */
 public class JSONMerger {
 
+    /**
+     * A {@code private final} {@link IJsonMergeStrategy} that merges the values of keys that both objects contain.
+     *
+     * @since 1.0.0
+     */
+    private final IJsonMergeStrategy strategy;
+
+    /**
+     * Constructs a new {@code JSONMerger} that appends source arrays to target arrays, using {@link JSONMergeStrategies#APPEND}.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public JSONMerger() {
+        this(JSONMergeStrategies.APPEND);
+    }
+
+    /**
+     * Constructs a new {@code JSONMerger} that merges the values of keys that both objects contain with a strategy.
+     *
+     * @param pStrategy {@link IJsonMergeStrategy} - The strategy, such as {@link JSONMergeStrategies#mergeByKey(String)}.
+     * @throws IllegalArgumentException if {@code pStrategy} is {@code null}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public JSONMerger(IJsonMergeStrategy pStrategy) {
+        if (pStrategy == null) {
+            IllegalArgumentException exception = new IllegalArgumentException("Merge strategy must not be null");
+            LogCategory.JSON.log(BaseLogLevel.ERROR, exception.getMessage(), exception);
+            throw exception;
+        }
+        this.strategy = pStrategy;
+    }
+
+    /**
+     * A {@code public} {@link IJsonMergeStrategy} that retrieves the strategy used for keys that both objects contain.
+     *
+     * @return {@link IJsonMergeStrategy} - The strategy of this merger.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public IJsonMergeStrategy getStrategy() {
+        return strategy;
+    }
+
     /**
      * A {@code public void} method that merges data from a source {@link JsonObject} into a target {@link JsonObject}.
      * <p>
-     * If the target JSON object already contains a key present in the source JSON object, the values are merged if they are arrays.
-     * Otherwise, the source value is added to the target JSON object.
+     * If the target JSON object already contains a key present in the source JSON object, the values are merged by the
+     * {@link #strategy}. Otherwise, the source value is added to the target JSON object.
      * </p>
      *
      * @param pTarget {@link JsonObject} - The target {@link JsonObject} to merge data into. This object will be modified by adding or updating its values.
@@ -43,26 +90,17 @@ public class JSONMerger {
         for (Map.Entry<String, JsonElement> entry : pSource.entrySet()) {
             String key = entry.getKey();
             JsonElement sourceElement = entry.getValue();
+            JsonElement targetElement = pTarget.get(key);
 
-            if (pTarget.has(key)) {
-                JsonElement targetElement = pTarget.get(key);
-
-                if (targetElement.isJsonArray() && sourceElement.isJsonArray()) {
-                    JsonArray targetArray = targetElement.getAsJsonArray();
-                    JsonArray sourceArray = sourceElement.getAsJsonArray();
-
-                    for (JsonElement element : sourceArray) {
-                        targetArray.add(element);
-                    }
-
-                    BaseLogger.log(BaseLogLevel.ERROR, "Merged array for key: " + key, true);
-                } else {
-                    pTarget.add(key, sourceElement);
-                    BaseLogger.log(BaseLogLevel.WARNING, "Overwriting value for key: " + key, true);
+            if (targetElement != null) {
+                JsonElement merged = strategy.merge(key, targetElement, sourceElement);
+                if (merged != targetElement) {
+                    pTarget.add(key, merged);
                 }
+                LogCategory.JSON.log(BaseLogLevel.INFO, () -> "Merged value for key: " + key);
             } else {
                 pTarget.add(key, sourceElement);
-                BaseLogger.log(BaseLogLevel.SUCCESS, "Added new key: " + key, true);
+                LogCategory.JSON.log(BaseLogLevel.SUCCESS, () -> "Added new key: " + key);
             }
         }
     }
@@ -3,18 +3,26 @@
 package software.bluelib.mixin.variant;
 
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.syncher.EntityDataAccessor;
 import net.minecraft.network.syncher.EntityDataSerializers;
 import net.minecraft.network.syncher.SynchedEntityData;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.NotNull;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import software.bluelib.entity.variant.VariantEntityTypes;
+import software.bluelib.entity.variant.VariantIdTable;
 import software.bluelib.interfaces.variant.IVariantAccessor;
+import software.bluelib.network.VariantIdSyncPayload;
+import software.bluelib.utils.logging.BaseLogLevel;
+import software.bluelib.utils.logging.LogCategory;
 
 /**
  * A {@code public} {@link Mixin} class that injects functionality into the {@link LivingEntity} class to
@@ -23,6 +31,16 @@ import software.bluelib.interfaces.variant.IVariantAccessor;
  * This mixin adds functionality to define, save, and retrieve an entity's variant information
  * using NBT (Named Binary Tag) data. It implements the {@link IVariantAccessor} interface, which
  * allows setting and getting the variant name of a {@link LivingEntity}.
+ * </p>
+ * <p>
+ * The synchronized data holds the {@link VariantIdTable} ID of the variant rather than its name, so it is sent as a single
+ * VarInt. NBT still stores the name, so saved entities do not depend on the IDs of a server session.
+ * </p>
+ * <p>
+ * Only entities that are {@link VariantEntityTypes#isVariantCapable(Entity) variant-capable} save, load or accept a variant.
+ * Every other {@link LivingEntity} keeps the slot at its default value, which is never sent in spawn packets, and writes
+ * no {@code Variant} tag.
+ * </p>
  * <p>
  * Key Methods:
  * <ul>
@@ -37,18 +55,30 @@ import software.bluelib.interfaces.variant.IVariantAccessor;
 public class LivingEntityMixin implements IVariantAccessor {
 
     /**
-     * A {@link EntityDataAccessor} to hold the entity's variant name, which is synchronized
-     * across clients and servers using {@link SynchedEntityData}.
+     * A {@link String} that holds the variant name of an entity that has no variant ID.
+     *
+     * @since 1.0.0
+     */
+    @Unique
+    private static final String bluelib$DEFAULT_VARIANT = "normal";
+
+    /**
+     * A {@link EntityDataAccessor} to hold the {@link VariantIdTable} ID of the entity's variant, which is synchronized
+     * across clients and servers using {@link SynchedEntityData}. {@link EntityDataSerializers#INT} is written as a VarInt.
      *
      * @since 1.0.0
      */
     @Unique
-    private static final EntityDataAccessor<String> bluelib$VARIANT =
-            SynchedEntityData.defineId(LivingEntity.class, EntityDataSerializers.STRING);
+    private static final EntityDataAccessor<Integer> bluelib$VARIANT =
+            SynchedEntityData.defineId(LivingEntity.class, EntityDataSerializers.INT);
 
     /**
      * A {@code public void} that injects into the {@code defineSynchedData} method of {@link LivingEntity} to define
      * the synchronized data that will hold the entity's variant information.
+     * <p>
+     * The slot is defined for every {@link LivingEntity}, since {@link SynchedEntityData.Builder} requires every slot of the
+     * class hierarchy to be defined. Entities that are not variant-capable never change it from its default.
+     * </p>
      *
      * @param pBuilder {@link SynchedEntityData.Builder} - The builder to define entity data.
      * @param pCi      {@link CallbackInfo} - Callback information for the injection process.
@@ -57,12 +87,12 @@ public class LivingEntityMixin implements IVariantAccessor {
      */
     @Inject(method = "defineSynchedData", at = @At("HEAD"))
     protected void defineSynchedData(SynchedEntityData.@NotNull Builder pBuilder, CallbackInfo pCi) {
-        pBuilder.define(bluelib$VARIANT, "normal");
+        pBuilder.define(bluelib$VARIANT, VariantIdTable.NO_ID);
     }
 
     /**
      * A {@code public void} that injects into the {@code addAdditionalSaveData} method of {@link LivingEntity} to store
-     * the entity's variant in NBT data when saving the entity.
+     * the entity's variant in NBT data when saving the entity. Entities that are not variant-capable write nothing.
      *
      * @param pCompound {@link CompoundTag} - The NBT tag to save the entity's variant information.
      * @param pCi       {@link CallbackInfo} - Callback information for the injection process.
@@ -71,12 +101,15 @@ public class LivingEntityMixin implements IVariantAccessor {
      */
     @Inject(method = "addAdditionalSaveData", at = @At("HEAD"))
     public void addAdditionalSaveData(@NotNull CompoundTag pCompound, CallbackInfo pCi) {
-        pCompound.putString("Variant", bluelib$getVariantName());
+        if (VariantEntityTypes.isVariantCapable((Entity) (Object) this)) {
+            pCompound.putString("Variant", bluelib$getVariantName());
+        }
     }
 
     /**
      * A {@code public void} that injects into the {@code readAdditionalSaveData} method of {@link LivingEntity} to read
-     * the entity's variant from NBT data when loading the entity.
+     * the entity's variant from NBT data when loading the entity. Entities that are not variant-capable, and tags without a
+     * non-empty {@code Variant} string, read nothing, so the entity keeps its current variant.
      *
      * @param pCompound {@link CompoundTag} - The NBT tag containing the entity's variant information.
      * @param pCi       {@link CallbackInfo} - Callback information for the injection process.
@@ -85,11 +118,22 @@ public class LivingEntityMixin implements IVariantAccessor {
      */
     @Inject(method = "readAdditionalSaveData", at = @At("HEAD"))
     public void readAdditionalSaveData(@NotNull CompoundTag pCompound, CallbackInfo pCi) {
-        bluelib$setVariantName(pCompound.getString("Variant"));
+        if (!pCompound.contains("Variant", Tag.TAG_STRING) || !VariantEntityTypes.isVariantCapable((Entity) (Object) this)) {
+            return;
+        }
+        String name = pCompound.getString("Variant");
+        if (!name.isEmpty()) {
+            bluelib$setVariantName(name);
+        }
     }
 
     /**
      * A {@code public void} method that sets the entity's variant name.
+     * <p>
+     * On the server, a name without an ID is assigned the next free ID, which is sent to every player before the entity
+     * data. On the client, only names the server has assigned an ID can be set; others are logged and ignored.
+     * Entities that are not variant-capable ignore the name.
+     * </p>
      *
      * @param pName {@link String} - The variant name to assign to the entity.
      * @author MeAlam
@@ -97,11 +141,38 @@ public class LivingEntityMixin implements IVariantAccessor {
      */
     @Unique
     public void bluelib$setVariantName(String pName) {
-        ((Entity) (Object) this).getEntityData().set(bluelib$VARIANT, pName);
+        Entity entity = (Entity) (Object) this;
+        if (!VariantEntityTypes.isVariantCapable(entity)) {
+            if (LogCategory.VARIANT.isEnabled(BaseLogLevel.DEBUG)) {
+                LogCategory.VARIANT.log(BaseLogLevel.DEBUG, "Entity type: " + entity.getType() + " is not variant-capable, ignoring variant: " + pName);
+            }
+            return;
+        }
+        if (pName == null) {
+            entity.getEntityData().set(bluelib$VARIANT, VariantIdTable.NO_ID);
+            return;
+        }
+        Level level = entity.level();
+        VariantIdTable table = VariantIdTable.get(level.isClientSide());
+        int id = table.getId(entity.getType(), pName);
+        if (id == VariantIdTable.NO_ID) {
+            if (level.isClientSide()) {
+                LogCategory.VARIANT.log(BaseLogLevel.WARNING, "Variant: " + pName + " has no ID on the client, ignoring it for: " + entity);
+                return;
+            }
+            id = table.getOrCreateId(entity.getType(), pName);
+            if (level instanceof ServerLevel serverLevel) {
+                VariantIdSyncPayload.broadcastId(serverLevel.getServer(), entity.getType(), id, pName);
+            }
+        }
+        entity.getEntityData().set(bluelib$VARIANT, id);
     }
 
     /**
      * A {@code public} {@link String} method that retrieves the entity's current variant name.
+     * <p>
+     * If the entity has no variant, or its ID is unknown on this side, the default variant name is returned.
+     * </p>
      *
      * @return The current variant name of the entity as a {@link String}.
      * @author MeAlam
@@ -109,7 +180,13 @@ public class LivingEntityMixin implements IVariantAccessor {
      */
     @Unique
     public String bluelib$getVariantName() {
-        return ((Entity) (Object) this).getEntityData().get(bluelib$VARIANT);
+        Entity entity = (Entity) (Object) this;
+        int id = entity.getEntityData().get(bluelib$VARIANT);
+        if (id == VariantIdTable.NO_ID) {
+            return bluelib$DEFAULT_VARIANT;
+        }
+        String name = VariantIdTable.get(entity.level().isClientSide()).getName(entity.getType(), id);
+        return name == null ? bluelib$DEFAULT_VARIANT : name;
     }
 
     /**
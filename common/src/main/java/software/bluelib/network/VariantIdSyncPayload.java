@@ -0,0 +1,157 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.network;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.EntityType;
+import org.jetbrains.annotations.NotNull;
+import software.bluelib.BlueLibCommon;
+import software.bluelib.BlueLibConstants;
+import software.bluelib.entity.variant.VariantIdTable;
+
+import java.util.List;
+
+/**
+ * A {@code public record} that carries variant IDs of the {@link VariantIdTable#SERVER} table to a client.
+ * <p>
+ * A full payload is sent to every player at login and replaces the client's table. A delta is sent to every player
+ * whenever the server assigns a new ID, before the entity data that uses it.
+ * </p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #sendFull(ServerPlayer)} - Sends the full table to a player.</li>
+ *   <li>{@link #broadcastId(MinecraftServer, EntityType, int, String)} - Sends a newly assigned ID to every player.</li>
+ *   <li>{@link #handle(VariantIdSyncPayload)} - Applies a received payload on the client.</li>
+ * </ul>
+ *
+ * @param full    {@code boolean} - Whether the payload replaces the whole table.
+ * @param entries {@link List} - The IDs of every entity type in the payload.
+ * @author MeAlam
+ * @since 1.0.0
+ */
+public record VariantIdSyncPayload(boolean full, List<Entry> entries) implements CustomPacketPayload {
+
+    /**
+     * A {@code public static final} {@link CustomPacketPayload.Type} that identifies this payload.
+     *
+     * @since 1.0.0
+     */
+    public static final CustomPacketPayload.Type<VariantIdSyncPayload> TYPE =
+            new CustomPacketPayload.Type<>(ResourceLocation.fromNamespaceAndPath(BlueLibConstants.MOD_ID, "variant_ids"));
+
+    /**
+     * A {@code public static final} {@link StreamCodec} that writes and reads this payload.
+     *
+     * @since 1.0.0
+     */
+    public static final StreamCodec<FriendlyByteBuf, VariantIdSyncPayload> STREAM_CODEC =
+            CustomPacketPayload.codec(VariantIdSyncPayload::write, VariantIdSyncPayload::read);
+
+    /**
+     * A {@code public static void} that sends the full {@link VariantIdTable#SERVER} table to a player.
+     *
+     * @param pPlayer {@link ServerPlayer} - The player that logged in.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static void sendFull(ServerPlayer pPlayer) {
+        BlueLibCommon.PLATFORM.sendToPlayer(pPlayer, VariantIdTable.SERVER.toPayload());
+    }
+
+    /**
+     * A {@code public static void} that sends a newly assigned ID to every player on the server.
+     *
+     * @param pServer      {@link MinecraftServer} - The server.
+     * @param pType        {@link EntityType} - The entity type.
+     * @param pId          {@code int} - The ID.
+     * @param pVariantName {@link String} - The variant name of the ID.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static void broadcastId(MinecraftServer pServer, EntityType<?> pType, int pId, String pVariantName) {
+        List<ServerPlayer> players = pServer.getPlayerList().getPlayers();
+        if (players.isEmpty()) {
+            return;
+        }
+        VariantIdSyncPayload payload = new VariantIdSyncPayload(false, List.of(new Entry(BuiltInRegistries.ENTITY_TYPE.getKey(pType), pId, List.of(pVariantName))));
+        for (ServerPlayer player : players) {
+            BlueLibCommon.PLATFORM.sendToPlayer(player, payload);
+        }
+    }
+
+    /**
+     * A {@code public static void} that applies a received payload to the {@link VariantIdTable#CLIENT} table.
+     *
+     * @param pPayload {@link VariantIdSyncPayload} - The payload.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static void handle(VariantIdSyncPayload pPayload) {
+        VariantIdTable.CLIENT.apply(pPayload);
+    }
+
+    /**
+     * A {@code public} {@link CustomPacketPayload.Type} that returns the type of this payload.
+     *
+     * @return {@link CustomPacketPayload.Type} - {@link #TYPE}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+
+    /**
+     * A {@code private void} that writes this payload to a buffer.
+     *
+     * @param pBuffer {@link FriendlyByteBuf} - The buffer.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private void write(FriendlyByteBuf pBuffer) {
+        pBuffer.writeBoolean(full);
+        pBuffer.writeVarInt(entries.size());
+        for (Entry entry : entries) {
+            pBuffer.writeResourceLocation(entry.entityType());
+            pBuffer.writeVarInt(entry.firstId());
+            pBuffer.writeCollection(entry.names(), FriendlyByteBuf::writeUtf);
+        }
+    }
+
+    /**
+     * A {@code private static} {@link VariantIdSyncPayload} that reads a payload from a buffer.
+     *
+     * @param pBuffer {@link FriendlyByteBuf} - The buffer.
+     * @return {@link VariantIdSyncPayload} - The payload.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private static VariantIdSyncPayload read(FriendlyByteBuf pBuffer) {
+        boolean full = pBuffer.readBoolean();
+        int count = pBuffer.readVarInt();
+        Entry[] entries = new Entry[count];
+        for (int i = 0; i < count; i++) {
+            entries[i] = new Entry(pBuffer.readResourceLocation(), pBuffer.readVarInt(), pBuffer.readList(FriendlyByteBuf::readUtf));
+        }
+        return new VariantIdSyncPayload(full, List.of(entries));
+    }
+
+    /**
+     * A {@code public record} that holds consecutive variant IDs of a single entity type.
+     *
+     * @param entityType {@link ResourceLocation} - The registry name of the entity type.
+     * @param firstId    {@code int} - The ID of the first name.
+     * @param names      {@link List} - The variant names, ordered by ID.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public record Entry(ResourceLocation entityType, int firstId, List<String> names) {
+    }
+}
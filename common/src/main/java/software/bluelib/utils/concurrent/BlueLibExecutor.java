@@ -0,0 +1,674 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.utils.concurrent;
+
+import software.bluelib.utils.logging.BaseLogLevel;
+import software.bluelib.utils.logging.LogCategory;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A {@code public final class} that runs all background work of {@code BlueLib}.
+ * <p>
+ * Tasks run on a small pool of named daemon worker threads that is fed by a bounded queue, so background work can never
+ * keep the JVM alive or grow without limit. Delayed tasks are kept by a single timer thread and handed to the workers
+ * when they are due. A task that does not fit in the queue is rejected with a {@link RejectedExecutionException}.
+ * </p>
+ * <p>
+ * The executor follows the lifecycle of the server: {@link #start()} is only called when a server starts and {@link #stop()}
+ * when it stops, which runs the queued tasks to completion and drops pending delayed tasks. Submitting a task while the
+ * executor is not running never starts it; the task is rejected with a {@link RejectedExecutionException}, so a late task
+ * of a stopping mod cannot bring the workers back after the server stopped.
+ * </p>
+ * The size of the pool and the queue can be set with the system properties {@code bluelib.executor.threads} and
+ * {@code bluelib.executor.queueCapacity}.
+ * <p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #execute(Runnable)} - Runs a task in the background.</li>
+ *   <li>{@link #submit(Supplier)} - Computes a value in the background.</li>
+ *   <li>{@link #schedule(Runnable, long, TimeUnit)} - Runs a task in the background after a delay.</li>
+ *   <li>{@link #start()} - Starts the executor.</li>
+ *   <li>{@link #stop()} - Runs the queued tasks to completion and stops the executor.</li>
+ *   <li>{@link #describeMetrics()} - Describes the queue depth and task latency of the executor.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @since 1.0.0
+ */
+public final class BlueLibExecutor {
+
+    /**
+     * A {@code private static final} {@code int} that holds the number of worker threads.
+     *
+     * @since 1.0.0
+     */
+    private static final int WORKER_COUNT = Math.max(1, Integer.getInteger("bluelib.executor.threads", 2));
+
+    /**
+     * A {@code private static final} {@code int} that holds the capacity of the task queue, and the maximum number of pending delayed tasks.
+     *
+     * @since 1.0.0
+     */
+    private static final int QUEUE_CAPACITY = Math.max(1, Integer.getInteger("bluelib.executor.queueCapacity", 1024));
+
+    /**
+     * A {@code private static final} {@code long} that holds how long {@link #stop()} waits for queued tasks, in seconds.
+     *
+     * @since 1.0.0
+     */
+    private static final long STOP_TIMEOUT_SECONDS = 5;
+
+    /**
+     * A {@code private static final} {@code long} that holds how long an idle worker thread is kept alive, in seconds.
+     *
+     * @since 1.0.0
+     */
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    /**
+     * A {@code private static final} {@link Object} that guards starting and stopping the executor.
+     *
+     * @since 1.0.0
+     */
+    private static final Object LOCK = new Object();
+
+    /**
+     * A {@code private static final} {@link AtomicInteger} that numbers the worker threads.
+     *
+     * @since 1.0.0
+     */
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /**
+     * A {@code private static final} {@link LongAdder} that counts the tasks that completed, successfully or not.
+     *
+     * @since 1.0.0
+     */
+    private static final LongAdder COMPLETED = new LongAdder();
+
+    /**
+     * A {@code private static final} {@link LongAdder} that counts the tasks that threw an exception.
+     *
+     * @since 1.0.0
+     */
+    private static final LongAdder FAILED = new LongAdder();
+
+    /**
+     * A {@code private static final} {@link LongAdder} that counts the tasks that were rejected because the queue was full.
+     *
+     * @since 1.0.0
+     */
+    private static final LongAdder REJECTED = new LongAdder();
+
+    /**
+     * A {@code private static final} {@link LongAdder} that sums the time tasks waited in the queue, in nanoseconds.
+     *
+     * @since 1.0.0
+     */
+    private static final LongAdder QUEUE_NANOS = new LongAdder();
+
+    /**
+     * A {@code private static final} {@link AtomicLong} that holds the longest time a task waited in the queue, in nanoseconds.
+     *
+     * @since 1.0.0
+     */
+    private static final AtomicLong MAX_QUEUE_NANOS = new AtomicLong();
+
+    /**
+     * A {@code private static final} {@link LongAdder} that sums the time tasks ran, in nanoseconds.
+     *
+     * @since 1.0.0
+     */
+    private static final LongAdder RUN_NANOS = new LongAdder();
+
+    /**
+     * A {@code private static volatile} {@link ThreadPoolExecutor} that runs the tasks, or {@code null} while stopped.
+     *
+     * @since 1.0.0
+     */
+    private static volatile ThreadPoolExecutor workers;
+
+    /**
+     * A {@code private static volatile} {@link ScheduledThreadPoolExecutor} that keeps delayed tasks, or {@code null} while stopped.
+     *
+     * @since 1.0.0
+     */
+    private static volatile ScheduledThreadPoolExecutor timer;
+
+    /**
+     * A {@code private static volatile} {@link CountDownLatch} that is released once the running executor has stopped.
+     *
+     * @since 1.0.0
+     */
+    private static volatile CountDownLatch termination = new CountDownLatch(0);
+
+    /**
+     * A {@code private static final} {@link LegacyScheduler} that backs {@link #asScheduledExecutorService()}.
+     *
+     * @since 1.0.0
+     */
+    private static final LegacyScheduler LEGACY_SCHEDULER = new LegacyScheduler();
+
+    /**
+     * Private constructor to prevent instantiation.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private BlueLibExecutor() {
+    }
+
+    /**
+     * A {@code public static void} that starts the executor if it is not running.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static void start() {
+        synchronized (LOCK) {
+            if (workers != null) {
+                return;
+            }
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(WORKER_COUNT, WORKER_COUNT, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                    pTask -> newThread(pTask, "BlueLib-Worker-" + THREAD_COUNTER.incrementAndGet()),
+                    (pTask, pExecutor) -> {
+                        throw reject(pExecutor.isShutdown() ? "the executor is stopping" : "the queue is full");
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, pTask -> newThread(pTask, "BlueLib-Scheduler"));
+            scheduler.setRemoveOnCancelPolicy(true);
+            scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+            termination = new CountDownLatch(1);
+            timer = scheduler;
+            workers = pool;
+            LogCategory.EXECUTOR.log(BaseLogLevel.INFO, () -> "Started BlueLib executor with " + WORKER_COUNT + " worker(s) and a queue of " + QUEUE_CAPACITY);
+        }
+    }
+
+    /**
+     * A {@code public static void} that runs the queued tasks to completion and stops the executor.
+     * <p>
+     * Pending delayed tasks are dropped. Queued tasks that do not complete within a few seconds are interrupted.
+     * </p>
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static void stop() {
+        ThreadPoolExecutor pool;
+        ScheduledThreadPoolExecutor scheduler;
+        CountDownLatch stopped;
+        synchronized (LOCK) {
+            pool = workers;
+            scheduler = timer;
+            if (pool == null) {
+                return;
+            }
+            workers = null;
+            timer = null;
+            stopped = termination;
+        }
+        List<Runnable> dropped = scheduler.shutdownNow();
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                List<Runnable> interrupted = pool.shutdownNow();
+                LogCategory.EXECUTOR.log(BaseLogLevel.WARNING, "BlueLib executor did not finish in " + STOP_TIMEOUT_SECONDS + " s, dropped " + interrupted.size() + " queued task(s)");
+            }
+        } catch (InterruptedException pException) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            stopped.countDown();
+        }
+        if (!dropped.isEmpty()) {
+            LogCategory.EXECUTOR.log(BaseLogLevel.INFO, "Dropped " + dropped.size() + " pending delayed task(s)");
+        }
+        LogCategory.EXECUTOR.log(BaseLogLevel.INFO, () -> "Stopped BlueLib executor: " + describeMetrics());
+    }
+
+    /**
+     * A {@code public static} {@code boolean} that checks if the executor is running.
+     *
+     * @return {@code true} if the executor is running, {@code false} otherwise.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static boolean isRunning() {
+        return workers != null;
+    }
+
+    /**
+     * A {@code public static void} that runs a task in the background.
+     * <p>
+     * An exception thrown by the task is logged and counted in {@link #getFailedCount()}.
+     * </p>
+     *
+     * @param pTask {@link Runnable} - The task to run.
+     * @throws RejectedExecutionException if the executor is not running or the queue is full.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static void execute(Runnable pTask) {
+        running().execute(track(pTask));
+    }
+
+    /**
+     * A {@code public static} {@link CompletableFuture} that computes a value in the background.
+     *
+     * @param pTask {@link Supplier} - The task that computes the value.
+     * @param <T>   The type of the value.
+     * @return {@link CompletableFuture} - Completes with the value, or exceptionally if the task throws.
+     * @throws RejectedExecutionException if the executor is not running or the queue is full.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static <T> CompletableFuture<T> submit(Supplier<T> pTask) {
+        return CompletableFuture.supplyAsync(pTask, BlueLibExecutor::execute);
+    }
+
+    /**
+     * A {@code public static} {@link ScheduledFuture} that runs a task in the background after a delay.
+     * <p>
+     * When the delay has passed, the task is queued like a task passed to {@link #execute(Runnable)}.
+     * If the queue is full at that moment, the task is dropped and counted in {@link #getRejectedCount()}.
+     * </p>
+     *
+     * @param pTask  {@link Runnable} - The task to run.
+     * @param pDelay {@code long} - The delay before the task runs.
+     * @param pUnit  {@link TimeUnit} - The unit of the delay.
+     * @return {@link ScheduledFuture} - Can be used to cancel the task before it is due.
+     * @throws RejectedExecutionException if the executor is not running or too many delayed tasks are pending.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static ScheduledFuture<?> schedule(Runnable pTask, long pDelay, TimeUnit pUnit) {
+        return runningTimer().schedule(handOff(pTask, pException ->
+                LogCategory.EXECUTOR.log(BaseLogLevel.WARNING, "Dropped a delayed task: " + pException.getMessage())), pDelay, pUnit);
+    }
+
+    /**
+     * A {@code public static} {@link ScheduledExecutorService} that exposes the executor for code written against the former
+     * {@code BlueLibConstants.SCHEDULER}.
+     * <p>
+     * Tasks run on the workers of this executor. The lifecycle stays with {@code BlueLib}, so {@code shutdown()} and
+     * {@code shutdownNow()} do nothing.
+     * </p>
+     *
+     * @return {@link ScheduledExecutorService} - A view of the executor.
+     * @author MeAlam
+     * @since 1.0.0
+     * @deprecated Use the static methods of {@link BlueLibExecutor} instead; this view will be removed in the next release.
+     */
+    @Deprecated(since = "1.0.0", forRemoval = true)
+    public static ScheduledExecutorService asScheduledExecutorService() {
+        return LEGACY_SCHEDULER;
+    }
+
+    /**
+     * A {@code public static} {@code int} that returns the number of tasks waiting in the queue.
+     *
+     * @return {@code int} - The queue depth.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static int getQueueDepth() {
+        ThreadPoolExecutor pool = workers;
+        return pool == null ? 0 : pool.getQueue().size();
+    }
+
+    /**
+     * A {@code public static} {@code int} that returns the number of delayed tasks that are not due yet.
+     *
+     * @return {@code int} - The number of pending delayed tasks.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static int getScheduledCount() {
+        ScheduledThreadPoolExecutor scheduler = timer;
+        return scheduler == null ? 0 : scheduler.getQueue().size();
+    }
+
+    /**
+     * A {@code public static} {@code int} that returns the number of tasks that are running.
+     *
+     * @return {@code int} - The number of running tasks.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static int getActiveCount() {
+        ThreadPoolExecutor pool = workers;
+        return pool == null ? 0 : pool.getActiveCount();
+    }
+
+    /**
+     * A {@code public static} {@code long} that returns the number of tasks that completed, successfully or not.
+     *
+     * @return {@code long} - The number of completed tasks.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static long getCompletedCount() {
+        return COMPLETED.sum();
+    }
+
+    /**
+     * A {@code public static} {@code long} that returns the number of tasks that threw an exception.
+     *
+     * @return {@code long} - The number of failed tasks.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static long getFailedCount() {
+        return FAILED.sum();
+    }
+
+    /**
+     * A {@code public static} {@code long} that returns the number of tasks that were rejected.
+     *
+     * @return {@code long} - The number of rejected tasks.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static long getRejectedCount() {
+        return REJECTED.sum();
+    }
+
+    /**
+     * A {@code public static} {@code long} that returns the average time a task waited in the queue before it ran.
+     *
+     * @return {@code long} - The average queue latency in nanoseconds.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static long getAverageQueueLatencyNanos() {
+        long completed = COMPLETED.sum();
+        return completed == 0 ? 0L : QUEUE_NANOS.sum() / completed;
+    }
+
+    /**
+     * A {@code public static} {@code long} that returns the longest time a task waited in the queue before it ran.
+     *
+     * @return {@code long} - The maximum queue latency in nanoseconds.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static long getMaxQueueLatencyNanos() {
+        return MAX_QUEUE_NANOS.get();
+    }
+
+    /**
+     * A {@code public static} {@code long} that returns the average time a task ran.
+     *
+     * @return {@code long} - The average run time in nanoseconds.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static long getAverageRunTimeNanos() {
+        long completed = COMPLETED.sum();
+        return completed == 0 ? 0L : RUN_NANOS.sum() / completed;
+    }
+
+    /**
+     * A {@code public static} {@link String} that describes the queue depth and task latency of the executor.
+     *
+     * @return {@link String} - The description of the metrics.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static String describeMetrics() {
+        return "queued=" + getQueueDepth()
+                + ", scheduled=" + getScheduledCount()
+                + ", active=" + getActiveCount()
+                + ", completed=" + getCompletedCount()
+                + ", failed=" + getFailedCount()
+                + ", rejected=" + getRejectedCount()
+                + ", avgQueueMs=" + TimeUnit.NANOSECONDS.toMillis(getAverageQueueLatencyNanos())
+                + ", maxQueueMs=" + TimeUnit.NANOSECONDS.toMillis(getMaxQueueLatencyNanos())
+                + ", avgRunMs=" + TimeUnit.NANOSECONDS.toMillis(getAverageRunTimeNanos());
+    }
+
+    /**
+     * A {@code private static} {@link ThreadPoolExecutor} that returns the workers.
+     *
+     * @return {@link ThreadPoolExecutor} - The workers.
+     * @throws RejectedExecutionException if the executor is not running.
+     * @since 1.0.0
+     */
+    private static ThreadPoolExecutor running() {
+        ThreadPoolExecutor pool = workers;
+        if (pool == null) {
+            throw reject("the executor is not running");
+        }
+        return pool;
+    }
+
+    /**
+     * A {@code private static} {@link ScheduledThreadPoolExecutor} that returns the timer, if it has room for another delayed task.
+     *
+     * @return {@link ScheduledThreadPoolExecutor} - The timer.
+     * @throws RejectedExecutionException if the executor is not running or too many delayed tasks are pending.
+     * @since 1.0.0
+     */
+    private static ScheduledThreadPoolExecutor runningTimer() {
+        ScheduledThreadPoolExecutor scheduler = timer;
+        if (scheduler == null) {
+            throw reject("the executor is not running");
+        }
+        if (scheduler.getQueue().size() >= QUEUE_CAPACITY) {
+            throw reject("too many delayed tasks are pending");
+        }
+        return scheduler;
+    }
+
+    /**
+     * A {@code private static} {@link Runnable} that wraps a task to record its queue latency, run time and failures.
+     *
+     * @param pTask {@link Runnable} - The task to wrap.
+     * @return {@link Runnable} - The wrapped task.
+     * @since 1.0.0
+     */
+    private static Runnable track(Runnable pTask) {
+        long enqueuedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            long waited = startedAt - enqueuedAt;
+            QUEUE_NANOS.add(waited);
+            MAX_QUEUE_NANOS.accumulateAndGet(waited, Math::max);
+            try {
+                pTask.run();
+            } catch (Throwable pThrowable) {
+                FAILED.increment();
+                LogCategory.EXECUTOR.log(BaseLogLevel.ERROR, "Background task failed", pThrowable);
+            } finally {
+                RUN_NANOS.add(System.nanoTime() - startedAt);
+                COMPLETED.increment();
+            }
+        };
+    }
+
+    /**
+     * A {@code private static} {@link RejectedExecutionException} that counts and logs a rejected task.
+     *
+     * @param pReason {@link String} - The reason the task was rejected.
+     * @return {@link RejectedExecutionException} - The exception to throw.
+     * @since 1.0.0
+     */
+    private static RejectedExecutionException reject(String pReason) {
+        REJECTED.increment();
+        LogCategory.EXECUTOR.log(BaseLogLevel.WARNING, () -> "Rejected a background task because " + pReason);
+        return new RejectedExecutionException("BlueLib executor rejected a task because " + pReason);
+    }
+
+    /**
+     * A {@code private static} {@link Thread} that creates a named daemon thread.
+     *
+     * @param pTask {@link Runnable} - The task of the thread.
+     * @param pName {@link String} - The name of the thread.
+     * @return {@link Thread} - The new thread.
+     * @since 1.0.0
+     */
+    private static Thread newThread(Runnable pTask, String pName) {
+        Thread thread = new Thread(pTask, pName);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * A {@code private static} {@link Runnable} that hands a task to the workers when the timer fires.
+     *
+     * @param pTask       {@link Runnable} - The task to run.
+     * @param pOnRejected {@link Consumer} - Called if the workers reject the task.
+     * @return {@link Runnable} - The task the timer runs.
+     * @since 1.0.0
+     */
+    private static Runnable handOff(Runnable pTask, Consumer<RejectedExecutionException> pOnRejected) {
+        return () -> {
+            try {
+                execute(pTask);
+            } catch (RejectedExecutionException pException) {
+                pOnRejected.accept(pException);
+            }
+        };
+    }
+
+    /**
+     * A {@code private static void} that logs a run of a periodic task that the workers rejected.
+     *
+     * @param pException {@link RejectedExecutionException} - The rejection.
+     * @since 1.0.0
+     */
+    private static void dropPeriodicRun(RejectedExecutionException pException) {
+        LogCategory.EXECUTOR.log(BaseLogLevel.WARNING, "Dropped a periodic task run: " + pException.getMessage());
+    }
+
+    /**
+     * A {@code private static final class} that implements {@link ScheduledExecutorService} on top of {@link BlueLibExecutor}.
+     * <p>
+     * One-shot tasks complete their future when they ran on a worker, or exceptionally if the workers reject them. Periodic
+     * tasks are fired by the timer and run on the workers, and like other delayed tasks they are dropped when the executor
+     * stops. The view reports itself as shut down and terminated while the executor is not running.
+     * </p>
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private static final class LegacyScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+
+        @Override
+        public void execute(Runnable pTask) {
+            BlueLibExecutor.execute(pTask);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable pTask, long pDelay, TimeUnit pUnit) {
+            return schedule(Executors.callable(pTask, null), pDelay, pUnit);
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> pTask, long pDelay, TimeUnit pUnit) {
+            CompletableFuture<V> result = new CompletableFuture<>();
+            Runnable task = () -> {
+                if (result.isDone()) {
+                    return;
+                }
+                try {
+                    result.complete(pTask.call());
+                } catch (Throwable pThrowable) {
+                    result.completeExceptionally(pThrowable);
+                }
+            };
+            return new LegacyFuture<>(runningTimer().schedule(handOff(task, result::completeExceptionally), pDelay, pUnit), result);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable pTask, long pInitialDelay, long pPeriod, TimeUnit pUnit) {
+            return runningTimer().scheduleAtFixedRate(handOff(pTask, BlueLibExecutor::dropPeriodicRun), pInitialDelay, pPeriod, pUnit);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable pTask, long pInitialDelay, long pDelay, TimeUnit pUnit) {
+            return runningTimer().scheduleWithFixedDelay(handOff(pTask, BlueLibExecutor::dropPeriodicRun), pInitialDelay, pDelay, pUnit);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return !isRunning();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return !isRunning() && termination.getCount() == 0;
+        }
+
+        @Override
+        public boolean awaitTermination(long pTimeout, TimeUnit pUnit) throws InterruptedException {
+            return termination.await(pTimeout, pUnit);
+        }
+    }
+
+    /**
+     * A {@code private static final} {@code record} that combines the delay of a timer entry with the result of the task it queues.
+     *
+     * @param delay  {@link ScheduledFuture} - The timer entry.
+     * @param result {@link CompletableFuture} - Completed by the task once it ran on a worker, or when it was rejected.
+     * @param <V>    The type of the result.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private record LegacyFuture<V>(ScheduledFuture<?> delay, CompletableFuture<V> result) implements ScheduledFuture<V> {
+
+        @Override
+        public long getDelay(TimeUnit pUnit) {
+            return delay.getDelay(pUnit);
+        }
+
+        @Override
+        public int compareTo(Delayed pOther) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), pOther.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean pMayInterruptIfRunning) {
+            delay.cancel(false);
+            return result.cancel(pMayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return result.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return result.isDone();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            return result.get();
+        }
+
+        @Override
+        public V get(long pTimeout, TimeUnit pUnit) throws InterruptedException, ExecutionException, TimeoutException {
+            return result.get(pTimeout, pUnit);
+        }
+    }
+}
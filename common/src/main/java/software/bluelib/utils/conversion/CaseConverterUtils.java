@@ -3,7 +3,7 @@
 package software.bluelib.utils.conversion;
 
 import software.bluelib.utils.logging.BaseLogLevel;
-import software.bluelib.utils.logging.BaseLogger;
+import software.bluelib.utils.logging.LogCategory;
 
 /**
  * A {@code public class} for converting strings between various naming conventions:
@@ -50,26 +50,26 @@ public class CaseConverterUtils {
      */
     public static String toCamelCase(String pInput) {
         if (pInput == null || pInput.isEmpty()) {
-            BaseLogger.log(BaseLogLevel.INFO, "Input for toCamelCase is null or empty.", true);
+            LogCategory.MATH.log(BaseLogLevel.INFO, "Input for toCamelCase is null or empty.");
             return pInput;
         }
 
         if (Character.isUpperCase(pInput.charAt(0)) && !pInput.contains("_") && !pInput.contains("-")) {
-            BaseLogger.log(BaseLogLevel.INFO, "Input detected as PascalCase.", true);
+            LogCategory.MATH.log(BaseLogLevel.INFO, "Input detected as PascalCase.");
             return pInput.substring(0, 1).toLowerCase() + pInput.substring(1);
         }
 
         if (pInput.contains("_")) {
-            BaseLogger.log(BaseLogLevel.INFO, "Input detected as snake_case.", true);
+            LogCategory.MATH.log(BaseLogLevel.INFO, "Input detected as snake_case.");
             return convertUsingDelimiter(pInput, "_", true);
         }
 
         if (pInput.contains("-")) {
-            BaseLogger.log(BaseLogLevel.INFO, "Input detected as kebab-case.", true);
+            LogCategory.MATH.log(BaseLogLevel.INFO, "Input detected as kebab-case.");
             return convertUsingDelimiter(pInput, "-", true);
         }
 
-        BaseLogger.log(BaseLogLevel.ERROR, "Input case is not recognized.", true);
+        LogCategory.MATH.log(BaseLogLevel.ERROR, "Input case is not recognized.");
         return pInput;
     }
 
@@ -85,26 +85,26 @@ public class CaseConverterUtils {
      */
     public static String toPascalCase(String pInput) {
         if (pInput == null || pInput.isEmpty()) {
-            BaseLogger.log(BaseLogLevel.WARNING, "Input for toPascalCase is null or empty.", true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "Input for toPascalCase is null or empty.");
             return pInput;
         }
 
         if (!pInput.contains("_") && !pInput.contains("-") && Character.isLowerCase(pInput.charAt(0))) {
-            BaseLogger.log(BaseLogLevel.INFO, "Input detected as camelCase.", true);
+            LogCategory.MATH.log(BaseLogLevel.INFO, "Input detected as camelCase.");
             return pInput.substring(0, 1).toUpperCase() + pInput.substring(1);
         }
 
         if (pInput.contains("_")) {
-            BaseLogger.log(BaseLogLevel.INFO, "Input detected as snake_case.", true);
+            LogCategory.MATH.log(BaseLogLevel.INFO, "Input detected as snake_case.");
             return convertUsingDelimiter(pInput, "_", false);
         }
 
         if (pInput.contains("-")) {
-            BaseLogger.log(BaseLogLevel.INFO, "Input detected as kebab-case.", true);
+            LogCategory.MATH.log(BaseLogLevel.INFO, "Input detected as kebab-case.");
             return convertUsingDelimiter(pInput, "-", false);
         }
 
-        BaseLogger.log(BaseLogLevel.ERROR, "Input case is not recognized.", true);
+        LogCategory.MATH.log(BaseLogLevel.ERROR, "Input case is not recognized.");
         return pInput;
     }
 
@@ -120,7 +120,7 @@ public class CaseConverterUtils {
      */
     public static String toSnakeCase(String pInput) {
         if (pInput == null || pInput.isEmpty()) {
-            BaseLogger.log(BaseLogLevel.WARNING, "Input for toSnakeCase is null or empty.", true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "Input for toSnakeCase is null or empty.");
             return pInput;
         }
 
@@ -128,7 +128,7 @@ public class CaseConverterUtils {
         result = result.toLowerCase();
         result = result.replace("-", "_");
 
-        BaseLogger.log(BaseLogLevel.SUCCESS, "Converted to snake_case: " + result, true);
+        LogCategory.MATH.log(BaseLogLevel.SUCCESS, "Converted to snake_case: " + result);
         return result;
     }
 
@@ -144,7 +144,7 @@ public class CaseConverterUtils {
      */
     public static String toKebabCase(String pInput) {
         if (pInput == null || pInput.isEmpty()) {
-            BaseLogger.log(BaseLogLevel.WARNING, "Input for toKebabCase is null or empty.", true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "Input for toKebabCase is null or empty.");
             return pInput;
         }
 
@@ -152,7 +152,7 @@ public class CaseConverterUtils {
         result = result.toLowerCase();
         result = result.replace("_", "-");
 
-        BaseLogger.log(BaseLogLevel.SUCCESS, "Converted to kebab-case: " + result, true);
+        LogCategory.MATH.log(BaseLogLevel.SUCCESS, "Converted to kebab-case: " + result);
         return result;
     }
 
@@ -169,7 +169,7 @@ public class CaseConverterUtils {
      */
     public static String toUpperSnakeCase(String pInput) {
         if (pInput == null || pInput.isEmpty()) {
-            BaseLogger.log(BaseLogLevel.WARNING, "Input for toUpperSnakeCase is null or empty.", true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "Input for toUpperSnakeCase is null or empty.");
             return pInput;
         }
 
@@ -190,7 +190,7 @@ public class CaseConverterUtils {
      */
     public static String toTrainCase(String pInput) {
         if (pInput == null || pInput.isEmpty()) {
-            BaseLogger.log(BaseLogLevel.WARNING, "Input for toTrainCase is null or empty.", true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "Input for toTrainCase is null or empty.");
             return pInput;
         }
 
@@ -210,7 +210,7 @@ public class CaseConverterUtils {
      */
     public static String toFlatcase(String pInput) {
         if (pInput == null || pInput.isEmpty()) {
-            BaseLogger.log(BaseLogLevel.WARNING, "Input for toFlatcase is null or empty.", true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "Input for toFlatcase is null or empty.");
             return pInput;
         }
 
@@ -230,7 +230,7 @@ public class CaseConverterUtils {
      */
     public static String toCobolCase(String pInput) {
         if (pInput == null || pInput.isEmpty()) {
-            BaseLogger.log(BaseLogLevel.WARNING, "Input for toCobolCase is null or empty.", true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "Input for toCobolCase is null or empty.");
             return pInput;
         }
 
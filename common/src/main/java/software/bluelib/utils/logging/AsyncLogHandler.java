@@ -0,0 +1,482 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.utils.logging;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code public class} that publishes {@link LogRecord} instances asynchronously.
+ * <p>
+ * Records are put in a bounded, lock-free ring buffer and written by a single daemon thread, which formats a batch of
+ * records into one buffer and writes it to the console with a single write and flush. Logging threads never block on
+ * console I/O; they only block when the buffer is full and the {@link OverflowPolicy} asks for it.
+ * </p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #publish(LogRecord)} - Queues a {@link LogRecord} to be written.</li>
+ *   <li>{@link #flush()} - Waits until all queued records have been written.</li>
+ *   <li>{@link #close()} - Writes all queued records and stops the drain thread.</li>
+ *   <li>{@link #getDroppedCount()} - Returns the number of records dropped because the buffer was full.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see LoggerConfig
+ * @since 1.0.0
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * A {@code public enum} that defines what happens to a record when the ring buffer is full.
+     * <ul>
+     *   <li>{@link #DROP} - The record is dropped.</li>
+     *   <li>{@link #BLOCK} - The logging thread waits until there is space.</li>
+     *   <li>{@link #SAMPLE} - One in every {@code sampleRate} records waits for space, the others are dropped.
+     *   {@link BaseLogLevel#WARNING} and {@link BaseLogLevel#ERROR} records always wait.</li>
+     * </ul>
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK,
+        SAMPLE
+    }
+
+    /**
+     * A {@code private static final} {@code int} that holds the maximum number of records written in one batch.
+     *
+     * @since 1.0.0
+     */
+    private static final int BATCH_SIZE = 256;
+
+    /**
+     * A {@code private static final} {@code long} that holds the longest time the drain thread parks without being woken.
+     *
+     * @since 1.0.0
+     */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * A {@code private static final} {@code int} that holds how often a blocked logging thread spins before it parks.
+     *
+     * @since 1.0.0
+     */
+    private static final int OVERFLOW_SPINS = 64;
+
+    /**
+     * A {@code private static final} {@code long} that holds how long a blocked logging thread parks between attempts.
+     *
+     * @since 1.0.0
+     */
+    private static final long OVERFLOW_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * A {@code private final} {@link AtomicReferenceArray} that holds the queued records.
+     *
+     * @since 1.0.0
+     */
+    private final AtomicReferenceArray<LogRecord> buffer;
+
+    /**
+     * A {@code private final} {@code int} that masks a sequence number to a slot in {@link #buffer}.
+     *
+     * @since 1.0.0
+     */
+    private final int mask;
+
+    /**
+     * A {@code private final} {@link AtomicLong} that holds the next sequence number to be claimed by a logging thread.
+     *
+     * @since 1.0.0
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * A {@code private final} {@link AtomicLong} that holds the next sequence number to be read by the drain thread.
+     *
+     * @since 1.0.0
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * A {@code private final} {@link AtomicLong} that counts the dropped records not yet reported by the drain thread.
+     *
+     * @since 1.0.0
+     */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * A {@code private final} {@link AtomicLong} that counts all records dropped because the buffer was full.
+     *
+     * @since 1.0.0
+     */
+    private final AtomicLong droppedTotal = new AtomicLong();
+
+    /**
+     * A {@code private final} {@link AtomicLong} that counts the records that found the buffer full, used for sampling.
+     *
+     * @since 1.0.0
+     */
+    private final AtomicLong overflowed = new AtomicLong();
+
+    /**
+     * A {@code private final} {@link OverflowPolicy} that defines what happens when the buffer is full.
+     *
+     * @since 1.0.0
+     */
+    private final OverflowPolicy overflowPolicy;
+
+    /**
+     * A {@code private final} {@code int} that holds how many overflowing records share one kept record under {@link OverflowPolicy#SAMPLE}.
+     *
+     * @since 1.0.0
+     */
+    private final int sampleRate;
+
+    /**
+     * A {@code private final} {@link PrintStream} that the records are written to.
+     *
+     * @since 1.0.0
+     */
+    private final PrintStream output;
+
+    /**
+     * A {@code private final} {@link Thread} that drains the buffer.
+     *
+     * @since 1.0.0
+     */
+    private final Thread drainThread;
+
+    /**
+     * A {@code private final} {@link StringBuilder} reused by the drain thread to build a batch.
+     *
+     * @since 1.0.0
+     */
+    private final StringBuilder batch = new StringBuilder(8192);
+
+    /**
+     * A {@code private final} {@link Object} that guards the formatter, which keeps caches that are not thread-safe, and
+     * the output, so the drain thread and a direct write after {@link #close()} never format or write at the same time.
+     *
+     * @since 1.0.0
+     */
+    private final Object writeLock = new Object();
+
+    /**
+     * A {@code private volatile} {@link Boolean} that indicates if the drain thread is parked and needs to be woken.
+     *
+     * @since 1.0.0
+     */
+    private volatile boolean parked;
+
+    /**
+     * A {@code private volatile} {@link Boolean} that indicates if this handler has been closed.
+     *
+     * @since 1.0.0
+     */
+    private volatile boolean closed;
+
+    /**
+     * A {@code public} constructor that creates a new {@link AsyncLogHandler} writing to {@link System#err} and
+     * starts its drain thread.
+     *
+     * @param pFormatter      {@link ColoredLogFormatter} - The formatter used to format every record.
+     * @param pCapacity       {@code int} - The capacity of the ring buffer, rounded up to a power of two.
+     * @param pOverflowPolicy {@link OverflowPolicy} - What happens to a record when the buffer is full.
+     * @param pSampleRate     {@code int} - How many overflowing records share one kept record under {@link OverflowPolicy#SAMPLE}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public AsyncLogHandler(ColoredLogFormatter pFormatter, int pCapacity, OverflowPolicy pOverflowPolicy, int pSampleRate) {
+        int capacity = Integer.highestOneBit(Math.max(2, pCapacity) - 1) << 1;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.overflowPolicy = pOverflowPolicy;
+        this.sampleRate = Math.max(1, pSampleRate);
+        this.output = System.err;
+        setFormatter(pFormatter);
+        setLevel(Level.INFO);
+
+        this.drainThread = new Thread(this::drainLoop, "BlueLib-LogWriter");
+        this.drainThread.setDaemon(true);
+        this.drainThread.start();
+    }
+
+    /**
+     * A {@code public void} that queues a {@link LogRecord} to be written by the drain thread.
+     * <p>
+     * If the handler has been closed, the record is written directly instead.
+     * </p>
+     *
+     * @param pRecord {@link LogRecord} - The record to publish.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Override
+    public void publish(LogRecord pRecord) {
+        if (!isLoggable(pRecord)) {
+            return;
+        }
+        if (closed) {
+            writeDirect(pRecord);
+            return;
+        }
+        if (!offer(pRecord)) {
+            handleOverflow(pRecord);
+            return;
+        }
+        if (parked) {
+            LockSupport.unpark(drainThread);
+        }
+    }
+
+    /**
+     * A {@code public void} that waits until all records queued so far have been written.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Override
+    public void flush() {
+        long target = tail.get();
+        while (head.get() < target && drainThread.isAlive()) {
+            LockSupport.unpark(drainThread);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        output.flush();
+    }
+
+    /**
+     * A {@code public void} that writes all queued records and stops the drain thread.
+     * <p>
+     * Records published after this call are written directly on the logging thread.
+     * </p>
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(drainThread);
+        try {
+            drainThread.join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        output.flush();
+    }
+
+    /**
+     * A {@code public} {@code long} that returns the number of records dropped because the buffer was full.
+     *
+     * @return {@code long} - The number of dropped records.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public long getDroppedCount() {
+        return droppedTotal.get();
+    }
+
+    /**
+     * A {@code public} {@code int} that returns the number of records currently waiting to be written.
+     *
+     * @return {@code int} - The number of queued records.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public int getQueuedCount() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    /**
+     * A {@code private} {@link Boolean} that tries to put a record in the ring buffer without blocking.
+     *
+     * @param pRecord {@link LogRecord} - The record to queue.
+     * @return {@code true} if the record was queued, {@code false} if the buffer is full.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private boolean offer(LogRecord pRecord) {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head.get() > mask) {
+                return false;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+        buffer.set((int) (sequence & mask), pRecord);
+        return true;
+    }
+
+    /**
+     * A {@code private} {@link LogRecord} that takes the next record from the ring buffer.
+     * <p>
+     * Only the drain thread calls this method.
+     * </p>
+     *
+     * @return {@link LogRecord} - The next record, or {@code null} if the buffer is empty.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private LogRecord poll() {
+        long sequence = head.get();
+        int slot = (int) (sequence & mask);
+        LogRecord record = buffer.get(slot);
+        if (record == null) {
+            if (sequence == tail.get()) {
+                return null;
+            }
+            // A logging thread claimed this slot but has not stored its record yet.
+            do {
+                Thread.onSpinWait();
+                record = buffer.get(slot);
+            } while (record == null);
+        }
+        buffer.lazySet(slot, null);
+        head.lazySet(sequence + 1);
+        return record;
+    }
+
+    /**
+     * A {@code private void} that applies the {@link OverflowPolicy} to a record that found the buffer full.
+     *
+     * @param pRecord {@link LogRecord} - The record that could not be queued.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private void handleOverflow(LogRecord pRecord) {
+        boolean wait = switch (overflowPolicy) {
+            case DROP -> false;
+            case BLOCK -> true;
+            case SAMPLE -> pRecord.getLevel().intValue() >= BaseLogLevel.WARNING.intValue() ||
+                    overflowed.getAndIncrement() % sampleRate == 0;
+        };
+        if (!wait || Thread.currentThread() == drainThread) {
+            dropped.incrementAndGet();
+            droppedTotal.incrementAndGet();
+            return;
+        }
+        int spins = 0;
+        while (!offer(pRecord)) {
+            if (closed) {
+                writeDirect(pRecord);
+                return;
+            }
+            LockSupport.unpark(drainThread);
+            if (spins < OVERFLOW_SPINS) {
+                spins++;
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(this, OVERFLOW_PARK_NANOS);
+            }
+        }
+        LockSupport.unpark(drainThread);
+    }
+
+    /**
+     * A {@code private void} that runs on the drain thread, writing batches of records until the handler is closed.
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private void drainLoop() {
+        while (true) {
+            int written = drainBatch();
+            if (written > 0) {
+                continue;
+            }
+            if (closed) {
+                while (drainBatch() > 0) {
+                    // Write everything that was queued before close.
+                }
+                return;
+            }
+            parked = true;
+            if (head.get() == tail.get() && !closed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            parked = false;
+        }
+    }
+
+    /**
+     * A {@code private} {@code int} that formats up to {@link #BATCH_SIZE} records and writes them with a single write.
+     *
+     * @return {@code int} - The number of records written.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private int drainBatch() {
+        synchronized (writeLock) {
+            return drainBatchLocked();
+        }
+    }
+
+    /**
+     * A {@code private} {@code int} that does the work of {@link #drainBatch()} while holding {@link #writeLock}.
+     *
+     * @return {@code int} - The number of records written.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private int drainBatchLocked() {
+        Formatter formatter = getFormatter();
+        int count = 0;
+        LogRecord record;
+        while (count < BATCH_SIZE && (record = poll()) != null) {
+            try {
+                if (formatter instanceof ColoredLogFormatter colored) {
+                    colored.appendTo(batch, record);
+                } else {
+                    batch.append(formatter.format(record));
+                }
+            } catch (RuntimeException exception) {
+                reportError(null, exception, ErrorManager.FORMAT_FAILURE);
+            }
+            count++;
+        }
+        long droppedRecords = dropped.getAndSet(0);
+        if (droppedRecords > 0) {
+            batch.append(LoggerConfig.ORANGE).append("[BlueLib] Dropped ").append(droppedRecords)
+                    .append(" log records because the log buffer was full.").append(LoggerConfig.RESET).append('\n');
+        }
+        if (!batch.isEmpty()) {
+            output.print(batch);
+            output.flush();
+            batch.setLength(0);
+        }
+        return count;
+    }
+
+    /**
+     * A {@code private void} that formats and writes a record on the calling thread.
+     * <p>
+     * Used after {@link #close()}, possibly from several threads at once and while the drain thread still writes its last
+     * batch, so the record is formatted and written under {@link #writeLock}.
+     * </p>
+     *
+     * @param pRecord {@link LogRecord} - The record to write.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private void writeDirect(LogRecord pRecord) {
+        synchronized (writeLock) {
+            output.print(getFormatter().format(pRecord));
+            output.flush();
+        }
+    }
+}
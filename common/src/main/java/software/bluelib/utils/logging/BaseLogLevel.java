@@ -15,6 +15,7 @@ import java.util.logging.Level;
  *   <li>{@link #WARNING} - Log level for warning messages.</li>
  *   <li>{@link #SUCCESS} - Custom log level for indicating successful operations.</li>
  *   <li>{@link #BLUELIB} - Custom log level specific to BlueLib.</li>
+ *   <li>{@link #DEBUG} - Log level for verbose messages of hot paths, which are not logged by default.</li>
  * </ul>
  *
  * @author MeAlam
@@ -71,4 +72,12 @@ public class BaseLogLevel {
      */
     public static final Level BLUELIB = new Level("BlueLib Developer", Level.INFO.intValue() + 50) {
     };
+
+    /**
+     * Log level for verbose messages of hot paths, which are not logged by default.
+     *
+     * @since 1.0.0
+     */
+    public static final Level DEBUG = new Level("DEBUG", Level.FINE.intValue()) {
+    };
 }
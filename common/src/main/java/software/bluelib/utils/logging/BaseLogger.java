@@ -4,6 +4,7 @@ package software.bluelib.utils.logging;
 
 import software.bluelib.BlueLibConstants;
 
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -19,6 +20,8 @@ import java.util.logging.Logger;
  *   <li>{@link #log(Level, String, boolean)} - Logs a message with a specified logging level.</li>
  *   <li>{@link #log(Level, String, Throwable)} - Logs a message with an associated {@link Throwable}, if logging is enabled.</li>
  *   <li>{@link #log(Level, String)} - Logs a message with a specified logging level, if logging is enabled.</li>
+ *   <li>{@link #log(Level, Supplier, boolean)} - Logs a lazily built message with a specified logging level.</li>
+ *   <li>{@link #isEnabled(Level, boolean)} - Checks if a message at a logging level would be logged.</li>
  *   <li>{@link #logBlueLib(String)} - Logs a {@code BlueLib} specific message.</li>
  * </ul>
  *
@@ -83,6 +86,64 @@ public class BaseLogger {
         LoggerConfig.configureLogger(BlueLibConstants.LOGGER, new DefaultLogColorProvider());
     }
 
+    /**
+     * A {@link Boolean} method that checks if a message at the given logging level would be logged.
+     * <p>
+     * {@link BaseLogLevel#ERROR}, {@link BaseLogLevel#WARNING} and {@link BaseLogLevel#BLUELIB} are always logged,
+     * other levels only when the matching logging flag is enabled. <br>
+     * Use this check to guard messages that are expensive to build on hot paths.
+     * </p>
+     *
+     * @param pLogLevel  {@link Level} - The logging level to check.
+     * @param pIsBlueLib {@link boolean} - Indicates if the message is {@code BlueLib} specific.
+     * @return {@code true} if the message would be logged, {@code false} otherwise.
+     * @since 1.0.0
+     */
+    public static boolean isEnabled(Level pLogLevel, boolean pIsBlueLib) {
+        return (pLogLevel == BaseLogLevel.ERROR ||
+                pLogLevel == BaseLogLevel.WARNING ||
+                pLogLevel == BaseLogLevel.BLUELIB ||
+                pIsBlueLib && BlueLibConstants.isBlueLibLoggingEnabled ||
+                !pIsBlueLib && BlueLibConstants.isLoggingEnabled) &&
+                BlueLibConstants.LOGGER.isLoggable(pLogLevel);
+    }
+
+    /**
+     * A {@code public static void} that logs a lazily built message with an associated {@link Throwable}
+     * if {@code BlueLib} logging is enabled.
+     * <p>
+     * The {@link Supplier} is only called if the message will be logged.
+     * </p>
+     *
+     * @param pLogLevel  {@link Level} - The logging level to use.
+     * @param pMessage   {@link Supplier<String>} - Builds the message to log.
+     * @param pThrowable {@link Throwable} - The throwable to log with the message.
+     * @param pIsBlueLib {@link boolean} - Indicates if the message is {@code BlueLib} specific.
+     * @since 1.0.0
+     */
+    public static void log(Level pLogLevel, Supplier<String> pMessage, Throwable pThrowable, boolean pIsBlueLib) {
+        if (isEnabled(pLogLevel, pIsBlueLib)) {
+            BlueLibConstants.LOGGER.log(pLogLevel, pThrowable, pMessage);
+        }
+    }
+
+    /**
+     * A {@code public static void} that logs a lazily built message if {@code BlueLib} logging is enabled.
+     * <p>
+     * The {@link Supplier} is only called if the message will be logged.
+     * </p>
+     *
+     * @param pLogLevel  {@link Level} - The logging level to use.
+     * @param pMessage   {@link Supplier<String>} - Builds the message to log.
+     * @param pIsBlueLib {@link boolean} - Indicates if the message is {@code BlueLib} specific.
+     * @since 1.0.0
+     */
+    public static void log(Level pLogLevel, Supplier<String> pMessage, boolean pIsBlueLib) {
+        if (isEnabled(pLogLevel, pIsBlueLib)) {
+            BlueLibConstants.LOGGER.log(pLogLevel, pMessage);
+        }
+    }
+
     /**
      * A {@code public static void} that logs a message with an associated {@link Throwable}
      * if {@code BlueLib} logging is enabled.
@@ -94,11 +155,7 @@ public class BaseLogger {
      * @since 1.0.0
      */
     public static void log(Level pLogLevel, String pMessage, Throwable pThrowable, boolean pIsBlueLib) {
-        if (pLogLevel == BaseLogLevel.ERROR ||
-                pLogLevel == BaseLogLevel.WARNING ||
-                pLogLevel == BaseLogLevel.BLUELIB ||
-                pIsBlueLib && BlueLibConstants.isBlueLibLoggingEnabled ||
-                !pIsBlueLib && BlueLibConstants.isLoggingEnabled) {
+        if (isEnabled(pLogLevel, pIsBlueLib)) {
             BlueLibConstants.LOGGER.log(pLogLevel, pMessage, pThrowable);
         }
     }
@@ -112,11 +169,7 @@ public class BaseLogger {
      * @since 1.0.0
      */
     public static void log(Level pLogLevel, String pMessage, boolean pIsBlueLib) {
-        if (pLogLevel == BaseLogLevel.ERROR ||
-                pLogLevel == BaseLogLevel.WARNING ||
-                pLogLevel == BaseLogLevel.BLUELIB ||
-                pIsBlueLib && BlueLibConstants.isBlueLibLoggingEnabled ||
-                !pIsBlueLib && BlueLibConstants.isLoggingEnabled) {
+        if (isEnabled(pLogLevel, pIsBlueLib)) {
             BlueLibConstants.LOGGER.log(pLogLevel, pMessage);
         }
     }
@@ -131,10 +184,7 @@ public class BaseLogger {
      * @since 1.0.0
      */
     public static void log(Level pLogLevel, String pMessage, Throwable pThrowable) {
-        if (pLogLevel == BaseLogLevel.ERROR ||
-                pLogLevel == BaseLogLevel.WARNING ||
-                pLogLevel == BaseLogLevel.BLUELIB ||
-                BlueLibConstants.isLoggingEnabled) {
+        if (isEnabled(pLogLevel, false)) {
             BlueLibConstants.LOGGER.log(pLogLevel, pMessage, pThrowable);
         }
     }
@@ -147,10 +197,7 @@ public class BaseLogger {
      * @since 1.0.0
      */
     public static void log(Level pLogLevel, String pMessage) {
-        if (pLogLevel == BaseLogLevel.ERROR ||
-                pLogLevel == BaseLogLevel.WARNING ||
-                pLogLevel == BaseLogLevel.BLUELIB ||
-                BlueLibConstants.isLoggingEnabled) {
+        if (isEnabled(pLogLevel, false)) {
             BlueLibConstants.LOGGER.log(pLogLevel, pMessage);
         }
     }
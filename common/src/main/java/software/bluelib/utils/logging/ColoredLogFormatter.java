@@ -0,0 +1,141 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.utils.logging;
+
+import software.bluelib.interfaces.logging.ILogColorProvider;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.logging.Formatter;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code public class} that formats {@link LogRecord} instances with a timestamp, the log level and a color
+ * provided by an {@link ILogColorProvider}.
+ * <p>
+ * The {@link DateTimeFormatter} is created once, and the formatted timestamp is cached per second, so formatting
+ * a burst of records does not build a new formatter or timestamp for every record. <br>
+ * This formatter is not thread-safe; it is used by a single handler, which either formats under its own lock or
+ * on its drain thread.
+ * </p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #format(LogRecord)} - Formats a {@link LogRecord} to a colored line.</li>
+ *   <li>{@link #appendTo(StringBuilder, LogRecord)} - Appends a formatted {@link LogRecord} to a {@link StringBuilder}.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see LoggerConfig
+ * @since 1.0.0
+ */
+public class ColoredLogFormatter extends Formatter {
+
+    /**
+     * A {@code private static final} {@link DateTimeFormatter} used to format the timestamp of every record.
+     *
+     * @since 1.0.0
+     */
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    /**
+     * A {@code private final} {@link ILogColorProvider} that provides the color of every log level.
+     *
+     * @since 1.0.0
+     */
+    private final ILogColorProvider colorProvider;
+
+    /**
+     * A {@code private} {@code long} that holds the epoch second of {@link #cachedTimestamp}.
+     *
+     * @since 1.0.0
+     */
+    private long cachedSecond = Long.MIN_VALUE;
+
+    /**
+     * A {@code private} {@link String} that holds the last formatted timestamp.
+     *
+     * @since 1.0.0
+     */
+    private String cachedTimestamp;
+
+    /**
+     * A {@code public} constructor that creates a new {@link ColoredLogFormatter}.
+     *
+     * @param pColorProvider {@link ILogColorProvider} - Provides color codes for different log levels.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public ColoredLogFormatter(ILogColorProvider pColorProvider) {
+        this.colorProvider = pColorProvider;
+    }
+
+    /**
+     * A {@link String} that formats a {@link LogRecord} to a single colored line, followed by its stack trace if present.
+     *
+     * @param pRecord {@link LogRecord} - The record to format.
+     * @return {@link String} - The formatted record, ending with a line separator.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Override
+    public String format(LogRecord pRecord) {
+        StringBuilder builder = new StringBuilder(128);
+        appendTo(builder, pRecord);
+        return builder.toString();
+    }
+
+    /**
+     * A {@code public void} that appends a formatted {@link LogRecord} to a {@link StringBuilder}.
+     * <p>
+     * This is used to format a batch of records into a single buffer without an intermediate {@link String} per record.
+     * </p>
+     *
+     * @param pBuilder {@link StringBuilder} - The builder to append to.
+     * @param pRecord  {@link LogRecord} - The record to format.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public void appendTo(StringBuilder pBuilder, LogRecord pRecord) {
+        pBuilder.append(colorProvider.getColor(pRecord.getLevel()))
+                .append('[').append(getTimestamp(pRecord.getMillis())).append(']')
+                .append(" [").append(pRecord.getLevel()).append("]: ")
+                .append(pRecord.getMessage());
+
+        Throwable thrown = pRecord.getThrown();
+        if (thrown != null) {
+            pBuilder.append("\nException: ").append(thrown.getMessage());
+            for (StackTraceElement element : thrown.getStackTrace()) {
+                String fullClassName = element.getClassName();
+                int separator = fullClassName.lastIndexOf('.');
+                pBuilder.append("\n\tat ")
+                        .append(fullClassName, 0, Math.max(separator, 0)).append(".")
+                        .append(fullClassName, separator + 1, fullClassName.length()).append(".")
+                        .append(element.getMethodName()).append("(Line: ")
+                        .append(element.getLineNumber()).append(")");
+            }
+        }
+
+        pBuilder.append(LoggerConfig.RESET).append('\n');
+    }
+
+    /**
+     * A {@code private} {@link String} that returns the formatted timestamp of an instant, reusing the cached value
+     * if the instant falls in the same second.
+     *
+     * @param pMillis {@code long} - The instant in milliseconds since the epoch.
+     * @return {@link String} - The formatted timestamp.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private String getTimestamp(long pMillis) {
+        long second = Math.floorDiv(pMillis, 1000L);
+        if (second != cachedSecond) {
+            cachedTimestamp = LocalTime.ofInstant(Instant.ofEpochMilli(pMillis), ZoneId.systemDefault())
+                    .format(TIMESTAMP_FORMAT);
+            cachedSecond = second;
+        }
+        return cachedTimestamp;
+    }
+}
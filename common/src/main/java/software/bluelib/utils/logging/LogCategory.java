@@ -0,0 +1,354 @@
+// Copyright (c) BlueLib. Licensed under the MIT License.
+
+package software.bluelib.utils.logging;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * A {@code public final class} that represents a hierarchical logging category of {@code BlueLib} with its own threshold.
+ * <p>
+ * Every category has a parent, except {@link #ROOT}. A category without its own threshold inherits the threshold of its
+ * parent. The effective threshold of every category is resolved once when a threshold changes and is stored as a plain
+ * {@code int}, so {@link #isEnabled(Level)} rejects a message below the threshold of its category with a single comparison
+ * that the JIT can inline on hot paths. A message that passes the threshold is also checked against the global logging
+ * flags and the level of the logger through {@link BaseLogger#isEnabled(Level, boolean)}, since both can be changed
+ * outside of this class, and is then logged as a {@code BlueLib} specific message.
+ * </p>
+ * Thresholds can be changed at runtime with {@link #setThreshold(Level)}, or at startup with the system properties
+ * {@code bluelib.logging.level} for {@link #ROOT} and {@code bluelib.logging.level.<name>} for other categories,
+ * for example {@code -Dbluelib.logging.level=WARNING -Dbluelib.logging.level.variant.parameter=OFF}.
+ * <p>
+ * Key Methods:
+ * <ul>
+ *   <li>{@link #isEnabled(Level)} - Checks if a message at a logging level would be logged in this category.</li>
+ *   <li>{@link #log(Level, String)} - Logs a message in this category.</li>
+ *   <li>{@link #log(Level, Supplier)} - Logs a lazily built message in this category.</li>
+ *   <li>{@link #setThreshold(Level)} - Sets the threshold of this category.</li>
+ *   <li>{@link #byName(String)} - Retrieves a category by its name.</li>
+ * </ul>
+ *
+ * @author MeAlam
+ * @see BaseLogger
+ * @since 1.0.0
+ */
+public final class LogCategory {
+
+    /**
+     * A {@code private static final} {@link Map} of all categories, keyed by name.
+     *
+     * @since 1.0.0
+     */
+    private static final Map<String, LogCategory> BY_NAME = new LinkedHashMap<>();
+
+    /**
+     * A {@code public static final} {@link LogCategory} that is the parent of all other categories.
+     *
+     * @since 1.0.0
+     */
+    public static final LogCategory ROOT = new LogCategory("bluelib", null, Level.ALL);
+
+    /**
+     * A {@code public static final} {@link LogCategory} for loading and indexing entity variants.
+     *
+     * @since 1.0.0
+     */
+    public static final LogCategory VARIANT = new LogCategory("variant", ROOT, null);
+
+    /**
+     * A {@code public static final} {@link LogCategory} for reading and writing variant parameters.
+     * <p>
+     * This category covers the verbose messages of the parameter accessors, so it can be silenced on its own.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    public static final LogCategory VARIANT_PARAMETER = new LogCategory("variant.parameter", VARIANT, null);
+
+    /**
+     * A {@code public static final} {@link LogCategory} for loading and merging JSON files.
+     *
+     * @since 1.0.0
+     */
+    public static final LogCategory JSON = new LogCategory("json", ROOT, null);
+
+    /**
+     * A {@code public static final} {@link LogCategory} for chunk utilities.
+     *
+     * @since 1.0.0
+     */
+    public static final LogCategory CHUNK = new LogCategory("chunk", ROOT, null);
+
+    /**
+     * A {@code public static final} {@link LogCategory} for math and conversion utilities.
+     *
+     * @since 1.0.0
+     */
+    public static final LogCategory MATH = new LogCategory("math", ROOT, null);
+
+    /**
+     * A {@code public static final} {@link LogCategory} for background tasks run by {@code BlueLibExecutor}.
+     *
+     * @since 1.0.0
+     */
+    public static final LogCategory EXECUTOR = new LogCategory("executor", ROOT, null);
+
+    static {
+        applySystemProperties();
+    }
+
+    /**
+     * A {@code private final} {@link String} that holds the name of this category.
+     *
+     * @since 1.0.0
+     */
+    private final String name;
+
+    /**
+     * A {@code private final} {@link LogCategory} that holds the parent of this category.
+     *
+     * @since 1.0.0
+     */
+    private final LogCategory parent;
+
+    /**
+     * A {@code private} {@link Level} that holds the threshold of this category, or {@code null} to inherit it.
+     *
+     * @since 1.0.0
+     */
+    private Level threshold;
+
+    /**
+     * A {@code private volatile} {@code int} that holds the resolved threshold of this category.
+     *
+     * @since 1.0.0
+     */
+    private volatile int effectiveThreshold;
+
+    /**
+     * A {@code private} constructor that creates and registers a new {@link LogCategory}.
+     *
+     * @param pName      {@link String} - The name of the category.
+     * @param pParent    {@link LogCategory} - The parent of the category, or {@code null} for {@link #ROOT}.
+     * @param pThreshold {@link Level} - The threshold of the category, or {@code null} to inherit it.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private LogCategory(String pName, LogCategory pParent, Level pThreshold) {
+        this.name = pName;
+        this.parent = pParent;
+        this.threshold = pThreshold;
+        this.effectiveThreshold = resolveThreshold();
+        BY_NAME.put(pName, this);
+    }
+
+    /**
+     * A {@code public static} {@link LogCategory} that retrieves a category by its name.
+     *
+     * @param pName {@link String} - The name of the category, for example {@code "variant.parameter"}.
+     * @return {@link LogCategory} - The category, or {@code null} if it does not exist.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static LogCategory byName(String pName) {
+        return BY_NAME.get(pName);
+    }
+
+    /**
+     * A {@code public static} {@link Collection<LogCategory>} that returns all categories.
+     *
+     * @return {@link Collection<LogCategory>} - An immutable {@link Collection} of all categories.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static Collection<LogCategory> getCategories() {
+        return Collections.unmodifiableCollection(BY_NAME.values());
+    }
+
+    /**
+     * A {@code private static void} that reads the thresholds of all categories from the system properties.
+     * <p>
+     * Unknown levels are skipped with a warning. An empty level name makes the category inherit again.
+     * </p>
+     *
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private static void applySystemProperties() {
+        for (LogCategory category : BY_NAME.values()) {
+            String property = category == ROOT ? "bluelib.logging.level" : "bluelib.logging.level." + category.name;
+            String value = System.getProperty(property);
+            if (value == null) {
+                continue;
+            }
+            String levelName = value.trim();
+            if (levelName.isEmpty()) {
+                category.setThreshold(null);
+                continue;
+            }
+            try {
+                category.setThreshold(Level.parse(levelName.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException exception) {
+                BaseLogger.log(BaseLogLevel.WARNING, "Unknown log level " + levelName + " for log category: " + category.name, true);
+            }
+        }
+    }
+
+    /**
+     * A {@code public} {@link Boolean} that checks if a message at the given logging level would be logged in this category.
+     *
+     * @param pLogLevel {@link Level} - The logging level to check.
+     * @return {@code true} if the message would be logged, {@code false} otherwise.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public boolean isEnabled(Level pLogLevel) {
+        return pLogLevel.intValue() >= effectiveThreshold && BaseLogger.isEnabled(pLogLevel, true);
+    }
+
+    /**
+     * A {@code public void} that logs a message in this category.
+     *
+     * @param pLogLevel {@link Level} - The logging level to use.
+     * @param pMessage  {@link String} - The message to log.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public void log(Level pLogLevel, String pMessage) {
+        if (isEnabled(pLogLevel)) {
+            BaseLogger.log(pLogLevel, pMessage, true);
+        }
+    }
+
+    /**
+     * A {@code public void} that logs a message with an associated {@link Throwable} in this category.
+     *
+     * @param pLogLevel  {@link Level} - The logging level to use.
+     * @param pMessage   {@link String} - The message to log.
+     * @param pThrowable {@link Throwable} - The throwable to log with the message.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public void log(Level pLogLevel, String pMessage, Throwable pThrowable) {
+        if (isEnabled(pLogLevel)) {
+            BaseLogger.log(pLogLevel, pMessage, pThrowable, true);
+        }
+    }
+
+    /**
+     * A {@code public void} that logs a lazily built message in this category.
+     * <p>
+     * The {@link Supplier} is only called if the message will be logged.
+     * </p>
+     *
+     * @param pLogLevel {@link Level} - The logging level to use.
+     * @param pMessage  {@link Supplier<String>} - Builds the message to log.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public void log(Level pLogLevel, Supplier<String> pMessage) {
+        if (isEnabled(pLogLevel)) {
+            BaseLogger.log(pLogLevel, pMessage.get(), true);
+        }
+    }
+
+    /**
+     * A {@code public void} that logs a lazily built message with an associated {@link Throwable} in this category.
+     * <p>
+     * The {@link Supplier} is only called if the message will be logged.
+     * </p>
+     *
+     * @param pLogLevel  {@link Level} - The logging level to use.
+     * @param pMessage   {@link Supplier<String>} - Builds the message to log.
+     * @param pThrowable {@link Throwable} - The throwable to log with the message.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public void log(Level pLogLevel, Supplier<String> pMessage, Throwable pThrowable) {
+        if (isEnabled(pLogLevel)) {
+            BaseLogger.log(pLogLevel, pMessage.get(), pThrowable, true);
+        }
+    }
+
+    /**
+     * A {@code public void} that sets the threshold of this category and updates all categories that inherit it.
+     *
+     * @param pThreshold {@link Level} - The new threshold, or {@code null} to inherit the threshold of the parent.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public void setThreshold(Level pThreshold) {
+        if (pThreshold == null && parent == null) {
+            pThreshold = Level.ALL;
+        }
+        synchronized (BY_NAME) {
+            this.threshold = pThreshold;
+            // Parents are registered before their children, so one pass in registration order resolves the hierarchy.
+            for (LogCategory category : BY_NAME.values()) {
+                category.effectiveThreshold = category.resolveThreshold();
+            }
+        }
+        BaseLogger.log(BaseLogLevel.INFO, () -> "Log category " + name + " threshold set to " + getThreshold(), true);
+    }
+
+    /**
+     * A {@code public} {@link Level} that returns the effective threshold of this category.
+     *
+     * @return {@link Level} - The threshold of this category, or the inherited threshold if it has none.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public Level getThreshold() {
+        LogCategory category = this;
+        while (category.threshold == null) {
+            category = category.parent;
+        }
+        return category.threshold;
+    }
+
+    /**
+     * A {@code public} {@link String} that returns the name of this category.
+     *
+     * @return {@link String} - The name of this category.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * A {@code public} {@link LogCategory} that returns the parent of this category.
+     *
+     * @return {@link LogCategory} - The parent, or {@code null} for {@link #ROOT}.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public LogCategory getParent() {
+        return parent;
+    }
+
+    /**
+     * A {@code private} {@code int} that resolves the threshold of this category from its own or an inherited {@link Level}.
+     *
+     * @return {@code int} - The resolved threshold.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private int resolveThreshold() {
+        return threshold != null ? threshold.intValue() : parent.effectiveThreshold;
+    }
+
+    /**
+     * A {@link String} that returns the name of this category.
+     *
+     * @return {@link String} - The name of this category.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -4,12 +4,10 @@ package software.bluelib.utils.logging;
 
 import software.bluelib.interfaces.logging.ILogColorProvider;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Locale;
 import java.util.logging.ConsoleHandler;
-import java.util.logging.LogRecord;
+import java.util.logging.Handler;
 import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
 
 /**
  * A {@code public abstract class} responsible for configuring logging settings,
@@ -19,6 +17,8 @@ import java.util.logging.SimpleFormatter;
  * <ul>
  *   <li>{@link #configureLogger(Logger, ILogColorProvider)} - Configures a {@link Logger}
  *   to use custom colors for log levels.</li>
+ *   <li>{@link #configureAsyncLogger(Logger, ILogColorProvider, int, AsyncLogHandler.OverflowPolicy, int)} - Configures a
+ *   {@link Logger} to write its records asynchronously.</li>
  * </ul>
  *
  * @author MeAlam
@@ -62,8 +62,48 @@ public abstract class LoggerConfig {
     protected static final String GREEN = "\u001B[38;5;10m";
 
     /**
-     * A {@link Logger} configuration method that sets up a {@link ConsoleHandler}
-     * with custom color formatting based on log level using the provided {@link ILogColorProvider}.
+     * A {@code public static final} {@link String} that holds the system property that enables asynchronous logging.
+     * <p>
+     * Asynchronous logging is disabled unless this property is set to {@code true}.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    public static final String ASYNC_PROPERTY = "bluelib.logging.async";
+
+    /**
+     * A {@code public static final} {@link String} that holds the system property with the capacity of the asynchronous log buffer.
+     *
+     * @since 1.0.0
+     */
+    public static final String ASYNC_CAPACITY_PROPERTY = "bluelib.logging.async.capacity";
+
+    /**
+     * A {@code public static final} {@link String} that holds the system property with the {@link AsyncLogHandler.OverflowPolicy}.
+     * <p>
+     * Defaults to {@link AsyncLogHandler.OverflowPolicy#BLOCK}, so no record is lost; lossy policies are opt-in.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    public static final String ASYNC_OVERFLOW_PROPERTY = "bluelib.logging.async.overflow";
+
+    /**
+     * A {@code public static final} {@link String} that holds the system property with the sample rate used by
+     * {@link AsyncLogHandler.OverflowPolicy#SAMPLE}.
+     *
+     * @since 1.0.0
+     */
+    public static final String ASYNC_SAMPLE_RATE_PROPERTY = "bluelib.logging.async.sampleRate";
+
+    /**
+     * A {@link Logger} configuration method that sets up a handler with custom color formatting based on log level
+     * using the provided {@link ILogColorProvider}.
+     * <p>
+     * By default the records are written synchronously by a {@link ConsoleHandler}. Setting {@link #ASYNC_PROPERTY} to
+     * {@code true} installs an {@link AsyncLogHandler} instead, configured through {@link #ASYNC_CAPACITY_PROPERTY},
+     * {@link #ASYNC_OVERFLOW_PROPERTY} and {@link #ASYNC_SAMPLE_RATE_PROPERTY}.
+     * </p>
      *
      * @param pLogger        {@link Logger} - The logger instance to be configured.
      * @param pColorProvider {@link ILogColorProvider} - Provides color codes for different log levels.
@@ -71,36 +111,60 @@ public abstract class LoggerConfig {
      * @since 1.0.0
      */
     public static void configureLogger(Logger pLogger, ILogColorProvider pColorProvider) {
-        ConsoleHandler handler = new ConsoleHandler();
-        handler.setFormatter(new SimpleFormatter() {
-            @Override
-            public synchronized String format(LogRecord pRecord) {
-                String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
-                StringBuilder coloredMessage = new StringBuilder(pColorProvider.getColor(pRecord.getLevel()) +
-                        "[" + timestamp + "]" + " [" + pRecord.getLevel() + "]: " + pRecord.getMessage());
-
-                if (pRecord.getThrown() != null) {
-                    coloredMessage.append("\nException: ").append(pRecord.getThrown().getMessage());
-                    for (StackTraceElement element : pRecord.getThrown().getStackTrace()) {
-                        String packageName = element.getClassName().substring(0, element.getClassName().lastIndexOf('.'));
-                        String className = element.getClassName().substring(element.getClassName().lastIndexOf('.') + 1);
-                        String methodName = element.getMethodName();
-                        int lineNumber = element.getLineNumber();
-
-                        coloredMessage.append("\n\tat ")
-                                .append(packageName).append(".")
-                                .append(className).append(".")
-                                .append(methodName).append("(Line: ")
-                                .append(lineNumber).append(")");
-                    }
-                }
-
-                coloredMessage.append(RESET);
-                return coloredMessage + "\n";
-            }
-        });
+        if (!Boolean.parseBoolean(System.getProperty(ASYNC_PROPERTY, "false"))) {
+            ConsoleHandler handler = new ConsoleHandler();
+            handler.setFormatter(new ColoredLogFormatter(pColorProvider));
+            installHandler(pLogger, handler);
+            return;
+        }
+
+        AsyncLogHandler.OverflowPolicy overflowPolicy;
+        try {
+            overflowPolicy = AsyncLogHandler.OverflowPolicy.valueOf(
+                    System.getProperty(ASYNC_OVERFLOW_PROPERTY, "BLOCK").trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            overflowPolicy = AsyncLogHandler.OverflowPolicy.BLOCK;
+        }
+        configureAsyncLogger(pLogger, pColorProvider,
+                Integer.getInteger(ASYNC_CAPACITY_PROPERTY, 8192),
+                overflowPolicy,
+                Integer.getInteger(ASYNC_SAMPLE_RATE_PROPERTY, 10));
+    }
 
+    /**
+     * A {@link Logger} configuration method that sets up an {@link AsyncLogHandler} with custom color formatting based on
+     * log level using the provided {@link ILogColorProvider}.
+     * <p>
+     * The handler is closed by a shutdown hook, so records that are still queued are written when the game exits.
+     * </p>
+     *
+     * @param pLogger         {@link Logger} - The logger instance to be configured.
+     * @param pColorProvider  {@link ILogColorProvider} - Provides color codes for different log levels.
+     * @param pCapacity       {@code int} - The capacity of the ring buffer.
+     * @param pOverflowPolicy {@link AsyncLogHandler.OverflowPolicy} - What happens to a record when the buffer is full.
+     * @param pSampleRate     {@code int} - How many overflowing records share one kept record under {@link AsyncLogHandler.OverflowPolicy#SAMPLE}.
+     * @return {@link AsyncLogHandler} - The installed handler.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    public static AsyncLogHandler configureAsyncLogger(Logger pLogger, ILogColorProvider pColorProvider, int pCapacity,
+                                                       AsyncLogHandler.OverflowPolicy pOverflowPolicy, int pSampleRate) {
+        AsyncLogHandler handler = new AsyncLogHandler(new ColoredLogFormatter(pColorProvider), pCapacity, pOverflowPolicy, pSampleRate);
+        installHandler(pLogger, handler);
+        Runtime.getRuntime().addShutdownHook(new Thread(handler::close, "BlueLib-LogShutdown"));
+        return handler;
+    }
+
+    /**
+     * A {@code private static void} that replaces the parent handlers of a {@link Logger} with the given {@link Handler}.
+     *
+     * @param pLogger  {@link Logger} - The logger instance to be configured.
+     * @param pHandler {@link Handler} - The handler to install.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private static void installHandler(Logger pLogger, Handler pHandler) {
         pLogger.setUseParentHandlers(false);
-        pLogger.addHandler(handler);
+        pLogger.addHandler(pHandler);
     }
 }
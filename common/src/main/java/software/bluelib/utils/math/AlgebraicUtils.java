@@ -3,7 +3,7 @@
 package software.bluelib.utils.math;
 
 import software.bluelib.utils.logging.BaseLogLevel;
-import software.bluelib.utils.logging.BaseLogger;
+import software.bluelib.utils.logging.LogCategory;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -53,7 +53,7 @@ public class AlgebraicUtils {
 
         double discriminant = pB * pB - 4 * pA * pC;
         if (discriminant < 0) {
-            BaseLogger.log(BaseLogLevel.WARNING, "No real roots found for the quadratic equation.", true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "No real roots found for the quadratic equation.");
             return new double[0];
         }
 
@@ -61,7 +61,7 @@ public class AlgebraicUtils {
         double root1 = (-pB + sqrtDiscriminant) / (2 * pA);
         double root2 = (-pB - sqrtDiscriminant) / (2 * pA);
 
-        BaseLogger.log(BaseLogLevel.INFO, "Roots found: root1=" + root1 + ", root2=" + root2, true);
+        LogCategory.MATH.log(BaseLogLevel.INFO, "Roots found: root1=" + root1 + ", root2=" + root2);
         return new double[]{root1, root2};
     }
 
@@ -77,7 +77,7 @@ public class AlgebraicUtils {
     public static long factorial(int pNumber) {
         if (pNumber < 0) {
             IllegalArgumentException exception = new IllegalArgumentException("Number must be non-negative.");
-            BaseLogger.log(BaseLogLevel.ERROR, "Attempted to calculate factorial of a negative number: " + pNumber, exception, true);
+            LogCategory.MATH.log(BaseLogLevel.ERROR, "Attempted to calculate factorial of a negative number: " + pNumber, exception);
             throw exception;
         }
 
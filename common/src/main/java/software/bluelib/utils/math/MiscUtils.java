@@ -3,7 +3,7 @@
 package software.bluelib.utils.math;
 
 import software.bluelib.utils.logging.BaseLogLevel;
-import software.bluelib.utils.logging.BaseLogger;
+import software.bluelib.utils.logging.LogCategory;
 
 /**
  * A {@code class} providing utility methods for various common operations.
@@ -59,7 +59,7 @@ public class MiscUtils {
         try {
             return Integer.parseInt(pString);
         } catch (NumberFormatException pException) {
-            BaseLogger.log(BaseLogLevel.ERROR, "Error converting string to integer", pException, true);
+            LogCategory.MATH.log(BaseLogLevel.ERROR, "Error converting string to integer", pException);
             return pDefaultValue;
         }
     }
@@ -105,7 +105,7 @@ public class MiscUtils {
     public static int[] hexToRGB(String pHex) {
         if (pHex == null || pHex.isEmpty()) {
             Throwable throwable = new IllegalArgumentException("Hex color code cannot be null or empty.");
-            BaseLogger.log(BaseLogLevel.ERROR, "Error converting hex to RGB", throwable, true);
+            LogCategory.MATH.log(BaseLogLevel.ERROR, "Error converting hex to RGB", throwable);
             return new int[]{0, 0, 0};
         }
         if (pHex.charAt(0) == '#') {
@@ -113,7 +113,7 @@ public class MiscUtils {
         }
         if (pHex.length() != 6) {
             Throwable throwable = new IllegalArgumentException("Invalid hex color code.");
-            BaseLogger.log(BaseLogLevel.ERROR, "Error converting hex to RGB", throwable, true);
+            LogCategory.MATH.log(BaseLogLevel.ERROR, "Error converting hex to RGB", throwable);
             return new int[]{0, 0, 0};
         }
         try {
@@ -122,7 +122,7 @@ public class MiscUtils {
             int b = Integer.parseInt(pHex.substring(4, 6), 16);
             return new int[]{r, g, b};
         } catch (NumberFormatException pException) {
-            BaseLogger.log(BaseLogLevel.ERROR, "Error parsing hex color code to RGB", pException, true);
+            LogCategory.MATH.log(BaseLogLevel.ERROR, "Error parsing hex color code to RGB", pException);
             return new int[]{0, 0, 0};
         }
     }
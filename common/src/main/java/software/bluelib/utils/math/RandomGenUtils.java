@@ -3,7 +3,7 @@
 package software.bluelib.utils.math;
 
 import software.bluelib.utils.logging.BaseLogLevel;
-import software.bluelib.utils.logging.BaseLogger;
+import software.bluelib.utils.logging.LogCategory;
 
 /**
  * A {@code class} for generating random values of various types.
@@ -22,7 +22,7 @@ import software.bluelib.utils.logging.BaseLogger;
  *   <li>{@link #generateRandomStringWithPrefix(String, int)} - Generates a random alphanumeric string with a specified prefix and length.</li>
  * </ul>
  * <p>
- * Each method logs errors using {@link BaseLogger} when invalid parameters are provided (e.g., negative lengths
+ * Each method logs errors through {@link LogCategory#MATH} when invalid parameters are provided (e.g., negative lengths
  * or minimum values greater than maximum values) and returns default values (e.g., `0` for integers and `"unknown"` for strings)
  * in such cases.
  * </p>
@@ -56,7 +56,7 @@ public class RandomGenUtils {
     public static int generateRandomInt(int pMin, int pMax) {
         if (pMin > pMax) {
             Throwable throwable = new IllegalArgumentException("Minimum value must not be greater than maximum value.");
-            BaseLogger.log(BaseLogLevel.WARNING, "Error generating random integer", throwable, true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "Error generating random integer", throwable);
             return 0;
         }
         return pMin + (int) (Math.random() * (pMax - pMin + 1));
@@ -74,7 +74,7 @@ public class RandomGenUtils {
     public static double generateRandomDouble(double pMin, double pMax) {
         if (pMin > pMax) {
             Throwable throwable = new IllegalArgumentException("Minimum value must not be greater than maximum value.");
-            BaseLogger.log(BaseLogLevel.WARNING, "Error generating random double", true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "Error generating random double");
             return 0;
         }
         return pMin + Math.random() * (pMax - pMin);
@@ -103,7 +103,7 @@ public class RandomGenUtils {
     public static String generateRandomString(int pLength) {
         if (pLength < 0) {
             Throwable throwable = new IllegalArgumentException("Length must be non-negative.");
-            BaseLogger.log(BaseLogLevel.WARNING, "Error generating random string", throwable, true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "Error generating random string", throwable);
             return "unknown";
         }
         String characters = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
@@ -127,7 +127,7 @@ public class RandomGenUtils {
     public static String generateRandomStringWithPrefix(String pPrefix, int pLength) {
         if (pLength < 0) {
             Throwable throwable = new IllegalArgumentException("Length must be non-negative.");
-            BaseLogger.log(BaseLogLevel.WARNING, "Error generating random string with prefix", throwable, true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "Error generating random string with prefix", throwable);
             return "unknown";
         }
         return pPrefix + generateRandomString(pLength - pPrefix.length());
@@ -3,7 +3,7 @@
 package software.bluelib.utils.math;
 
 import software.bluelib.utils.logging.BaseLogLevel;
-import software.bluelib.utils.logging.BaseLogger;
+import software.bluelib.utils.logging.LogCategory;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -29,7 +29,7 @@ import java.util.Map;
  * </ul>
  * <p>
  * Each method logs a success message with the computed value or a warning if the input array is empty.
- * The logging is done via {@link BaseLogger}, ensuring that any issues or results are recorded appropriately.
+ * The logging is done via {@link LogCategory#MATH}, ensuring that any issues or results are recorded appropriately.
  * </p>
  *
  * @author MeAlam
@@ -62,7 +62,7 @@ public class StatisticalUtils {
      */
     public static double calculateMean(double[] pValues) {
         if (pValues.length == 0) {
-            BaseLogger.log(BaseLogLevel.WARNING, "Array is empty, mean calculation might fail.", true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "Array is empty, mean calculation might fail.");
             return 0;
         }
 
@@ -86,7 +86,7 @@ public class StatisticalUtils {
      */
     public static double calculateMedian(double[] pValues) {
         if (pValues.length == 0) {
-            BaseLogger.log(BaseLogLevel.WARNING, "Array is empty, median calculation might fail.", true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "Array is empty, median calculation might fail.");
             return 0;
         }
 
@@ -112,7 +112,7 @@ public class StatisticalUtils {
      */
     public static double calculateMode(double[] pValues) {
         if (pValues.length == 0) {
-            BaseLogger.log(BaseLogLevel.WARNING, "Array is empty, mode calculation might fail.", true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "Array is empty, mode calculation might fail.");
             return 0;
         }
 
@@ -145,7 +145,7 @@ public class StatisticalUtils {
      */
     public static double calculateStandardDeviation(double[] pValues) {
         if (pValues.length == 0) {
-            BaseLogger.log(BaseLogLevel.WARNING, "Array is empty, standard deviation calculation might fail.", true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "Array is empty, standard deviation calculation might fail.");
             return 0;
         }
 
@@ -170,7 +170,7 @@ public class StatisticalUtils {
      */
     public static double calculateVariance(double[] pValues) {
         if (pValues.length == 0) {
-            BaseLogger.log(BaseLogLevel.WARNING, "Array is empty, variance calculation might fail.", true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "Array is empty, variance calculation might fail.");
             return 0;
         }
 
@@ -195,7 +195,7 @@ public class StatisticalUtils {
      */
     public static double calculateRange(double[] pValues) {
         if (pValues.length == 0) {
-            BaseLogger.log(BaseLogLevel.WARNING, "Array is empty, range calculation might fail.", true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "Array is empty, range calculation might fail.");
             return 0;
         }
 
@@ -217,7 +217,7 @@ public class StatisticalUtils {
      */
     public static double calculateCoefficientOfVariation(double[] pValues) {
         if (pValues.length == 0) {
-            BaseLogger.log(BaseLogLevel.WARNING, "Array is empty, coefficient of variation calculation might fail.", true);
+            LogCategory.MATH.log(BaseLogLevel.WARNING, "Array is empty, coefficient of variation calculation might fail.");
             return 0;
         }
 
@@ -3,7 +3,9 @@
 package software.bluelib.utils.minecraft;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
 import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
@@ -12,6 +14,7 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.chunk.LevelChunk;
 import software.bluelib.utils.logging.BaseLogLevel;
 import software.bluelib.utils.logging.BaseLogger;
+import software.bluelib.utils.logging.LogCategory;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -24,6 +27,7 @@ import java.util.stream.Collectors;
  * Key Methods:
  * <ul>
  *   <li>{@link #getBiomeOfChunk(Level, ChunkPos)} - Retrieves the {@link Biome} of the specified chunk.</li>
+ *   <li>{@link #getBiomeHolderOfChunk(Level, ChunkPos)} - Retrieves the {@link Holder} of the {@link Biome} of the specified chunk.</li>
  *   <li>{@link #getBiomeRegistryNameOfChunk(Level, ChunkPos)} - Retrieves the biome registry name of the specified chunk.</li>
  *   <li>{@link #getBiomeSimpleNameOfChunk(Level, ChunkPos)} - Retrieves the simple name of the biome in the specified chunk.</li>
  *   <li>{@link #getChunkTileEntities(Level, ChunkPos)} - Retrieves the tile entities within the specified chunk.</li>
@@ -65,16 +69,32 @@ public class ChunkUtils {
         try {
             return pLevel.getBiome(pChunkPos.getWorldPosition()).value();
         } catch (Exception pException) {
-            BaseLogger.log(BaseLogLevel.ERROR, "Error retrieving biome for chunk at position " + pChunkPos, pException, true);
+            LogCategory.CHUNK.log(BaseLogLevel.ERROR, "Error retrieving biome for chunk at position " + pChunkPos, pException);
             throw pException;
         }
     }
 
 
+    /**
+     * A {@link Holder} that retrieves the {@link Holder} of the {@link Biome} of the specified chunk.
+     * <p>
+     * The holder carries the biome's registry key and tags, so it can be compared or used as a map key without any
+     * registry lookup or string building. Prefer it over {@link #getBiomeRegistryNameOfChunk(Level, ChunkPos)} on hot paths.
+     * </p>
+     *
+     * @param pLevel    {@link Level} - The game world level.
+     * @param pChunkPos {@link ChunkPos} - The position of the chunk.
+     * @return The {@link Holder} of the {@link Biome} associated with the specified chunk.
+     */
+    public static Holder<Biome> getBiomeHolderOfChunk(Level pLevel, ChunkPos pChunkPos) {
+        return pLevel.getBiome(pChunkPos.getWorldPosition());
+    }
+
     /**
      * A {@link String} that retrieves the biome registry name of the specified chunk.
      * <p>
-     * Example: "minecraft:plains", "minecraft:desert"
+     * Example: "minecraft:plains", "minecraft:desert" <br>
+     * The name is read from the key of the biome's {@link Holder}, so no registry lookup is needed.
      * </p>
      *
      * @param pLevel    {@link Level} - The game world level.
@@ -83,13 +103,13 @@ public class ChunkUtils {
      * @throws RuntimeException if there is an error retrieving the biome registry name.
      */
     public static String getBiomeRegistryNameOfChunk(Level pLevel, ChunkPos pChunkPos) {
-        ResourceLocation biomeKey = pLevel.registryAccess()
-                .registryOrThrow(Registries.BIOME)
-                .getKey(pLevel.getBiome(pChunkPos.getWorldPosition()).value());
+        ResourceLocation biomeKey = getBiomeHolderOfChunk(pLevel, pChunkPos).unwrapKey()
+                .map(ResourceKey::location)
+                .orElse(null);
 
         if (biomeKey == null) {
             NullPointerException exception = new NullPointerException("Biome at chunk position " + pChunkPos + " is null");
-            BaseLogger.log(BaseLogLevel.ERROR, "Error retrieving biome registry name of chunk at " + pChunkPos, exception, true);
+            LogCategory.CHUNK.log(BaseLogLevel.ERROR, "Error retrieving biome registry name of chunk at " + pChunkPos, exception);
             return exception.getMessage();
         }
         return biomeKey.toString();
@@ -128,7 +148,7 @@ public class ChunkUtils {
             LevelChunk chunk = pLevel.getChunk(pChunkPos.x, pChunkPos.z);
             return chunk.getBlockEntities().values();
         } catch (Exception pException) {
-            BaseLogger.log(BaseLogLevel.ERROR, "Error retrieving tile entities for chunk at position " + pChunkPos, pException, true);
+            LogCategory.CHUNK.log(BaseLogLevel.ERROR, "Error retrieving tile entities for chunk at position " + pChunkPos, pException);
             throw pException;
         }
     }
@@ -159,7 +179,7 @@ public class ChunkUtils {
                     })
                     .collect(Collectors.joining(", "));
         } catch (Exception pException) {
-            BaseLogger.log(BaseLogLevel.ERROR, "Error retrieving tile entity registry names for chunk at position " + pChunkPos, pException, true);
+            LogCategory.CHUNK.log(BaseLogLevel.ERROR, "Error retrieving tile entity registry names for chunk at position " + pChunkPos, pException);
             throw pException;
         }
     }
@@ -211,7 +231,7 @@ public class ChunkUtils {
             }
             return blockCount;
         } catch (Exception pException) {
-            BaseLogger.log(BaseLogLevel.ERROR, "Error counting blocks for chunk at position " + pChunkPos, pException, true);
+            LogCategory.CHUNK.log(BaseLogLevel.ERROR, "Error counting blocks for chunk at position " + pChunkPos, pException);
             throw pException;
         }
     }
@@ -2,14 +2,15 @@
 
 package software.bluelib.utils.variant;
 
+import software.bluelib.entity.variant.VariantIndex;
 import software.bluelib.entity.variant.VariantLoader;
 import software.bluelib.entity.variant.VariantParameter;
 import software.bluelib.utils.logging.BaseLogLevel;
 import software.bluelib.utils.logging.BaseLogger;
+import software.bluelib.utils.logging.LogCategory;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.NoSuchElementException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * A utility class for managing custom parameters associated with entity variants.
@@ -18,9 +19,14 @@ import java.util.NoSuchElementException;
  * building and connecting parameters to specific variants via the {@link ParameterBuilder} class.
  * </p>
  * <p>
+ * The parameters of every variant are precomputed into an immutable view by its {@link VariantIndex} when variants are
+ * loaded, so reading and connecting parameters only looks up that view and never builds or writes a map.
+ * </p>
+ * <p>
  * <strong>Key Methods:</strong>
  * <ul>
- *   <li>{@link #getParameter(String, String)} - Retrieves the value of a custom parameter for a specific variant.</li>
+ *   <li>{@link #getParameter(String, String, String)} - Retrieves the value of a custom parameter for a specific variant of an entity.</li>
+ *   <li>{@link #getParameter(String, String)} - Deprecated, retrieves the value of a custom parameter for a variant of any entity.</li>
  * </ul>
  * <p>
  * <strong>Nested Classes:</strong>
@@ -35,6 +41,13 @@ import java.util.NoSuchElementException;
  */
 public class ParameterUtils {
 
+    /**
+     * A {@code private static final} {@link AtomicBoolean} that indicates if the deprecated {@link #getParameter(String, String)} has warned already.
+     *
+     * @since 1.0.0
+     */
+    private static final AtomicBoolean WARNED_UNSCOPED_LOOKUP = new AtomicBoolean();
+
     /**
      * Private constructor to prevent instantiation.
      * <p>
@@ -48,30 +61,67 @@ public class ParameterUtils {
     }
 
     /**
-     * Holds custom parameters for each variant.
+     * A {@link String} that retrieves the value of a custom parameter for a specific variant of an entity.
      * <p>
-     * The outer map's key is the variant name, and the inner map contains key-value pairs
-     * representing custom parameters for that variant.
+     * The value is read from the parameter view of the variant, so the variant does not need to be connected first.
+     * If the parameter is not found, {@code "null"} is returned.
      * </p>
      *
+     * @param pEntityName   {@link String} The name of the entity.
+     * @param pVariantName  {@link String} The name of the variant.
+     * @param pParameterKey {@link String} The key of the parameter to retrieve.
+     * @return {@link String} The value of the custom parameter for the specified variant or {@code "null"} if not found.
+     * @author MeAlam
      * @since 1.0.0
      */
-    private static final Map<String, Map<String, String>> variantParametersMap = new HashMap<>();
+    public static String getParameter(String pEntityName, String pVariantName, String pParameterKey) {
+        Map<String, String> view = getParameterView(pEntityName, pVariantName);
+        return view == null ? "null" : view.getOrDefault(pParameterKey, "null");
+    }
 
     /**
-     * A {@link String} that retrieves the value of a custom parameter for a specific variant.
+     * A {@link String} that retrieves the value of a custom parameter for a variant of any entity.
      * <p>
-     * If the parameter is not found, {@code null} is returned.
+     * The loaded entities are searched for a variant with the name that defines the parameter. Variant names are only
+     * unique per entity, so if several entities define the parameter for a variant with the same name, which one is
+     * returned is unspecified. If the parameter is not found, {@code "null"} is returned. <br>
+     * The first call logs a warning, since every call walks all loaded entities.
      * </p>
      *
      * @param pVariantName  {@link String} The name of the variant.
      * @param pParameterKey {@link String} The key of the parameter to retrieve.
-     * @return {@link String} The value of the custom parameter for the specified variant or {@code null}  if not found.
+     * @return {@link String} The value of the custom parameter for the specified variant or {@code "null"} if not found.
      * @author MeAlam
      * @since 1.0.0
+     * @deprecated Use {@link #getParameter(String, String, String)}, which names the entity of the variant; this method will
+     * be removed in the next release.
      */
+    @Deprecated(since = "1.0.0", forRemoval = true)
     public static String getParameter(String pVariantName, String pParameterKey) {
-        return variantParametersMap.getOrDefault(pVariantName, new HashMap<>()).getOrDefault(pParameterKey, "null");
+        if (!WARNED_UNSCOPED_LOOKUP.getAndSet(true)) {
+            BaseLogger.log(BaseLogLevel.WARNING, "ParameterUtils.getParameter(String, String) is deprecated and searches every entity, use getParameter(String, String, String) instead", true);
+        }
+        for (String entityName : VariantLoader.getRegistry().getEntityNames()) {
+            Map<String, String> view = getParameterView(entityName, pVariantName);
+            if (view != null && view.containsKey(pParameterKey)) {
+                return view.get(pParameterKey);
+            }
+        }
+        return "null";
+    }
+
+    /**
+     * A {@code private static} {@link Map} that retrieves the precomputed parameter view of a variant of an entity.
+     *
+     * @param pEntityName  {@link String} The name of the entity.
+     * @param pVariantName {@link String} The name of the variant.
+     * @return {@link Map} The immutable parameter view, or {@code null} if the entity or variant does not exist.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    private static Map<String, String> getParameterView(String pEntityName, String pVariantName) {
+        VariantIndex index = VariantLoader.getVariantIndex(pEntityName);
+        return index == null ? null : index.getParameterView(pVariantName);
     }
 
     /**
@@ -84,7 +134,7 @@ public class ParameterUtils {
      * <ul>
      *   <li>{@link #forVariant(String, String)} - Creates a new instance of {@link ParameterBuilder} for a specific entity and variant.</li>
      *   <li>{@link #withParameter(String)} - Adds a parameter with a default value of {@code null} .</li>
-     *   <li>{@link #connect()} - Connects the parameters to the variant and updates {@link VariantParameter} with the parameters.</li>
+     *   <li>{@link #connect()} - Checks that the variant exists and defines the requested parameters.</li>
      * </ul>
      *
      * @author MeAlam
@@ -107,11 +157,11 @@ public class ParameterUtils {
         private final String entityName;
 
         /**
-         * Stores custom parameters being built for the variant.
+         * Stores the keys of the custom parameters requested for the variant.
          *
          * @since 1.0.0
          */
-        private final Map<String, String> parameters = new HashMap<>();
+        private final List<String> parameters = new ArrayList<>();
 
         /**
          * Constructor to initialize the builder for a specific entity and variant.
@@ -142,7 +192,7 @@ public class ParameterUtils {
         /**
          * A {@link ParameterBuilder} that adds a custom parameter to the builder with a default value of "null".
          * <p>
-         * The {@code null}  value is used if the parameter is not specified in the data source.
+         * The {@code "null"} value is used if the parameter is not specified in the data source.
          * </p>
          *
          * @param pParameter {@link String} The parameter key.
@@ -151,29 +201,32 @@ public class ParameterUtils {
          * @since 1.0.0
          */
         public ParameterBuilder withParameter(String pParameter) {
-            parameters.put(pParameter, "null");
+            parameters.add(pParameter);
             return this;
         }
 
         /**
-         * A {@link ParameterBuilder} that connects the custom parameters to the specified variant and updates the {@link VariantParameter}.
+         * A {@link ParameterBuilder} that connects the custom parameters to the specified variant.
          * <p>
-         * Throws a {@link NoSuchElementException} if the variant or entity is not found.
+         * Connecting only looks up the precomputed parameter view of the variant and writes nothing, so it is safe to call on
+         * every spawn. Requested parameters the variant does not define are logged and read as {@code "null"} through
+         * {@link ParameterUtils#getParameter(String, String, String)}. Logs an error if the variant or entity is not found.
          * </p>
          *
          * @return {@link ParameterBuilder} The builder instance for chaining.
-         * @throws NoSuchElementException if the variant or entity is not found in the database.
          * @author MeAlam
          * @since 1.0.0
          */
         public ParameterBuilder connect() {
-            VariantParameter variant = VariantLoader.getVariantByName(entityName, variantName);
-            if (variant != null) {
-                Map<String, String> updatedParameters = new HashMap<>();
-                for (String key : parameters.keySet()) {
-                    updatedParameters.put(key, variant.getParameter(key));
+            Map<String, String> view = getParameterView(entityName, variantName);
+            if (view != null) {
+                if (LogCategory.VARIANT_PARAMETER.isEnabled(BaseLogLevel.INFO)) {
+                    for (String key : parameters) {
+                        if (!view.containsKey(key)) {
+                            LogCategory.VARIANT_PARAMETER.log(BaseLogLevel.INFO, "Parameter: " + key + " is not defined by variant: " + variantName + " of entity: " + entityName);
+                        }
+                    }
                 }
-                variantParametersMap.put(variantName, updatedParameters);
             } else {
                 Throwable throwable = new Throwable("Variant or entity not found in the database");
                 BaseLogger.log(BaseLogLevel.ERROR, "Variant '" + variantName + "' not found for entity '" + entityName + "'", throwable, true);
@@ -4,11 +4,16 @@ package software.bluelib;
 
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.fabricmc.fabric.api.object.builder.v1.entity.FabricDefaultAttributeRegistry;
 import software.bluelib.example.entity.dragon.DragonEntity;
 import software.bluelib.example.entity.rex.RexEntity;
 import software.bluelib.example.event.ReloadHandler;
 import software.bluelib.example.init.ModEntities;
+import software.bluelib.network.VariantIdSyncPayload;
 
 /**
  * A {@code public class} that implements {@link ModInitializer} to initialize the BlueLib mod on the Fabric platform.
@@ -40,6 +45,9 @@ public class BlueLib implements ModInitializer {
     /**
      * A {@code public void} that registers a client tick event to initialize the BlueLib mod.
      * <p>
+     * It also registers the server lifecycle and player join listeners of {@link BlueLibCommon} and the variant ID payload.
+     * </p>
+     * <p>
      * This method checks if the mod is being run in developer mode and if the Geckolib mod is loaded. If both conditions
      * are met, it initializes the entities and registers the event listeners for the reload handler.
      * </p>
@@ -53,6 +61,11 @@ public class BlueLib implements ModInitializer {
      */
     @Override
     public void onInitialize() {
+        ServerLifecycleEvents.SERVER_STARTING.register(pServer -> BlueLibCommon.onServerStarting());
+        ServerLifecycleEvents.SERVER_STOPPED.register(pServer -> BlueLibCommon.onServerStopped());
+        CommonLifecycleEvents.TAGS_LOADED.register((pRegistries, pClient) -> BlueLibCommon.onTagsUpdated());
+        PayloadTypeRegistry.playS2C().register(VariantIdSyncPayload.TYPE, VariantIdSyncPayload.STREAM_CODEC);
+        ServerPlayConnectionEvents.JOIN.register((pHandler, pSender, pServer) -> BlueLibCommon.onPlayerLoggedIn(pHandler.getPlayer()));
         if (BlueLibCommon.isDeveloperMode() && BlueLibCommon.PLATFORM.isModLoaded("geckolib") && BlueLibConstants.isExampleEnabled) {
             ModEntities.initializeEntities();
             ReloadHandler.registerEventListeners();
@@ -41,7 +41,7 @@ public class DragonModel extends GeoModel<DragonEntity> {
      */
     @Override
     public ResourceLocation getTextureResource(DragonEntity pObject) {
-        return pObject.getTextureLocation(BlueLibConstants.MOD_ID, "textures/entity/" + pObject.entityName + "/" + pObject.getVariantName() + ".png");
+        return pObject.getVariantTextureLocation(BlueLibConstants.MOD_ID, pObject.entityName, pObject.getVariantName());
     }
 
     /**
@@ -41,7 +41,7 @@ public class RexModel extends GeoModel<RexEntity> {
      */
     @Override
     public ResourceLocation getTextureResource(RexEntity pObject) {
-        return pObject.getTextureLocation(BlueLibConstants.MOD_ID, "textures/entity/" + pObject.entityName + "/" + pObject.getVariantName() + ".png");
+        return pObject.getVariantTextureLocation(BlueLibConstants.MOD_ID, pObject.entityName, pObject.getVariantName());
     }
 
     /**
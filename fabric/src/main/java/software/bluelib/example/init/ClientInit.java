@@ -3,18 +3,20 @@
 package software.bluelib.example.init;
 
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.fabricmc.fabric.api.client.rendering.v1.EntityRendererRegistry;
 import software.bluelib.BlueLibCommon;
 import software.bluelib.BlueLibConstants;
 import software.bluelib.example.entity.dragon.DragonRender;
 import software.bluelib.example.entity.rex.RexRender;
+import software.bluelib.network.VariantIdSyncPayload;
 
 /**
  * A {@code public class} that extends {@link ClientModInitializer} and contains the events that are fired on the client side.
  * <p>
  * Key Methods:
  * <ul>
- *     <li>{@link #onInitializeClient()} - Registers the renderers for the entities.</li>
+ *     <li>{@link #onInitializeClient()} - Registers the receiver of the variant ID payload and the renderers for the entities.</li>
  * </ul>
  *
  * @author MeAlam
@@ -30,6 +32,7 @@ public class ClientInit implements ClientModInitializer {
      */
     @Override
     public void onInitializeClient() {
+        ClientPlayNetworking.registerGlobalReceiver(VariantIdSyncPayload.TYPE, (pPayload, pContext) -> VariantIdSyncPayload.handle(pPayload));
         if (BlueLibCommon.isDeveloperMode() && BlueLibCommon.PLATFORM.isModLoaded("geckolib") && BlueLibConstants.isExampleEnabled) {
             EntityRendererRegistry.register(ModEntities.EXAMPLE_ONE, DragonRender::new);
             EntityRendererRegistry.register(ModEntities.EXAMPLE_TWO, RexRender::new);
@@ -2,8 +2,13 @@
 
 package software.bluelib.platform;
 
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.server.level.ServerPlayer;
 import software.bluelib.interfaces.platform.IPlatformHelper;
+import software.bluelib.network.VariantIdSyncPayload;
+
+import java.nio.file.Path;
 
 /**
  * A {@code public class} that provides platform-specific implementation for Fabric.
@@ -18,6 +23,8 @@ import software.bluelib.interfaces.platform.IPlatformHelper;
  *   <li>{@link #getPlatformName()} - Returns the platform name for Fabric.</li>
  *   <li>{@link #isModLoaded(String)} - Checks if a mod is loaded using Fabric's mod loader.</li>
  *   <li>{@link #isDevelopmentEnvironment()} - Checks if Fabric is running in a development environment.</li>
+ *   <li>{@link #sendToPlayer(ServerPlayer, VariantIdSyncPayload)} - Sends the variant IDs to a player using Fabric's {@link ServerPlayNetworking}.</li>
+ *   <li>{@link #getGameDirectory()} - Returns the game directory.</li>
  * </ul>
  *
  * @author MeAlam
@@ -62,4 +69,29 @@ public class FabricPlatformHelper implements IPlatformHelper {
     public boolean isDevelopmentEnvironment() {
         return FabricLoader.getInstance().isDevelopmentEnvironment();
     }
+
+    /**
+     * A {@code public void} method that sends the variant IDs to a player using Fabric's {@link ServerPlayNetworking}.
+     *
+     * @param pPlayer  {@link ServerPlayer} - The player to send the payload to.
+     * @param pPayload {@link VariantIdSyncPayload} - The payload to send.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Override
+    public void sendToPlayer(ServerPlayer pPlayer, VariantIdSyncPayload pPayload) {
+        ServerPlayNetworking.send(pPlayer, pPayload);
+    }
+
+    /**
+     * A {@code public} {@link Path} method that returns the game directory using Fabric's mod loader.
+     *
+     * @return {@link Path} - The game directory.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Override
+    public Path getGameDirectory() {
+        return FabricLoader.getInstance().getGameDir();
+    }
 }
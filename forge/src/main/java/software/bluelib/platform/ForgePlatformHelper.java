@@ -2,9 +2,18 @@
 
 package software.bluelib.platform;
 
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.fml.ModList;
 import net.minecraftforge.fml.loading.FMLLoader;
+import net.minecraftforge.fml.loading.FMLPaths;
+import net.minecraftforge.network.ChannelBuilder;
+import net.minecraftforge.network.NetworkDirection;
+import net.minecraftforge.network.PacketDistributor;
+import net.minecraftforge.network.SimpleChannel;
 import software.bluelib.interfaces.platform.IPlatformHelper;
+import software.bluelib.network.VariantIdSyncPayload;
+
+import java.nio.file.Path;
 
 /**
  * A {@code public class} that provides platform-specific implementation for Forge.
@@ -19,6 +28,8 @@ import software.bluelib.interfaces.platform.IPlatformHelper;
  *   <li>{@link #getPlatformName()} - Returns the platform name for Forge.</li>
  *   <li>{@link #isModLoaded(String)} - Checks if a mod is loaded using Forge's {@link ModList}.</li>
  *   <li>{@link #isDevelopmentEnvironment()} - Checks if Forge is running in a development environment.</li>
+ *   <li>{@link #sendToPlayer(ServerPlayer, VariantIdSyncPayload)} - Sends the variant IDs to a player over the {@link #CHANNEL}.</li>
+ *   <li>{@link #getGameDirectory()} - Returns the game directory.</li>
  * </ul>
  *
  * @author MeAlam
@@ -26,6 +37,23 @@ import software.bluelib.interfaces.platform.IPlatformHelper;
  */
 public class ForgePlatformHelper implements IPlatformHelper {
 
+    /**
+     * A {@code public static final} {@link SimpleChannel} that carries the payloads of BlueLib.
+     * <p>
+     * It is built when this helper is loaded by {@code BlueLibCommon.PLATFORM}, which happens while the mod is constructed.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    public static final SimpleChannel CHANNEL = ChannelBuilder.named(VariantIdSyncPayload.TYPE.id())
+            .networkProtocolVersion(1)
+            .simpleChannel()
+            .messageBuilder(VariantIdSyncPayload.class, NetworkDirection.PLAY_TO_CLIENT)
+            .encoder((pPayload, pBuffer) -> VariantIdSyncPayload.STREAM_CODEC.encode(pBuffer, pPayload))
+            .decoder(VariantIdSyncPayload.STREAM_CODEC::decode)
+            .consumerMainThread((pPayload, pContext) -> VariantIdSyncPayload.handle(pPayload))
+            .add();
+
     /**
      * A {@code public} {@link String} method that returns the name of the current platform, which is "Forge" for this implementation.
      *
@@ -63,4 +91,29 @@ public class ForgePlatformHelper implements IPlatformHelper {
     public boolean isDevelopmentEnvironment() {
         return !FMLLoader.isProduction();
     }
+
+    /**
+     * A {@code public void} method that sends the variant IDs to a player over the {@link #CHANNEL}.
+     *
+     * @param pPlayer  {@link ServerPlayer} - The player to send the payload to.
+     * @param pPayload {@link VariantIdSyncPayload} - The payload to send.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Override
+    public void sendToPlayer(ServerPlayer pPlayer, VariantIdSyncPayload pPayload) {
+        CHANNEL.send(pPayload, PacketDistributor.PLAYER.with(pPlayer));
+    }
+
+    /**
+     * A {@code public} {@link Path} method that returns the game directory using Forge's {@link FMLPaths}.
+     *
+     * @return {@link Path} - The game directory.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Override
+    public Path getGameDirectory() {
+        return FMLPaths.GAMEDIR.get();
+    }
 }
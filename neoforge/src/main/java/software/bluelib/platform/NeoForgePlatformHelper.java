@@ -2,9 +2,15 @@
 
 package software.bluelib.platform;
 
+import net.minecraft.server.level.ServerPlayer;
 import net.neoforged.fml.ModList;
 import net.neoforged.fml.loading.FMLLoader;
+import net.neoforged.fml.loading.FMLPaths;
+import net.neoforged.neoforge.network.PacketDistributor;
 import software.bluelib.interfaces.platform.IPlatformHelper;
+import software.bluelib.network.VariantIdSyncPayload;
+
+import java.nio.file.Path;
 
 /**
  * A {@link NeoForgePlatformHelper} class that provides platform-specific implementation for NeoForge.
@@ -19,6 +25,8 @@ import software.bluelib.interfaces.platform.IPlatformHelper;
  *   <li>{@link #getPlatformName()} - Returns the platform name for NeoForge.</li>
  *   <li>{@link #isModLoaded(String)} - Checks if a mod is loaded using NeoForge's {@link ModList}.</li>
  *   <li>{@link #isDevelopmentEnvironment()} - Checks if NeoForge is running in a development environment.</li>
+ *   <li>{@link #sendToPlayer(ServerPlayer, VariantIdSyncPayload)} - Sends the variant IDs to a player using NeoForge's {@link PacketDistributor}.</li>
+ *   <li>{@link #getGameDirectory()} - Returns the game directory.</li>
  * </ul>
  *
  * @author MeAlam
@@ -63,4 +71,29 @@ public class NeoForgePlatformHelper implements IPlatformHelper {
     public boolean isDevelopmentEnvironment() {
         return !FMLLoader.isProduction();
     }
+
+    /**
+     * A {@code public void} method that sends the variant IDs to a player using NeoForge's {@link PacketDistributor}.
+     *
+     * @param pPlayer  {@link ServerPlayer} - The player to send the payload to.
+     * @param pPayload {@link VariantIdSyncPayload} - The payload to send.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Override
+    public void sendToPlayer(ServerPlayer pPlayer, VariantIdSyncPayload pPayload) {
+        PacketDistributor.sendToPlayer(pPlayer, pPayload);
+    }
+
+    /**
+     * A {@code public} {@link Path} method that returns the game directory using NeoForge's {@link FMLPaths}.
+     *
+     * @return {@link Path} - The game directory.
+     * @author MeAlam
+     * @since 1.0.0
+     */
+    @Override
+    public Path getGameDirectory() {
+        return FMLPaths.GAMEDIR.get();
+    }
 }